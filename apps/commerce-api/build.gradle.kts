@@ -17,6 +17,9 @@ dependencies {
     annotationProcessor("jakarta.persistence:jakarta.persistence-api")
     annotationProcessor("jakarta.annotation:jakarta.annotation-api")
 
+    // cache
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
     // feignClient
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign")
 
@@ -28,3 +31,24 @@ dependencies {
     testImplementation(testFixtures(project(":modules:jpa")))
     testImplementation(testFixtures(project(":modules:redis")))
 }
+
+// 벤치마크(@Tag("benchmark"))는 기본 테스트에서 빼고 ./gradlew :apps:commerce-api:benchmark 로 따로 돌린다
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+tasks.register<Test>("benchmark") {
+    description = "Runs benchmark tests."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    maxParallelForks = 1
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    systemProperty("user.timezone", "Asia/Seoul")
+    systemProperty("spring.profiles.active", "test")
+    jvmArgs("-Xshare:off")
+}
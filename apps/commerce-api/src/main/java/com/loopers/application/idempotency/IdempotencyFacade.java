@@ -0,0 +1,211 @@
+package com.loopers.application.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 로 같은 요청이 두 번 처리되지 않게 한다.
+ * 먼저 들어온 요청만 키를 차지해 처리하고 응답을 저장하며, 같은 키로 다시 오면 DB 를 거치지 않고 저장된 응답을 돌려준다.
+ * 처리에 실패했을 때는 오류 종류로 나눈다.
+ * - 4xx 비즈니스 오류(포인트 부족, 재고 부족 등)는 같은 요청을 다시 보내도 결과가 같고, 실패 전에 일부 처리가 이미 일어났을 수 있으므로
+ *   키를 지우지 않고 오류를 저장해 같은 키의 재시도에 같은 오류로 응답한다.
+ * - 그 밖의 오류(5xx, 409 충돌, CoreException 이 아닌 예외)는 일시적인 실패로 보고 키를 지워 같은 키로 다시 시도할 수 있게 한다.
+ * 키를 차지할 때 요청마다 owner 토큰을 발급하고, 연장/저장/해제는 owner 가 같을 때만 한다.
+ * 처리 중 기록이 만료된 뒤 다른 요청이 다시 차지한 키를 늦게 끝난 요청이 지우지 않게 하기 위해서다.
+ * 처리 중 기록은 action 이 끝날 때까지 processing-ttl 의 1/3 주기로 연장하므로, 느린 요청 도중 만료되어 재시도가 한 번 더 처리되지 않는다.
+ * 노드가 죽으면 연장이 멈춰 processing-ttl 뒤에 같은 키로 다시 시도할 수 있다.
+ * 키를 보낸 요청은 Redis 장애로 키를 확인하지 못하면 중복 처리(이중 결제)를 막기 위해 처리하지 않고 503 으로 거절한다.
+ */
+@Slf4j
+@Component
+public class IdempotencyFacade {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService claimRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-claim-renewer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${idempotency.ttl-seconds:86400}")
+    private long ttlSeconds;
+
+    @Value("${idempotency.processing-ttl-seconds:60}")
+    private long processingTtlSeconds;
+
+    @Autowired
+    public IdempotencyFacade(IdempotencyRepository idempotencyRepository, ObjectMapper objectMapper) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @PreDestroy
+    void stopClaimRenewer() {
+        claimRenewer.shutdownNow();
+    }
+
+    /**
+     * @param scope 키가 겹치지 않도록 API 별로 나누는 이름 (예: order, point-charge)
+     * @param idempotencyKey 없으면 매번 action 을 실행한다
+     * @param request 같은 키로 다른 요청을 보냈는지 확인하는 데 쓴다
+     */
+    public <T> T execute(String scope, String accountId, String idempotencyKey, Object request,
+                         Class<T> responseType, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+
+        String key = scope + ":" + accountId + ":" + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        String owner = UUID.randomUUID().toString();
+
+        boolean acquired;
+        try {
+            acquired = idempotencyRepository.tryAcquire(key, fingerprint, owner, Duration.ofSeconds(processingTtlSeconds));
+        } catch (Exception e) {
+            log.warn("멱등 키 확인 실패, 요청 거절 - scope: {}, 원인: {}", scope, e.getMessage());
+            throw new CoreException(ErrorType.SERVICE_UNAVAILABLE,
+                    "요청 중복 여부를 확인할 수 없습니다. 잠시 후 같은 Idempotency-Key 로 다시 시도해 주세요.");
+        }
+
+        if (!acquired) {
+            return replay(key, fingerprint, responseType);
+        }
+
+        T response;
+        ScheduledFuture<?> renewal = scheduleRenewal(key, owner);
+        try {
+            response = action.get();
+        } catch (CoreException e) {
+            renewal.cancel(false);
+            if (isReplayable(e.getErrorType())) {
+                saveFailure(key, owner, e);
+            } else {
+                release(key, owner);
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            renewal.cancel(false);
+            release(key, owner);
+            throw e;
+        }
+        renewal.cancel(false);
+
+        save(key, owner, response);
+        return response;
+    }
+
+    // 요청 자체 때문에 실패한 4xx 만 저장해 재생한다. 409 는 동시 요청 충돌처럼 다시 시도하면 달라질 수 있어 제외한다
+    private boolean isReplayable(ErrorType errorType) {
+        return errorType.getStatus().is4xxClientError() && errorType.getStatus() != HttpStatus.CONFLICT;
+    }
+
+    private ScheduledFuture<?> scheduleRenewal(String key, String owner) {
+        Duration processingTtl = Duration.ofSeconds(processingTtlSeconds);
+        long periodMillis = Math.max(1, processingTtl.toMillis() / 3);
+        return claimRenewer.scheduleAtFixedRate(() -> {
+            try {
+                idempotencyRepository.renew(key, owner, processingTtl);
+            } catch (Exception e) {
+                log.warn("멱등 키 처리 중 기록 연장 실패, 다음 주기에 재시도 - key: {}, 원인: {}", key, e.getMessage());
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private <T> T replay(String key, String fingerprint, Class<T> responseType) {
+        Optional<IdempotencyRepository.Record> record = idempotencyRepository.find(key);
+
+        // 차지한 요청이 방금 실패해 키가 지워진 경우도 처리 중으로 보고 다시 시도하게 한다
+        if (record.isEmpty()) {
+            throw processing();
+        }
+        if (!fingerprint.equals(record.get().fingerprint())) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "이미 다른 요청에 사용된 Idempotency-Key 입니다.");
+        }
+        if (!record.get().isCompleted()) {
+            throw processing();
+        }
+        if (record.get().isFailed()) {
+            throw new CoreException(ErrorType.valueOf(record.get().errorType()), record.get().errorMessage());
+        }
+
+        try {
+            return objectMapper.readValue(record.get().response(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "저장된 응답을 읽을 수 없습니다.");
+        }
+    }
+
+    private CoreException processing() {
+        return new CoreException(ErrorType.CONFLICT, "같은 Idempotency-Key 의 요청을 처리하고 있습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    // 처리는 이미 끝났으므로 저장에 실패해도 응답은 그대로 돌려준다
+    private void save(String key, String owner, Object response) {
+        try {
+            boolean saved = idempotencyRepository.complete(
+                    key, owner, objectMapper.writeValueAsString(response), Duration.ofSeconds(ttlSeconds));
+            if (!saved) {
+                log.warn("멱등 응답 저장 안 됨, 처리 중 기록이 이미 없어 같은 키의 재시도가 다시 처리될 수 있음 - key: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("멱등 응답 저장 실패, 처리 중 기록은 만료 후 사라짐 - key: {}, 원인: {}", key, e.getMessage());
+        }
+    }
+
+    private void saveFailure(String key, String owner, CoreException exception) {
+        try {
+            boolean saved = idempotencyRepository.fail(
+                    key, owner, exception.getErrorType().name(), exception.getMessage(), Duration.ofSeconds(ttlSeconds));
+            if (!saved) {
+                log.warn("멱등 실패 응답 저장 안 됨, 처리 중 기록이 이미 없어 같은 키의 재시도가 다시 처리될 수 있음 - key: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("멱등 실패 응답 저장 실패, 처리 중 기록은 만료 후 사라짐 - key: {}, 원인: {}", key, e.getMessage());
+        }
+    }
+
+    private void release(String key, String owner) {
+        try {
+            idempotencyRepository.release(key, owner);
+        } catch (Exception e) {
+            log.warn("멱등 키 해제 실패, 만료 후 다시 시도 가능 - key: {}, 원인: {}", key, e.getMessage());
+        }
+    }
+
+    // 카드 번호 같은 요청 본문을 그대로 남기지 않도록 해시만 보관한다
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "요청 지문을 만들 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.application.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key 별 처리 기록 저장소. 키마다 요청 지문과, 처리가 끝났으면 응답이나 실패 오류를 보관한다.
+ * 처리 중 기록을 바꾸는 연장/저장/해제는 키를 차지할 때 받은 owner 가 같을 때만 한다.
+ * 만료 뒤 다른 요청이 다시 차지한 기록을 늦게 끝난 이전 요청이 지우거나 덮어쓰지 않게 하기 위해서다.
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * 키가 없을 때만 처리 중 기록을 만든다.
+     *
+     * @return 이번 요청이 키를 차지했으면 true
+     */
+    boolean tryAcquire(String key, String fingerprint, String owner, Duration processingTtl);
+
+    Optional<Record> find(String key);
+
+    /**
+     * owner 가 차지한 처리 중 기록이면 만료 시간을 다시 건다. 처리가 끝났거나 키가 지워졌으면 아무것도 하지 않는다.
+     *
+     * @return 연장했으면 true
+     */
+    boolean renew(String key, String owner, Duration processingTtl);
+
+    /**
+     * @return 응답을 저장했으면 true. 처리 중 기록이 만료되었거나 다른 요청이 차지했으면 저장하지 않고 false
+     */
+    boolean complete(String key, String owner, String response, Duration ttl);
+
+    /**
+     * 같은 키로 다시 와도 같은 오류로 응답하도록 처리 실패를 저장한다.
+     *
+     * @return 저장했으면 true. 처리 중 기록이 만료되었거나 다른 요청이 차지했으면 저장하지 않고 false
+     */
+    boolean fail(String key, String owner, String errorType, String errorMessage, Duration ttl);
+
+    /**
+     * owner 가 차지한 처리 중 기록일 때만 지운다.
+     *
+     * @return 지웠으면 true
+     */
+    boolean release(String key, String owner);
+
+    /**
+     * @param response 성공한 처리의 응답. 처리 중이거나 실패했으면 null
+     * @param errorType 실패한 처리의 ErrorType 이름. 처리 중이거나 성공했으면 null
+     */
+    record Record(String fingerprint, String response, String errorType, String errorMessage) {
+
+        public static Record processing(String fingerprint) {
+            return new Record(fingerprint, null, null, null);
+        }
+
+        public static Record completed(String fingerprint, String response) {
+            return new Record(fingerprint, response, null, null);
+        }
+
+        public static Record failed(String fingerprint, String errorType, String errorMessage) {
+            return new Record(fingerprint, null, errorType, errorMessage);
+        }
+
+        public boolean isCompleted() {
+            return response != null || isFailed();
+        }
+
+        public boolean isFailed() {
+            return errorType != null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis(buffered) 또는 샤드 카운터(sharded)에 누적된 좋아요 증감을 주기적으로 product.like_count 에 반영한다.
+ * 쓰기 모드를 바꿔도 남은 누적값이 반영되도록 모드와 상관없이 동작한다.
+ */
+@Component
+@Slf4j
+public class LikeCountFlushScheduler {
+
+    // 샤드 갱신 시각은 DB 시계 기준이므로 노드와의 시각 차이를 감안해 조금 겹쳐서 조회한다
+    private static final Duration SHARD_ROLLUP_OVERLAP = Duration.ofMinutes(1);
+
+    private final ProductLikeCountBuffer likeCountBuffer;
+    private final ProductService productService;
+
+    private ZonedDateTime lastShardRollupStartedAt = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+    @Value("${like-count.flush-batch-size:500}")
+    private int flushBatchSize;
+
+    @Autowired
+    public LikeCountFlushScheduler(ProductLikeCountBuffer likeCountBuffer, ProductService productService) {
+        this.likeCountBuffer = likeCountBuffer;
+        this.productService = productService;
+    }
+
+    @Scheduled(fixedDelayString = "${like-count.flush-interval-millis:2000}")
+    public void flush() {
+        Map<Long, Integer> deltas;
+        try {
+            deltas = likeCountBuffer.drain(flushBatchSize);
+        } catch (Exception e) {
+            log.warn("좋아요 수 누적값 조회 실패 - 원인: {}", e.getMessage());
+            return;
+        }
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            productService.applyLikeCountDeltas(deltas);
+            log.debug("좋아요 수 일괄 반영 완료 - 상품 수: {}", deltas.size());
+        } catch (Exception e) {
+            log.error("좋아요 수 일괄 반영 실패, 누적값 복구 - 상품 수: {}", deltas.size(), e);
+            likeCountBuffer.restore(deltas);
+            return;
+        }
+
+        likeCountBuffer.complete(deltas);
+    }
+
+    /**
+     * 최근 갱신된 샤드가 있는 상품만 골라 상품 단위 트랜잭션으로 합산한다.
+     * 이미 합산된 상품이 다시 잡혀도 누적값이 0 이라 결과는 같다.
+     */
+    @Scheduled(fixedDelayString = "${like-count.flush-interval-millis:2000}")
+    public void rollUpShards() {
+        ZonedDateTime startedAt = ZonedDateTime.now(ZoneOffset.UTC);
+
+        List<Long> productIds;
+        try {
+            productIds = productService.findProductIdsWithLikeCounterUpdatedSince(
+                    lastShardRollupStartedAt.minus(SHARD_ROLLUP_OVERLAP));
+        } catch (Exception e) {
+            log.warn("좋아요 샤드 갱신 상품 조회 실패 - 원인: {}", e.getMessage());
+            return;
+        }
+
+        boolean allSucceeded = true;
+        for (Long productId : productIds) {
+            try {
+                productService.rollUpLikeCounterShards(productId);
+            } catch (Exception e) {
+                allSucceeded = false;
+                log.error("좋아요 샤드 합산 실패 - productId: {}", productId, e);
+            }
+        }
+
+        // 실패한 상품이 있으면 다음 주기에 같은 구간을 다시 조회한다
+        if (allSucceeded) {
+            lastShardRollupStartedAt = startedAt;
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+        rollUpShards();
+    }
+}
@@ -3,7 +3,6 @@ package com.loopers.application.like;
 import com.loopers.application.like.event.LikeCancelledEvent;
 import com.loopers.application.like.event.LikeCreatedEvent;
 import com.loopers.domain.like.*;
-import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,43 +29,43 @@ public class LikeFacade {
 
     @Transactional
     public void createLike(LikeCommand.Create command) {
-        User user = userService.findByAccountId(command.accountId());
+        Long userId = userService.findIdByAccountId(command.accountId());
 
         Target target = createTarget(command.targetType(), command.targetId());
 
-        boolean isCreated = likeService.createLike(user, target);
+        boolean isCreated = likeService.createLike(userId, target);
         
         if (isCreated) {
             LikeCreatedEvent event = LikeCreatedEvent.of(
-                    user.getId(),
+                    userId,
                     command.targetType(),
                     command.targetId()
             );
             eventPublisher.publishEvent(event);
             
             log.info("좋아요 생성 이벤트 발행 - userId: {}, targetType: {}, targetId: {}, correlationId: {}",
-                    user.getId(), command.targetType(), command.targetId(), event.getCorrelationId());
+                    userId, command.targetType(), command.targetId(), event.getCorrelationId());
         }
     }
 
     @Transactional
     public void cancelLike(LikeCommand.Create command) {
-        User user = userService.findByAccountId(command.accountId());
+        Long userId = userService.findIdByAccountId(command.accountId());
 
         Target target = createTarget(command.targetType(), command.targetId());
 
-        boolean isCancelled = likeService.cancelLike(user, target);
+        boolean isCancelled = likeService.cancelLike(userId, target);
         
         if (isCancelled) {
             LikeCancelledEvent event = LikeCancelledEvent.of(
-                    user.getId(),
+                    userId,
                     command.targetType(),
                     command.targetId()
             );
             eventPublisher.publishEvent(event);
             
             log.info("좋아요 취소 이벤트 발행 - userId: {}, targetType: {}, targetId: {}, correlationId: {}",
-                    user.getId(), command.targetType(), command.targetId(), event.getCorrelationId());
+                    userId, command.targetType(), command.targetId(), event.getCorrelationId());
         }
     }
 
@@ -0,0 +1,131 @@
+package com.loopers.application.like;
+
+import com.loopers.application.like.LikedProductCacheRepository.LikedProducts;
+import com.loopers.application.product.ProductQuery;
+import com.loopers.application.product.ProductQueryRepository;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.TargetType;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Component
+public class LikeQuery {
+
+    private static final int MAX_LIKED_PAGE_SIZE = 100;
+
+    private final UserService userService;
+    private final LikeService likeService;
+    private final LikedProductCacheRepository likedProductCacheRepository;
+    private final ProductQueryRepository productQueryRepository;
+    private final ProductLikeCountBuffer likeCountBuffer;
+
+    // 이보다 좋아요가 많은 사용자는 집합을 캐시하지 않고 페이지마다 IN 조회 한 번으로 처리한다
+    @Value("${like.liked-cache.max-size:5000}")
+    private int likedCacheMaxSize;
+
+    @Autowired
+    public LikeQuery(UserService userService,
+                     LikeService likeService,
+                     LikedProductCacheRepository likedProductCacheRepository,
+                     ProductQueryRepository productQueryRepository,
+                     ProductLikeCountBuffer likeCountBuffer) {
+        this.userService = userService;
+        this.likeService = likeService;
+        this.likedProductCacheRepository = likedProductCacheRepository;
+        this.productQueryRepository = productQueryRepository;
+        this.likeCountBuffer = likeCountBuffer;
+    }
+
+    /**
+     * 사용자가 좋아요한 상품을 최근 좋아요 순으로 커서 페이징한다.
+     * 이전 응답의 nextCursor(마지막 좋아요 ID)를 넘기면 그 이후부터 조회한다.
+     */
+    public LikedProductListResult getLikedProducts(String accountId, Long cursor, int size) {
+        if (size < 1 || size > MAX_LIKED_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                    "페이지 크기는 1~" + MAX_LIKED_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        Long userId = userService.findIdByAccountId(accountId);
+
+        ProductQueryRepository.LikedProductSliceData slice =
+                productQueryRepository.findLikedProducts(userId, cursor, size);
+
+        Map<Long, Long> pendingLikeCounts = likeCountBuffer.getPendingDeltas(
+                slice.content().stream().map(ProductQueryRepository.ProductQueryData::id).toList()
+        );
+        List<ProductQuery.ProductQueryResult> products = slice.content().stream()
+                .map(ProductQuery.ProductQueryResult::from)
+                .map(product -> product.withLikeCountDelta(pendingLikeCounts.get(product.id())))
+                .map(product -> product.withLiked(true))
+                .toList();
+
+        return new LikedProductListResult(products, slice.nextCursor(), slice.hasNext(), size);
+    }
+
+    /**
+     * 주어진 상품 중 사용자가 좋아요한 상품 ID 를 조회한다.
+     * 캐시가 있으면 Redis 한 번, 없으면 DB 한 번(적재 또는 IN 조회)으로 페이지 전체를 처리한다.
+     * 공개 목록에서 호출되므로 없는 사용자면 비로그인 사용자처럼 빈 집합을 돌려준다.
+     */
+    public Set<Long> findLikedProductIds(String accountId, List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Optional<Long> foundUserId = userService.findOptionalIdByAccountId(accountId);
+        if (foundUserId.isEmpty()) {
+            log.debug("존재하지 않는 사용자의 좋아요 여부 조회, 비로그인으로 처리 - accountId: {}", accountId);
+            return Set.of();
+        }
+        Long userId = foundUserId.get();
+
+        LikedProducts cached = likedProductCacheRepository.findLikedProducts(userId, productIds);
+        return switch (cached.state()) {
+            case LOADED -> cached.likedProductIds();
+            case OVERFLOW -> likeService.findLikedTargetIds(userId, TargetType.PRODUCT, productIds);
+            case MISSING -> loadLikedProductIds(userId, productIds);
+        };
+    }
+
+    private Set<Long> loadLikedProductIds(Long userId, List<Long> productIds) {
+        // 토큰을 DB 조회보다 먼저 남겨야 조회와 저장 사이에 커밋된 좋아요 변경이 이 적재를 무효로 만든다
+        Optional<String> loadToken = likedProductCacheRepository.beginLoad(userId);
+        List<Long> likedProductIds = likeService.findTargetIds(userId, TargetType.PRODUCT, likedCacheMaxSize + 1);
+
+        if (likedProductIds.size() > likedCacheMaxSize) {
+            log.info("좋아요 상품 수가 캐시 한도를 넘어 IN 조회로 처리 - userId: {}, limit: {}", userId, likedCacheMaxSize);
+            likedProductCacheRepository.markOverflow(userId);
+            return likeService.findLikedTargetIds(userId, TargetType.PRODUCT, productIds);
+        }
+
+        loadToken.ifPresent(token -> {
+            if (!likedProductCacheRepository.saveLikedProducts(userId, token, likedProductIds)) {
+                log.debug("적재 중 좋아요 변경이 있어 좋아요 상품 캐시 저장 생략 - userId: {}", userId);
+            }
+        });
+
+        Set<Long> liked = new HashSet<>(likedProductIds);
+        liked.retainAll(productIds);
+        return liked;
+    }
+
+    public record LikedProductListResult(
+            List<ProductQuery.ProductQueryResult> products,
+            Long nextCursor,
+            boolean hasNext,
+            int pageSize
+    ) {}
+}
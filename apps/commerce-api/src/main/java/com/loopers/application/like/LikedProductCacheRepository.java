@@ -0,0 +1,54 @@
+package com.loopers.application.like;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 상품 ID 집합 캐시.
+ * 좋아요가 너무 많은 사용자는 전체를 담지 않고 개수 초과 표식만 남긴다.
+ * 적재는 beginLoad → DB 조회 → saveLikedProducts 순으로 하며, 그 사이 좋아요 변경이 있으면 적재를 버린다.
+ */
+public interface LikedProductCacheRepository {
+
+    /**
+     * 적재 여부와 함께 주어진 상품 중 좋아요한 상품 ID 를 SMISMEMBER 한 번으로 조회한다.
+     */
+    LikedProducts findLikedProducts(Long userId, List<Long> productIds);
+
+    /**
+     * DB 조회 전에 호출해 적재 토큰을 남긴다. 적재 전 좋아요 변경은 토큰을 지워 이 적재를 무효로 만든다.
+     * @return Redis 장애로 토큰을 남기지 못하면 empty (캐시하지 않는다)
+     */
+    Optional<String> beginLoad(Long userId);
+
+    /**
+     * beginLoad 이후 좋아요 변경이 없었을 때만 저장한다.
+     * @return 저장했으면 true, 그 사이 변경이 있어 버렸으면 false
+     */
+    boolean saveLikedProducts(Long userId, String loadToken, List<Long> likedProductIds);
+
+    void markOverflow(Long userId);
+
+    /**
+     * 전체 집합이 적재된 경우에만 반영한다. 적재 전이면 진행 중인 적재를 무효로 만들고, 다음 적재 때 DB 에서 읽힌다.
+     */
+    void addIfLoaded(Long userId, Long productId);
+
+    void removeIfLoaded(Long userId, Long productId);
+
+    enum State {
+        LOADED,     // 전체 집합이 캐시에 있음
+        OVERFLOW,   // 좋아요가 너무 많아 캐시하지 않음
+        MISSING     // 캐시 없음
+    }
+
+    record LikedProducts(
+        State state,
+        Set<Long> likedProductIds
+    ) {
+        public static LikedProducts missing() {
+            return new LikedProducts(State.MISSING, Set.of());
+        }
+    }
+}
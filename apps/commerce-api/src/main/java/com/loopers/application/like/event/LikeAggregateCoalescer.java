@@ -0,0 +1,126 @@
+package com.loopers.application.like.event;
+
+import com.loopers.application.product.ProductQuery;
+import com.loopers.domain.product.ProductService;
+import com.loopers.infrastructure.kafka.KafkaEventPublisher;
+import com.loopers.infrastructure.kafka.event.LikeChangedKafkaEvent;
+import com.loopers.support.error.CoreException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 좋아요 집계 이벤트를 상품별로 짧은 구간 동안 모아 순증감 한 번으로 처리한다.
+ * 인기 상품에 좋아요가 몰려도 구간마다 상품당 갱신 1회, 캐시 반영 1회, Kafka 메시지 1건만 발생한다.
+ * 구간은 window-millis 가 지나거나 모인 이벤트가 max-events 에 도달하면 닫힌다.
+ * <p>
+ * 모인 증감은 메모리에만 있으므로 정상 종료 시에는 반영하지만, 노드가 비정상 종료되면 닫히지 않은 구간
+ * (최대 window-millis 또는 max-events 건)의 증감을 잃고 이를 다시 맞추는 작업은 없다.
+ * 그래서 기본값은 꺼져 있으며, 유실보다 상품 행 경합이 더 문제인 경우에만 켠다.
+ * 이미 Redis 에 누적하는 buffered/sharded 모드에서는 켜지 않아도 상품 행 갱신이 모인다.
+ */
+@Slf4j
+@Component
+public class LikeAggregateCoalescer {
+
+    private final ProductService productService;
+    private final ProductQuery productQuery;
+    private final KafkaEventPublisher kafkaEventPublisher;
+
+    private final Map<Long, Integer> pendingDeltas = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEventCount = new AtomicInteger();
+
+    @Value("${like-aggregate.coalesce.max-events:1000}")
+    private int maxEvents;
+
+    @Autowired
+    public LikeAggregateCoalescer(ProductService productService,
+                                  ProductQuery productQuery,
+                                  KafkaEventPublisher kafkaEventPublisher) {
+        this.productService = productService;
+        this.productQuery = productQuery;
+        this.kafkaEventPublisher = kafkaEventPublisher;
+    }
+
+    public void add(Long productId, int delta) {
+        pendingDeltas.merge(productId, delta, Integer::sum);
+
+        if (pendingEventCount.incrementAndGet() >= maxEvents) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${like-aggregate.coalesce.window-millis:200}")
+    public synchronized void flush() {
+        pendingEventCount.set(0);
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        // 키 단위로 꺼내므로 꺼내는 도중 들어온 증감은 다음 구간으로 넘어간다
+        for (Long productId : new ArrayList<>(pendingDeltas.keySet())) {
+            Integer delta = pendingDeltas.remove(productId);
+            if (delta == null || delta == 0) {
+                continue;
+            }
+            apply(productId, delta);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void apply(Long productId, int delta) {
+        try {
+            productService.addLikeCount(productId, delta);
+        } catch (CoreException e) {
+            log.warn("좋아요 순증감 반영 대상 상품 없음, 폐기 - productId: {}, delta: {}", productId, delta);
+            return;
+        } catch (Exception e) {
+            log.error("좋아요 순증감 반영 실패, 다음 구간에 재시도 - productId: {}, delta: {}", productId, delta, e);
+            pendingDeltas.merge(productId, delta, Integer::sum);
+            return;
+        }
+
+        // 상세 캐시는 좋아요 수만 제자리에서 갱신하고, 좋아요 순 정렬이 바뀌는 목록 캐시는 무효화한다
+        productQuery.applyProductLikeCountDelta(productId, delta);
+        productQuery.evictProductListCache(productId);
+
+        publishLikeChangedToKafka(productId, delta);
+    }
+
+    private void publishLikeChangedToKafka(Long productId, int delta) {
+        try {
+            // 여러 사용자의 증감을 합친 메시지이므로 userId 는 비운다
+            LikeChangedKafkaEvent kafkaEvent = LikeChangedKafkaEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .aggregateId(productId)
+                    .occurredAt(ZonedDateTime.now())
+                    .productId(productId)
+                    .action(delta > 0 ? "CREATED" : "CANCELLED")
+                    .deltaCount(delta)
+                    .build();
+
+            kafkaEventPublisher.publishLikeChangedEvent(kafkaEvent);
+
+            log.debug("좋아요 순증감 Kafka 이벤트 발행 요청 - eventId: {}, productId: {}, deltaCount: {}",
+                    kafkaEvent.getEventId(), productId, delta);
+
+        } catch (Exception e) {
+            log.error("좋아요 순증감 Kafka 이벤트 발행 실패 - productId: {}, deltaCount: {}", productId, delta, e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.loopers.infrastructure.kafka.KafkaEventPublisher;
 import com.loopers.infrastructure.kafka.event.LikeChangedKafkaEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
@@ -24,14 +25,20 @@ public class LikeAggregateListener {
     private final ProductService productService;
     private final ProductQuery productQuery;
     private final KafkaEventPublisher kafkaEventPublisher;
+    private final LikeAggregateCoalescer likeAggregateCoalescer;
+
+    @Value("${like-aggregate.coalesce.enabled:false}")
+    private boolean coalesceEnabled;
 
     @Autowired
     public LikeAggregateListener(ProductService productService, 
                                 ProductQuery productQuery,
-                                KafkaEventPublisher kafkaEventPublisher) {
+                                KafkaEventPublisher kafkaEventPublisher,
+                                LikeAggregateCoalescer likeAggregateCoalescer) {
         this.productService = productService;
         this.productQuery = productQuery;
         this.kafkaEventPublisher = kafkaEventPublisher;
+        this.likeAggregateCoalescer = likeAggregateCoalescer;
     }
 
     @Async
@@ -41,9 +48,14 @@ public class LikeAggregateListener {
         log.info("좋아요 생성 이벤트 수신 - userId: {}, targetType: {}, targetId: {}, correlationId: {}",
                 event.getUserId(), event.getTargetType(), event.getTargetId(), event.getCorrelationId());
 
+        if (coalesceEnabled && event.getTargetType() == TargetType.PRODUCT) {
+            likeAggregateCoalescer.add(event.getTargetId(), 1);
+            return;
+        }
+
         try {
             increaseLikeCountByTargetType(event.getTargetType(), event.getTargetId());
-            evictCacheByTargetType(event.getTargetType(), event.getTargetId());
+            refreshCacheByTargetType(event.getTargetType(), event.getTargetId(), 1);
             
             if (event.getTargetType() == TargetType.PRODUCT) {
                 publishLikeChangedToKafka(event, "CREATED", 1);
@@ -65,9 +77,14 @@ public class LikeAggregateListener {
         log.info("좋아요 취소 이벤트 수신 - userId: {}, targetType: {}, targetId: {}, correlationId: {}",
                 event.getUserId(), event.getTargetType(), event.getTargetId(), event.getCorrelationId());
 
+        if (coalesceEnabled && event.getTargetType() == TargetType.PRODUCT) {
+            likeAggregateCoalescer.add(event.getTargetId(), -1);
+            return;
+        }
+
         try {
             decreaseLikeCountByTargetType(event.getTargetType(), event.getTargetId());
-            evictCacheByTargetType(event.getTargetType(), event.getTargetId());
+            refreshCacheByTargetType(event.getTargetType(), event.getTargetId(), -1);
             
             if (event.getTargetType() == TargetType.PRODUCT) {
                 publishLikeChangedToKafka(event, "CANCELLED", -1);
@@ -94,9 +111,13 @@ public class LikeAggregateListener {
         }
     }
 
-    private void evictCacheByTargetType(TargetType targetType, Long targetId) {
+    // 상세 캐시는 좋아요 수만 제자리에서 갱신하고, 좋아요 순 정렬이 바뀌는 목록 캐시는 무효화한다
+    private void refreshCacheByTargetType(TargetType targetType, Long targetId, int delta) {
         switch (targetType) {
-            case PRODUCT -> productQuery.evictProductDetailCache(targetId);
+            case PRODUCT -> {
+                productQuery.applyProductLikeCountDelta(targetId, delta);
+                productQuery.evictProductListCache(targetId);
+            }
         }
     }
 
@@ -0,0 +1,39 @@
+package com.loopers.application.like.event;
+
+import com.loopers.application.like.LikedProductCacheRepository;
+import com.loopers.domain.like.TargetType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요 변경을 사용자별 좋아요 상품 캐시에 반영한다.
+ * 좋아요 직후 목록 조회에 바로 보이도록 비동기가 아닌 커밋 직후 동기로 처리한다.
+ */
+@Slf4j
+@Component
+public class LikedProductCacheListener {
+
+    private final LikedProductCacheRepository likedProductCacheRepository;
+
+    @Autowired
+    public LikedProductCacheListener(LikedProductCacheRepository likedProductCacheRepository) {
+        this.likedProductCacheRepository = likedProductCacheRepository;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLikeCreated(LikeCreatedEvent event) {
+        if (event.getTargetType() == TargetType.PRODUCT) {
+            likedProductCacheRepository.addIfLoaded(event.getUserId(), event.getTargetId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLikeCancelled(LikeCancelledEvent event) {
+        if (event.getTargetType() == TargetType.PRODUCT) {
+            likedProductCacheRepository.removeIfLoaded(event.getUserId(), event.getTargetId());
+        }
+    }
+}
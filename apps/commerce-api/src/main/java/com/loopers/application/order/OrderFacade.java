@@ -6,8 +6,9 @@ import com.loopers.domain.order.Order;
 import com.loopers.domain.order.OrderCommand;
 import com.loopers.domain.order.OrderItems;
 import com.loopers.domain.order.OrderService;
-import com.loopers.domain.product.Product;
+import com.loopers.domain.product.Products;
 import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.StockGate;
 import com.loopers.domain.product.StockReservationService;
 import com.loopers.domain.user.User;
 import com.loopers.domain.user.UserService;
@@ -17,9 +18,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -31,31 +36,66 @@ public class OrderFacade {
     private final StockReservationService stockReservationService;
     private final CouponService couponService;
     private final ApplicationEventPublisher eventPublisher;
+    private final StockGate stockGate;
+    private final TransactionTemplate transactionTemplate;
 
     @Autowired
     public OrderFacade(OrderService orderService, UserService userService,
                        ProductService productService,
                        StockReservationService stockReservationService,
                        CouponService couponService,
-                       ApplicationEventPublisher eventPublisher) {
+                       ApplicationEventPublisher eventPublisher,
+                       StockGate stockGate,
+                       PlatformTransactionManager transactionManager) {
         this.orderService = orderService;
         this.userService = userService;
         this.productService = productService;
         this.stockReservationService = stockReservationService;
         this.couponService = couponService;
         this.eventPublisher = eventPublisher;
+        this.stockGate = stockGate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @Transactional
+    /**
+     * 재고 게이트를 트랜잭션 밖에서 먼저 통과시킨다. 재고가 모자란 주문은 DB 커넥션과 상품 행 잠금을 잡지 않고 거절되며,
+     * 게이트를 통과한 뒤 주문 트랜잭션이 커밋되지 않으면 게이트에서 차감한 수량을 되돌린다.
+     * 접수 워커처럼 바깥 트랜잭션에 합류한 경우에는 바깥 트랜잭션이 끝날 때 판단한다.
+     */
     public OrderInfo createOrder(String accountId, OrderCommand.Create command) {
         log.info("주문 생성 시작 - accountId: {}, items: {}", accountId, command.items().size());
-        
+
+        Map<Long, Integer> quantities = command.items().stream()
+                .collect(Collectors.toMap(
+                        OrderCommand.CreateItem::productId,
+                        OrderCommand.CreateItem::quantity,
+                        Integer::sum
+                ));
+        boolean gateReserved = stockGate.reserve(quantities);
+
+        try {
+            return transactionTemplate.execute(status -> {
+                if (gateReserved) {
+                    stockGate.releaseOnRollback(quantities);
+                }
+                return placeOrder(accountId, command);
+            });
+        } catch (CannotCreateTransactionException e) {
+            // 트랜잭션을 열지 못해 되돌림을 등록하지 못했다
+            if (gateReserved) {
+                stockGate.release(quantities);
+            }
+            throw e;
+        }
+    }
+
+    private OrderInfo placeOrder(String accountId, OrderCommand.Create command) {
         User user = userService.findByAccountId(accountId);
 
         List<Long> productIds = command.items().stream()
                 .map(OrderCommand.CreateItem::productId)
                 .toList();
-        List<Product> products = productService.findProductsByIds(productIds);
+        Products products = productService.findProductsByIds(productIds);
 
         OrderItems orderItems = OrderItems.create(command.items(), products);
         
@@ -86,6 +126,4 @@ public class OrderFacade {
         
         return OrderInfo.from(order);
     }
-    
-
 }
@@ -0,0 +1,16 @@
+package com.loopers.application.order;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 접수 주문의 카드 번호를 토큰별로 짧게 보관한다. 카드 번호는 DB 접수 행에 저장하지 않는다.
+ */
+public interface OrderIntakeCardRepository {
+
+    void save(String token, String cardNo, Duration ttl);
+
+    Optional<String> find(String token);
+
+    void delete(String token);
+}
@@ -0,0 +1,129 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.order.OrderIntake;
+import com.loopers.domain.order.OrderIntakeRepository;
+import com.loopers.domain.order.OrderItems;
+import com.loopers.domain.payment.PaymentDetails;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.Products;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 주문을 비동기로 접수한다. 요청 스레드는 접수 행 하나만 저장하고 토큰을 돌려주며,
+ * 실제 주문 생성은 OrderIntakeWorker 가 처리한다. 처리 상태는 Redis 에서 조회한다.
+ * 사용자/상품 존재 여부처럼 바로 알 수 있는 오류는 접수 전에 확인해, 나중에 실패로 끝날 요청을 받지 않는다.
+ * 재고는 처리 시점에 잠금으로 판정한다.
+ */
+@Slf4j
+@Component
+public class OrderIntakeFacade {
+
+    private final OrderIntakeRepository orderIntakeRepository;
+    private final OrderIntakeStatusCacheRepository statusCacheRepository;
+    private final OrderIntakeCardRepository cardRepository;
+    private final UserService userService;
+    private final ProductService productService;
+
+    @Value("${order-intake.status-ttl-seconds:3600}")
+    private long statusTtlSeconds;
+
+    @Value("${order-intake.card-ttl-seconds:600}")
+    private long cardTtlSeconds;
+
+    @Autowired
+    public OrderIntakeFacade(OrderIntakeRepository orderIntakeRepository,
+                             OrderIntakeStatusCacheRepository statusCacheRepository,
+                             OrderIntakeCardRepository cardRepository,
+                             UserService userService,
+                             ProductService productService) {
+        this.orderIntakeRepository = orderIntakeRepository;
+        this.statusCacheRepository = statusCacheRepository;
+        this.cardRepository = cardRepository;
+        this.userService = userService;
+        this.productService = productService;
+    }
+
+    public OrderIntakeInfo enqueue(String accountId, OrderCommand.Create command) {
+        // 주문 항목이 비었거나 수량이 0 이하인 요청은 OrderCommand 생성 시 이미 거절된다
+        userService.findIdByAccountId(accountId);
+        Products products = productService.findProductsByIds(command.items().stream()
+                .map(OrderCommand.CreateItem::productId)
+                .toList());
+        OrderItems.create(command.items(), products);
+
+        String token = UUID.randomUUID().toString();
+        if (command.paymentDetails() instanceof PaymentDetails.Card card) {
+            saveCard(token, card.cardNo());
+        }
+
+        OrderIntake orderIntake = orderIntakeRepository.save(OrderIntake.create(token, accountId, command));
+
+        OrderIntakeInfo info = OrderIntakeInfo.from(orderIntake);
+        cacheStatus(info);
+
+        log.info("주문 접수 - accountId: {}, token: {}, items: {}", accountId, info.token(), command.items().size());
+        return info;
+    }
+
+    /**
+     * Redis 에 없을 때만(만료, 장애) DB 에서 읽고 다시 적재한다.
+     * 다른 사용자의 접수 건이면 토큰이 있는지도 알 수 없도록 없는 경우와 같이 NOT_FOUND 로 응답한다.
+     */
+    public OrderIntakeInfo getStatus(String accountId, String token) {
+        OrderIntakeInfo info = findStatus(token);
+        if (!info.accountId().equals(accountId)) {
+            throw notFound();
+        }
+        return info;
+    }
+
+    private OrderIntakeInfo findStatus(String token) {
+        try {
+            Optional<OrderIntakeInfo> cached = statusCacheRepository.find(token);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        } catch (Exception e) {
+            log.warn("주문 접수 상태 캐시 조회 실패, DB 조회 - token: {}, 원인: {}", token, e.getMessage());
+        }
+
+        OrderIntakeInfo info = orderIntakeRepository.findByToken(token)
+                .map(OrderIntakeInfo::from)
+                .orElseThrow(this::notFound);
+        cacheStatus(info);
+        return info;
+    }
+
+    // 카드 번호를 보관하지 못하면 처리할 수 없는 접수가 되므로 받지 않는다
+    private void saveCard(String token, String cardNo) {
+        try {
+            cardRepository.save(token, cardNo, Duration.ofSeconds(cardTtlSeconds));
+        } catch (Exception e) {
+            log.warn("주문 접수 카드 정보 저장 실패 - token: {}, 원인: {}", token, e.getMessage());
+            throw new CoreException(ErrorType.SERVICE_UNAVAILABLE, "지금은 카드 결제 주문을 접수할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    private CoreException notFound() {
+        return new CoreException(ErrorType.NOT_FOUND, "주문 접수 내역을 찾을 수 없습니다.");
+    }
+
+    void cacheStatus(OrderIntakeInfo info) {
+        try {
+            statusCacheRepository.save(info, Duration.ofSeconds(statusTtlSeconds));
+        } catch (Exception e) {
+            log.warn("주문 접수 상태 캐시 저장 실패 - token: {}, 원인: {}", info.token(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderIntake;
+import com.loopers.domain.order.OrderIntakeStatus;
+
+public record OrderIntakeInfo(
+        String token,
+        String accountId,
+        OrderIntakeStatus status,
+        Long orderId,
+        String failureReason
+) {
+    public static OrderIntakeInfo from(OrderIntake orderIntake) {
+        return new OrderIntakeInfo(
+                orderIntake.getToken(),
+                orderIntake.getAccountId(),
+                orderIntake.getStatus(),
+                orderIntake.getOrderId(),
+                orderIntake.getFailureReason()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.loopers.application.order;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 접수 주문의 처리 상태를 토큰별로 보관한다. 상태 조회 폴링이 DB 까지 내려가지 않도록 한다.
+ */
+public interface OrderIntakeStatusCacheRepository {
+
+    Optional<OrderIntakeInfo> find(String token);
+
+    void save(OrderIntakeInfo info, Duration ttl);
+}
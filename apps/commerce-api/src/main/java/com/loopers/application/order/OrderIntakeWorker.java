@@ -0,0 +1,231 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.order.OrderIntake;
+import com.loopers.domain.order.OrderIntakeRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 접수된 주문을 워커 여러 개가 나눠 처리한다.
+ * 접수 행 잠금과 주문 생성을 한 트랜잭션으로 묶어, 같은 접수 건으로 주문이 두 번 만들어지지 않는다.
+ * 워커끼리는 SKIP LOCKED 로 서로 다른 행을 가져가므로 노드를 늘려도 잠금 대기가 생기지 않는다.
+ * 워커는 @Scheduled 가 아니라 각자 전용 스레드에서 반복하므로, 처리가 길어져도 단일 스레드 스케줄러의 다른 작업을 막지 않는다.
+ * 카드 결제 건은 접수 시 Redis 에 보관한 카드 번호로 처리하고, 완료되거나 실패로 끝나면 지운다.
+ */
+@Slf4j
+@Component
+public class OrderIntakeWorker {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final OrderIntakeRepository orderIntakeRepository;
+    private final OrderFacade orderFacade;
+    private final OrderIntakeFacade orderIntakeFacade;
+    private final OrderIntakeCardRepository cardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private ExecutorService workers;
+
+    private volatile boolean running;
+
+    @Value("${order-intake.worker.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order-intake.worker.count:4}")
+    private int workerCount;
+
+    @Value("${order-intake.worker.batch-size:50}")
+    private int batchSize;
+
+    @Value("${order-intake.worker.poll-interval-millis:200}")
+    private long pollIntervalMillis;
+
+    @Value("${order-intake.max-attempts:3}")
+    private int maxAttempts;
+
+    @Autowired
+    public OrderIntakeWorker(OrderIntakeRepository orderIntakeRepository,
+                             OrderFacade orderFacade,
+                             OrderIntakeFacade orderIntakeFacade,
+                             OrderIntakeCardRepository cardRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.orderIntakeRepository = orderIntakeRepository;
+        this.orderFacade = orderFacade;
+        this.orderIntakeFacade = orderIntakeFacade;
+        this.cardRepository = cardRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void startWorkers() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        int count = Math.max(1, workerCount);
+        workers = Executors.newFixedThreadPool(count);
+        for (int i = 0; i < count; i++) {
+            workers.submit(this::runLoop);
+        }
+    }
+
+    @PreDestroy
+    void stopWorkers() {
+        running = false;
+        if (workers == null) {
+            return;
+        }
+
+        workers.shutdown();
+        try {
+            // 처리 중인 건은 트랜잭션을 마치도록 기다리고, 넘으면 중단시킨다 (중단된 건은 롤백되어 PENDING 으로 남는다)
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 최대 batch-size 건씩 처리한다. 배치를 다 채우지 못했으면(처리할 건이 없거나 일시적 오류로 멈춤)
+     * poll-interval 만큼 쉬었다가 다시 가져온다.
+     */
+    private void runLoop() {
+        while (running) {
+            int processed;
+            try {
+                processed = processBatch();
+            } catch (Exception e) {
+                log.error("주문 접수 처리 워커 실패", e);
+                processed = 0;
+            }
+
+            if (processed > 0) {
+                log.debug("접수 주문 처리 - 건수: {}", processed);
+            }
+            if (processed < batchSize && !sleep()) {
+                return;
+            }
+        }
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pollIntervalMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return 처리한(완료 또는 실패) 접수 건 수
+     */
+    public int processBatch() {
+        int processed = 0;
+        while (processed < batchSize && processNext()) {
+            processed++;
+        }
+        return processed;
+    }
+
+    private boolean processNext() {
+        AtomicReference<Long> claimedId = new AtomicReference<>();
+        try {
+            Optional<OrderIntakeInfo> completed = transactionTemplate.execute(status -> {
+                Optional<OrderIntake> next = orderIntakeRepository.findNextPendingForUpdate();
+                if (next.isEmpty()) {
+                    return Optional.empty();
+                }
+
+                OrderIntake orderIntake = next.get();
+                claimedId.set(orderIntake.getId());
+
+                OrderInfo orderInfo = orderFacade.createOrder(orderIntake.getAccountId(), toCommand(orderIntake));
+                orderIntake.complete(orderInfo.orderId());
+                return Optional.of(OrderIntakeInfo.from(orderIntake));
+            });
+
+            if (completed == null || completed.isEmpty()) {
+                return false;
+            }
+            finish(completed.get());
+            return true;
+
+        } catch (CoreException e) {
+            // 재고 부족, 쿠폰 오류처럼 다시 시도해도 같은 결과인 경우
+            recordFailure(claimedId.get(), e.getMessage(), false);
+            return claimedId.get() != null;
+        } catch (Exception e) {
+            log.warn("접수 주문 처리 실패, 재시도 대기 - intakeId: {}, 원인: {}", claimedId.get(), e.getMessage());
+            recordFailure(claimedId.get(), "일시적인 오류로 주문을 처리하지 못했습니다.", true);
+            // 같은 건을 곧바로 다시 잡지 않도록 이번 배치를 끝내고 다음 주기에 재시도한다
+            return false;
+        }
+    }
+
+    // 주문 트랜잭션은 롤백되었으므로 별도 트랜잭션에서 결과를 남긴다
+    private void recordFailure(Long intakeId, String reason, boolean retryable) {
+        if (intakeId == null) {
+            return;
+        }
+
+        OrderIntakeInfo failed = transactionTemplate.execute(status -> {
+            OrderIntake orderIntake = orderIntakeRepository.findById(intakeId).orElse(null);
+            if (orderIntake == null || !orderIntake.isPending()) {
+                return null;
+            }
+
+            if (retryable) {
+                orderIntake.retryOrFail(reason, maxAttempts);
+            } else {
+                orderIntake.fail(reason);
+            }
+            orderIntakeRepository.save(orderIntake);
+            return orderIntake.isPending() ? null : OrderIntakeInfo.from(orderIntake);
+        });
+
+        if (failed != null) {
+            finish(failed);
+        }
+    }
+
+    // Redis 장애로 읽지 못하면 예외가 그대로 나가 재시도되고, 만료로 없으면 다시 해도 같으므로 실패로 끝낸다
+    private OrderCommand.Create toCommand(OrderIntake orderIntake) {
+        if (!orderIntake.isCardPayment()) {
+            return orderIntake.toCommand(null);
+        }
+
+        String cardNo = cardRepository.find(orderIntake.getToken())
+                .orElseThrow(() -> new CoreException(ErrorType.BAD_REQUEST, "카드 정보가 만료되어 주문을 처리할 수 없습니다."));
+        return orderIntake.toCommand(cardNo);
+    }
+
+    private void finish(OrderIntakeInfo info) {
+        orderIntakeFacade.cacheStatus(info);
+        try {
+            cardRepository.delete(info.token());
+        } catch (Exception e) {
+            log.warn("주문 접수 카드 정보 삭제 실패, TTL 후 사라짐 - token: {}, 원인: {}", info.token(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.loopers.application.order;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 주문 대기열 앞에서부터 주기마다 정해진 인원을 입장시킨다.
+ * 모든 노드가 실행하지만 Redis 잠금으로 주기당 한 번만 입장시키므로 노드 수와 상관없이 입장 속도가 일정하다.
+ */
+@Slf4j
+@Component
+public class OrderQueueDispatcher {
+
+    private final OrderQueueRepository orderQueueRepository;
+
+    @Value("${order-queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order-queue.admit-per-interval:100}")
+    private int admitPerInterval;
+
+    @Value("${order-queue.dispatch-interval-millis:1000}")
+    private long dispatchIntervalMillis;
+
+    @Value("${order-queue.admitted-ttl-seconds:300}")
+    private long admittedTtlSeconds;
+
+    @Autowired
+    public OrderQueueDispatcher(OrderQueueRepository orderQueueRepository) {
+        this.orderQueueRepository = orderQueueRepository;
+    }
+
+    @Scheduled(fixedDelayString = "${order-queue.dispatch-interval-millis:1000}")
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            // 노드 간 실행 시점이 조금씩 어긋나도 다음 주기를 놓치지 않도록 잠금은 주기보다 짧게 잡는다
+            long admitted = orderQueueRepository.admit(
+                    admitPerInterval,
+                    Duration.ofMillis(dispatchIntervalMillis * 9 / 10),
+                    Duration.ofSeconds(admittedTtlSeconds)
+            );
+            if (admitted > 0) {
+                log.debug("주문 대기열 입장 - 인원: {}", admitted);
+            }
+        } catch (Exception e) {
+            log.warn("주문 대기열 입장 처리 실패 - 원인: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.loopers.application.order;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 주문 대기열. 사용자는 대기열에 들어가 토큰과 순번을 받고, OrderQueueDispatcher 가 정해진 속도로 입장시킨다.
+ * 입장한 사용자만 토큰으로 주문할 수 있어, 몰린 요청이 DB 커넥션과 요청 스레드를 잡지 않고 Redis 에서 기다린다.
+ */
+@Slf4j
+@Component
+public class OrderQueueFacade {
+
+    private final OrderQueueRepository orderQueueRepository;
+
+    @Value("${order-queue.enabled:false}")
+    private boolean enabled;
+
+    @Value("${order-queue.admit-per-interval:100}")
+    private int admitPerInterval;
+
+    @Value("${order-queue.dispatch-interval-millis:1000}")
+    private long dispatchIntervalMillis;
+
+    @Value("${order-queue.token-ttl-seconds:1800}")
+    private long tokenTtlSeconds;
+
+    @Autowired
+    public OrderQueueFacade(OrderQueueRepository orderQueueRepository) {
+        this.orderQueueRepository = orderQueueRepository;
+    }
+
+    /**
+     * 대기열이 꺼져 있으면 바로 주문할 수 있으므로 토큰 없이 입장 상태를 돌려준다.
+     */
+    public OrderQueueInfo enter(String accountId) {
+        if (!enabled) {
+            return OrderQueueInfo.admitted(null);
+        }
+
+        Optional<String> admittedToken = orderQueueRepository.findAdmittedToken(accountId);
+        if (admittedToken.isPresent()) {
+            return OrderQueueInfo.admitted(admittedToken.get());
+        }
+
+        OrderQueueRepository.Waiting waiting = orderQueueRepository.enter(
+                accountId, UUID.randomUUID().toString(), Duration.ofSeconds(tokenTtlSeconds));
+        return OrderQueueInfo.waiting(waiting.token(), waiting.position(), estimateWaitSeconds(waiting.position()));
+    }
+
+    public OrderQueueInfo getStatus(String accountId) {
+        if (!enabled) {
+            return OrderQueueInfo.admitted(null);
+        }
+
+        Optional<String> admittedToken = orderQueueRepository.findAdmittedToken(accountId);
+        if (admittedToken.isPresent()) {
+            return OrderQueueInfo.admitted(admittedToken.get());
+        }
+
+        return orderQueueRepository.findPosition(accountId)
+                .map(position -> OrderQueueInfo.waiting(null, position, estimateWaitSeconds(position)))
+                .orElseGet(OrderQueueInfo::notInQueue);
+    }
+
+    /**
+     * 입장 토큰을 확인하면서 입장을 회수한 뒤 주문을 실행한다. 확인과 회수가 한 번에 일어나므로
+     * 같은 입장으로 동시에 보낸 주문 중 하나만 실행된다. 주문이 실패하면 입장을 되돌려 다시 주문할 수 있다.
+     * Redis 장애 시에는 주문을 막지 않고 통과시킨다.
+     */
+    public <T> T executeAdmitted(String accountId, String token, Supplier<T> action) {
+        if (!enabled) {
+            return action.get();
+        }
+
+        Optional<OrderQueueRepository.Admission> admission;
+        try {
+            admission = orderQueueRepository.consumeAdmission(accountId, token);
+        } catch (Exception e) {
+            log.warn("주문 대기열 입장 확인 실패, 주문 허용 - accountId: {}, 원인: {}", accountId, e.getMessage());
+            return action.get();
+        }
+
+        if (admission.isEmpty()) {
+            throw new CoreException(ErrorType.FORBIDDEN, "주문 대기열에서 입장한 뒤에 주문할 수 있습니다.");
+        }
+
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            restore(admission.get());
+            throw e;
+        }
+    }
+
+    private void restore(OrderQueueRepository.Admission admission) {
+        try {
+            orderQueueRepository.restoreAdmission(admission);
+        } catch (Exception e) {
+            log.warn("주문 대기열 입장 복구 실패, 다시 대기열에 들어가야 함 - accountId: {}, 원인: {}",
+                    admission.accountId(), e.getMessage());
+        }
+    }
+
+    private long estimateWaitSeconds(long position) {
+        long rounds = (position + admitPerInterval - 1) / Math.max(1, admitPerInterval);
+        return rounds * dispatchIntervalMillis / 1000;
+    }
+}
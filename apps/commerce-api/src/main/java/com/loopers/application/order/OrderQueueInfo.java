@@ -0,0 +1,26 @@
+package com.loopers.application.order;
+
+public record OrderQueueInfo(
+        Status status,
+        String token,
+        Long position,
+        Long estimatedWaitSeconds
+) {
+    public enum Status {
+        WAITING,        // 입장 순서를 기다리는 중
+        ADMITTED,       // 토큰으로 주문할 수 있음
+        NOT_IN_QUEUE    // 대기열에 없음 (진입 전이거나 입장 시간이 지남)
+    }
+
+    public static OrderQueueInfo waiting(String token, long position, long estimatedWaitSeconds) {
+        return new OrderQueueInfo(Status.WAITING, token, position, estimatedWaitSeconds);
+    }
+
+    public static OrderQueueInfo admitted(String token) {
+        return new OrderQueueInfo(Status.ADMITTED, token, null, null);
+    }
+
+    public static OrderQueueInfo notInQueue() {
+        return new OrderQueueInfo(Status.NOT_IN_QUEUE, null, null, null);
+    }
+}
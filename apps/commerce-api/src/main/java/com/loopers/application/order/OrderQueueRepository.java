@@ -0,0 +1,45 @@
+package com.loopers.application.order;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 주문 대기열 저장소. 대기 순서는 진입 시각 순이며 사용자당 한 자리만 가진다.
+ */
+public interface OrderQueueRepository {
+
+    /**
+     * 대기열에 없으면 맨 뒤에 넣는다. 이미 대기 중이면 자리와 토큰을 그대로 돌려준다.
+     */
+    Waiting enter(String accountId, String newToken, Duration tokenTtl);
+
+    /**
+     * @return 1 부터 시작하는 대기 순번. 대기열에 없으면 empty
+     */
+    Optional<Long> findPosition(String accountId);
+
+    Optional<String> findAdmittedToken(String accountId);
+
+    /**
+     * 앞에서부터 count 명을 입장시킨다. 여러 노드가 동시에 호출해도 dispatchInterval 마다 한 번만 입장시킨다.
+     *
+     * @return 입장시킨 사용자 수
+     */
+    long admit(int count, Duration dispatchInterval, Duration admittedTtl);
+
+    /**
+     * 입장 토큰이 일치하면 같은 스크립트 안에서 입장을 지운다. 동시에 들어온 요청 중 하나만 입장을 가져간다.
+     *
+     * @return 가져간 입장과 남은 유효 시간. 입장이 없거나 토큰이 다르면 empty
+     */
+    Optional<Admission> consumeAdmission(String accountId, String token);
+
+    /**
+     * 가져간 입장을 남은 유효 시간으로 되돌린다. 그 사이 새로 입장했으면 새 입장을 유지한다.
+     */
+    void restoreAdmission(Admission admission);
+
+    record Waiting(String token, long position) {}
+
+    record Admission(String accountId, String token, Duration remainingTtl) {}
+}
@@ -70,10 +70,11 @@ public class OrderCompletionListener {
                 log.debug("재고 확정 이벤트 발행 - productId: {}, adjustedQuantity: {}, currentStock: {}", 
                         result.productId(), -result.reservedQuantity(), result.currentStock());
                 
-                // 재고 0인 경우 캐시 무효화
+                // 상세 캐시는 재고만 제자리에서 갱신하고, 재고 0인 경우 목록 캐시 무효화
+                productQuery.applyProductStock(result.productId(), result.currentStock());
                 if (result.currentStock() == 0) {
-                    productQuery.evictProductDetailCache(result.productId());
-                    log.info("재고 소진으로 캐시 무효화 - productId: {}", result.productId());
+                    productQuery.evictProductListCache(result.productId());
+                    log.info("재고 소진으로 목록 캐시 무효화 - productId: {}", result.productId());
                 }
             });
             
@@ -0,0 +1,143 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.ranking.RankingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 랭킹 상위 상품의 상세 캐시를 미리 채운다.
+ * 배포/Redis 장애 복구 직후 콜드 캐시로 인해 초기 트래픽이 모두 DB 로 몰리는 것을 막는다.
+ * 순위는 상세 캐시에 담지 않고 조회 시 ZSET 에서 붙이므로, 랭킹은 조회가 몰릴 상품을 고르는 데만 쓴다.
+ */
+@Component
+@Slf4j
+public class ProductCacheWarmer {
+
+    private final RankingService rankingService;
+    private final ProductQuery productQuery;
+
+    @Value("${cache.warm-up.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.warm-up.top-n:1000}")
+    private int topN;
+
+    @Value("${cache.warm-up.batch-size:100}")
+    private int batchSize;
+
+    @Value("${cache.warm-up.timeout-seconds:30}")
+    private long timeoutSeconds;
+
+    @Autowired
+    public ProductCacheWarmer(RankingService rankingService, ProductQuery productQuery) {
+        this.rankingService = rankingService;
+        this.productQuery = productQuery;
+    }
+
+    /**
+     * ApplicationReadyEvent 리스너가 끝난 뒤에 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로
+     * 동기로 실행해 워밍업이 끝나거나 시간이 초과될 때까지 트래픽 유입을 늦춘다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "product-cache-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Future<Integer> warmUp = executor.submit(() -> warmUp(LocalDate.now()));
+        try {
+            warmUp.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            warmUp.cancel(true);
+            log.warn("상품 상세 캐시 워밍업 시간 초과 - {}초, 워밍업 없이 트래픽을 받습니다.", timeoutSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("상품 상세 캐시 워밍업 실패 - 원인: {}", e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 상세 캐시는 TTL 로 계속 빠지므로, 날짜가 바뀌는 시점에 당일(비어 있으면 전날) 랭킹 상위 상품을 다시 채운다.
+     * 순위는 캐시하지 않으므로 순위를 갱신하려는 용도는 아니다.
+     */
+    @Scheduled(cron = "${cache.warm-up.cron:0 0 0 * * *}")
+    public void warmUpAtMidnight() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            warmUp(LocalDate.now());
+        } catch (Exception e) {
+            log.error("자정 상품 상세 캐시 워밍업 실패 - 원인: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 캐시에 적재한 상품 수
+     */
+    public int warmUp(LocalDate date) {
+        List<Long> productIds = findTopProductIds(date);
+        if (productIds.isEmpty()) {
+            // 자정 직후에는 당일 랭킹이 거의 비어 있으므로 전날 랭킹을 사용한다
+            productIds = findTopProductIds(date.minusDays(1));
+        }
+
+        if (productIds.isEmpty()) {
+            log.info("워밍업 대상 랭킹이 없습니다 - date: {}", date);
+            return 0;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int loaded = 0;
+        for (int from = 0; from < productIds.size(); from += batchSize) {
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            List<Long> batch = productIds.subList(from, Math.min(from + batchSize, productIds.size()));
+            loaded += productQuery.preloadProductDetails(batch);
+        }
+
+        log.info("상품 상세 캐시 워밍업 완료 - 대상: {}, 적재: {}, 소요: {}ms",
+                productIds.size(), loaded, System.currentTimeMillis() - startedAt);
+        return loaded;
+    }
+
+    private List<Long> findTopProductIds(LocalDate date) {
+        Set<ZSetOperations.TypedTuple<String>> rankings = rankingService.getRankingsWithPaging(date, 0, topN);
+        if (rankings == null) {
+            return List.of();
+        }
+
+        return rankings.stream()
+                .map(tuple -> RankingService.extractProductId(tuple.getValue()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.loopers.application.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 상품 목록 조회에서 마지막으로 내려준 상품의 (정렬 값, ID) 위치.
+ * 다른 정렬 기준으로 발급된 커서를 재사용하지 못하도록 정렬 기준도 함께 담는다.
+ */
+public record ProductCursor(
+    ProductSortType sortType,
+    String sortValue,
+    Long id
+) {
+
+    private static final String DELIMITER = "|";
+
+    public String encode() {
+        String raw = sortType.getValue() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String encoded, ProductSortType expectedSortType) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] tokens = raw.split("\\|", -1);
+            if (tokens.length != 3 || tokens[1].isEmpty()) {
+                throw new IllegalArgumentException("커서 형식 불일치");
+            }
+
+            ProductSortType sortType = ProductSortType.from(tokens[0]);
+            if (sortType != expectedSortType || !sortType.getValue().equalsIgnoreCase(tokens[0])) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "정렬 기준이 다른 커서입니다.");
+            }
+
+            return new ProductCursor(sortType, tokens[1], Long.parseLong(tokens[2]));
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+}
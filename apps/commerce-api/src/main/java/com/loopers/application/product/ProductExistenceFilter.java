@@ -0,0 +1,80 @@
+package com.loopers.application.product;
+
+import com.loopers.support.cache.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 판매 중인 상품 ID 의 Bloom filter. 존재하지 않는 상품 ID 요청을 캐시/DB 조회 전에 걸러낸다.
+ * 첫 빌드 전에는 모든 ID 를 통과시키고, 빌드 이후 새로 생긴 상품(빌드 시점 최대 ID 초과)도 다음 빌드까지 통과시킨다.
+ */
+@Component
+@Slf4j
+public class ProductExistenceFilter {
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // 다음 빌드 전 추가되는 상품을 고려한 여유분
+    private static final double CAPACITY_HEADROOM = 1.2;
+
+    private final ProductQueryRepository productQueryRepository;
+    private final boolean enabled;
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public ProductExistenceFilter(ProductQueryRepository productQueryRepository,
+                                  @Value("${cache.product-detail.bloom-filter.enabled:true}") boolean enabled) {
+        this.productQueryRepository = productQueryRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean mightExist(Long productId) {
+        Snapshot current = snapshot;
+        if (!enabled || current == null || productId > current.maxProductId()) {
+            return true;
+        }
+        return current.filter().mightContain(productId);
+    }
+
+    @Scheduled(
+            initialDelayString = "${cache.product-detail.bloom-filter.initial-delay-millis:0}",
+            fixedDelayString = "${cache.product-detail.bloom-filter.rebuild-interval-millis:600000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long expected = (long) (productQueryRepository.countProducts(null) * CAPACITY_HEADROOM);
+            BloomFilter filter = new BloomFilter(expected, FALSE_POSITIVE_RATE);
+
+            long loaded = 0;
+            long maxProductId = 0;
+            List<Long> productIds = productQueryRepository.findActiveProductIds(0L, LOAD_BATCH_SIZE);
+            while (!productIds.isEmpty()) {
+                productIds.forEach(filter::put);
+                loaded += productIds.size();
+                maxProductId = productIds.getLast();
+                productIds = productQueryRepository.findActiveProductIds(maxProductId, LOAD_BATCH_SIZE);
+            }
+
+            snapshot = new Snapshot(filter, maxProductId);
+            log.info("상품 ID Bloom filter 재구성 완료 - 상품 수: {}, 최대 ID: {}", loaded, maxProductId);
+
+        } catch (Exception e) {
+            // 재구성 실패 시 이전 필터를 유지한다
+            log.error("상품 ID Bloom filter 재구성 실패 - 원인: {}", e.getMessage(), e);
+        }
+    }
+
+    private record Snapshot(
+            BloomFilter filter,
+            long maxProductId
+    ) {}
+}
@@ -1,60 +1,229 @@
 package com.loopers.application.product;
 
+import com.loopers.application.like.LikeQuery;
+import com.loopers.domain.product.ProductLikeCountBuffer;
 import com.loopers.domain.ranking.RankingService;
 import com.loopers.infrastructure.kafka.KafkaEventPublisher;
 import com.loopers.infrastructure.kafka.event.ProductViewedKafkaEvent;
+import com.loopers.support.cache.CacheConstants;
+import com.loopers.support.cache.SingleFlight;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
 
 @Component
 @Slf4j
 public class ProductQuery {
     
+    private static final int MAX_DETAILS_BATCH_SIZE = 100;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
     private final ProductQueryRepository productQueryRepository;
     private final ProductQueryCacheRepository productQueryCacheRepository;
     private final KafkaEventPublisher kafkaEventPublisher;
     private final RankingService rankingService;
+    private final ProductExistenceFilter productExistenceFilter;
+    private final ProductLikeCountBuffer likeCountBuffer;
+    private final LikeQuery likeQuery;
+    private final SingleFlight<Long, ProductDetailResult> productDetailLoader = new SingleFlight<>();
+    private final Set<Long> refreshingProductIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> refreshingCountKeys = ConcurrentHashMap.newKeySet();
+    private final ExecutorService cacheRefreshExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "product-cache-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    @Value("${cache.product-list.max-cached-pages:5}")
+    private int listPageCacheMaxPages;
+    
+    @Value("${cache.product-detail.early-refresh.beta:1.0}")
+    private double earlyRefreshBeta;
+    
+    @Value("${cache.product-detail.rebuild-lock.enabled:false}")
+    private boolean rebuildLockEnabled;
+    
+    @Value("${cache.product-detail.rebuild-lock.wait-millis:50}")
+    private long rebuildLockWaitMillis;
+    
+    @Value("${cache.product-detail.rebuild-lock.max-wait-attempts:20}")
+    private int rebuildLockMaxWaitAttempts;
     
     @Autowired
     public ProductQuery(ProductQueryRepository productQueryRepository,
                        ProductQueryCacheRepository productQueryCacheRepository,
                        KafkaEventPublisher kafkaEventPublisher,
-                       RankingService rankingService) {
+                       RankingService rankingService,
+                       ProductExistenceFilter productExistenceFilter,
+                       ProductLikeCountBuffer likeCountBuffer,
+                       LikeQuery likeQuery) {
         this.productQueryRepository = productQueryRepository;
         this.productQueryCacheRepository = productQueryCacheRepository;
         this.kafkaEventPublisher = kafkaEventPublisher;
         this.rankingService = rankingService;
+        this.productExistenceFilter = productExistenceFilter;
+        this.likeCountBuffer = likeCountBuffer;
+        this.likeQuery = likeQuery;
     }
     
     public ProductListResult getProducts(Long brandId, String sort, int page, int size) {
+        return getProducts(brandId, sort, page, size, false);
+    }
+    
+    /**
+     * approximateTotal 이 true 이면 집계 주기가 지난 개수라도 캐시에 있으면 그대로 내려주고
+     * 재집계는 백그라운드에서 수행한다. 이 경우 응답의 approximateTotal 이 true 로 표시된다.
+     */
+    public ProductListResult getProducts(Long brandId, String sort, int page, int size, boolean approximateTotal) {
+        return getProducts(brandId, sort, page, size, approximateTotal, null);
+    }
+    
+    /**
+     * accountId 가 있으면 각 상품에 좋아요 여부를 붙인다. 목록 페이지 캐시는 사용자와 무관하게 공유하고
+     * 좋아요 여부는 페이지 단위 조회 한 번으로 덧붙인다.
+     */
+    public ProductListResult getProducts(Long brandId, String sort, int page, int size, boolean approximateTotal,
+                                         String accountId) {
         ProductSortType sortType = ProductSortType.from(sort);
         Pageable pageable = PageRequest.of(page, size);
+        AtomicBoolean totalApproximated = new AtomicBoolean(false);
+        LongSupplier totalCountSupplier = () -> {
+            TotalCount totalCount = resolveTotalCount(brandId, approximateTotal);
+            totalApproximated.set(totalCount.approximate());
+            return totalCount.count();
+        };
         
-        Page<ProductQueryRepository.ProductQueryData> productPage = 
-            productQueryRepository.findProducts(brandId, sortType, pageable);
+        // 좋아요 순 페이지는 페이지 밖 상품의 좋아요로도 순서가 바뀌는데, 무효화는 페이지에 든 상품 기준이라 캐시하지 않는다
+        boolean pageCacheable = page < listPageCacheMaxPages && sortType != ProductSortType.LIKES_DESC;
+        Optional<List<ProductQueryResult>> cachedProducts = pageCacheable
+            ? productQueryCacheRepository.findListPage(brandId, sortType, page, size)
+            : Optional.empty();
         
-        List<ProductQueryResult> products = productPage.getContent().stream()
-            .map(ProductQueryResult::from)
-            .toList();
+        Page<ProductQueryResult> productPage;
+        if (cachedProducts.isPresent()) {
+            productPage = PageableExecutionUtils.getPage(cachedProducts.get(), pageable, totalCountSupplier);
+        } else {
+            productPage = productQueryRepository.findProducts(brandId, sortType, pageable, totalCountSupplier)
+                .map(ProductQueryResult::from);
+            Map<Long, Long> pendingLikeCounts = findPendingLikeCounts(
+                productPage.getContent().stream().map(ProductQueryResult::id).toList()
+            );
+            productPage = productPage.map(product -> product.withLikeCountDelta(pendingLikeCounts.get(product.id())));
+            if (pageCacheable) {
+                productQueryCacheRepository.saveListPage(brandId, sortType, page, size, productPage.getContent());
+            }
+        }
         
         return new ProductListResult(
-            products,
+            attachLiked(productPage.getContent(), accountId),
             productPage.getTotalElements(),
             productPage.getTotalPages(),
             productPage.getNumber(),
-            productPage.getSize()
+            productPage.getSize(),
+            totalApproximated.get()
+        );
+    }
+    
+    private TotalCount resolveTotalCount(Long brandId, boolean approximateTotal) {
+        Optional<ProductQueryCacheRepository.CachedCount> cached = productQueryCacheRepository.findCount(brandId);
+        
+        if (cached.isPresent()) {
+            ProductQueryCacheRepository.CachedCount cachedCount = cached.get();
+            if (cachedCount.isFresh(System.currentTimeMillis(), CacheConstants.TTL.PRODUCT_LIST_COUNT)) {
+                return new TotalCount(cachedCount.count(), false);
+            }
+            if (approximateTotal) {
+                refreshCountInBackground(brandId);
+                return new TotalCount(cachedCount.count(), true);
+            }
+        }
+        
+        return new TotalCount(countAndCache(brandId), false);
+    }
+    
+    private void refreshCountInBackground(Long brandId) {
+        String refreshKey = String.valueOf(brandId);
+        if (!refreshingCountKeys.add(refreshKey)) {
+            return;
+        }
+        
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                try {
+                    countAndCache(brandId);
+                } catch (Exception e) {
+                    log.warn("상품 개수 재집계 실패 - Brand ID: {}, 원인: {}", brandId, e.getMessage());
+                } finally {
+                    refreshingCountKeys.remove(refreshKey);
+                }
+            });
+        } catch (Exception e) {
+            refreshingCountKeys.remove(refreshKey);
+            log.warn("상품 개수 재집계 요청 실패 - Brand ID: {}, 원인: {}", brandId, e.getMessage());
+        }
+    }
+    
+    private long countAndCache(Long brandId) {
+        long count = productQueryRepository.countProducts(brandId);
+        productQueryCacheRepository.saveCount(brandId, ProductQueryCacheRepository.CachedCount.of(count));
+        return count;
+    }
+    
+    public ProductCursorListResult getProductsByCursor(Long brandId, String sort, String cursor, int size) {
+        return getProductsByCursor(brandId, sort, cursor, size, null);
+    }
+    
+    public ProductCursorListResult getProductsByCursor(Long brandId, String sort, String cursor, int size,
+                                                       String accountId) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                    "페이지 크기는 1~" + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        ProductSortType sortType = ProductSortType.from(sort);
+        ProductCursor productCursor = ProductCursor.decode(cursor, sortType);
+        
+        ProductQueryRepository.ProductSliceData slice =
+            productQueryRepository.findProductsByCursor(brandId, sortType, productCursor, size);
+        
+        Map<Long, Long> pendingLikeCounts = findPendingLikeCounts(
+            slice.content().stream().map(ProductQueryRepository.ProductQueryData::id).toList()
+        );
+        List<ProductQueryResult> products = slice.content().stream()
+            .map(ProductQueryResult::from)
+            .map(product -> product.withLikeCountDelta(pendingLikeCounts.get(product.id())))
+            .toList();
+        
+        return new ProductCursorListResult(
+            attachLiked(products, accountId),
+            slice.hasNext() ? slice.nextCursor().encode() : null,
+            slice.hasNext(),
+            size
         );
     }
     
@@ -65,7 +234,8 @@ public class ProductQuery {
         Long rank = rankingService.getProductRank(productId, LocalDate.now());
         RankingInfo ranking = rank != null ? new RankingInfo(rank) : null;
         
-        ProductDetailResult result = ProductDetailResult.withRanking(data, ranking);
+        ProductDetailResult result = ProductDetailResult.withRanking(data, ranking)
+                .withLikeCountDelta(findPendingLikeCounts(List.of(productId)).get(productId));
         
         publishProductViewedEvent(productId);
         
@@ -75,28 +245,250 @@ public class ProductQuery {
     public ProductDetailResult getProductDetailWithCache(Long productId) {
         log.debug("DTO 캐시를 사용한 상품 상세 조회 시작 - Product ID: {}", productId);
         
-        ProductDetailResult result = productQueryCacheRepository.findDetailById(productId)
-                .orElseGet(() -> {
-                    log.debug("Cache Miss - Product ID: {}, DB에서 조회", productId);
-                    
-                    ProductQueryRepository.ProductDetailQueryData data = productQueryRepository.findProductDetailById(productId)
-                            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
-                    
-                    Long rank = rankingService.getProductRank(productId, LocalDate.now());
-                    RankingInfo ranking = rank != null ? new RankingInfo(rank) : null;
-                    
-                    ProductDetailResult detailResult = ProductDetailResult.withRanking(data, ranking);
-                    
-                    productQueryCacheRepository.saveDetail(productId, detailResult);
-                    
-                    return detailResult;
-                });
+        if (!productExistenceFilter.mightExist(productId)) {
+            log.debug("Bloom filter 에 없는 상품 - Product ID: {}", productId);
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다.");
+        }
+        
+        // 순위는 자주 바뀌므로 캐시된 정적 상세와 분리해 매번 실시간으로 붙인다
+        ProductQueryCacheRepository.RankedDetail rankedDetail =
+                productQueryCacheRepository.findDetailWithRank(productId, LocalDate.now());
+        
+        ProductQueryCacheRepository.CachedDetail cachedDetail = rankedDetail.cachedDetail();
+        ProductDetailResult staticDetail;
+        if (cachedDetail != null && !cachedDetail.isExpired(System.currentTimeMillis())) {
+            refreshEarlyIfNeeded(productId, cachedDetail);
+            staticDetail = cachedDetail.result();
+        } else {
+            if (productQueryCacheRepository.isMarkedAbsent(productId)) {
+                log.debug("Negative Cache Hit - Product ID: {}", productId);
+                throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다.");
+            }
+            staticDetail = productDetailLoader.execute(productId, () -> rebuildProductDetailCache(productId));
+        }
+        
+        ProductDetailResult result = staticDetail.withRank(rankedDetail.rank());
         
         publishProductViewedEvent(productId);
         
         return result;
     }
     
+    /**
+     * 장바구니/위시리스트처럼 여러 상품을 한 번에 그리는 화면용 일괄 상세 조회.
+     * 캐시 히트는 파이프라인 한 번, 미스는 IN 쿼리 한 번으로 조회한 뒤 파이프라인으로 캐시에 되돌려 쓴다.
+     * 순위는 캐시하지 않고 ZREVRANK 파이프라인 한 번으로 붙인다.
+     * 상품 상세 화면 진입이 아니므로 조회 이벤트는 발행하지 않는다.
+     */
+    public ProductDetailsResult getProductDetails(List<Long> productIds) {
+        List<Long> distinctIds = productIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        
+        if (distinctIds.size() > MAX_DETAILS_BATCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST,
+                    "한 번에 조회할 수 있는 상품은 최대 " + MAX_DETAILS_BATCH_SIZE + "개입니다.");
+        }
+        
+        List<Long> candidateIds = distinctIds.stream()
+                .filter(productExistenceFilter::mightExist)
+                .toList();
+        
+        Map<Long, ProductDetailResult> found = new HashMap<>();
+        long nowMillis = System.currentTimeMillis();
+        productQueryCacheRepository.findDetailsByIds(candidateIds).forEach((productId, cachedDetail) -> {
+            if (!cachedDetail.isExpired(nowMillis)) {
+                found.put(productId, cachedDetail.result());
+            }
+        });
+        
+        List<Long> missedIds = candidateIds.stream()
+                .filter(productId -> !found.containsKey(productId))
+                .toList();
+        
+        if (!missedIds.isEmpty()) {
+            found.putAll(loadAndCacheProductDetails(missedIds));
+        }
+        
+        Map<Long, Long> ranks = rankingService.getProductRanks(
+                distinctIds.stream().filter(found::containsKey).toList(),
+                LocalDate.now()
+        );
+        
+        List<ProductDetailResult> products = new ArrayList<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long productId : distinctIds) {
+            ProductDetailResult detail = found.get(productId);
+            if (detail != null) {
+                products.add(detail.withRank(ranks.get(productId)));
+            } else {
+                notFoundIds.add(productId);
+            }
+        }
+        
+        return new ProductDetailsResult(products, notFoundIds);
+    }
+    
+    /**
+     * 캐시 여부와 상관없이 DB 에서 읽어 캐시를 다시 채운다. 캐시 워밍업 용도.
+     *
+     * @return 캐시에 적재한 상품 수
+     */
+    public int preloadProductDetails(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        return loadAndCacheProductDetails(productIds).size();
+    }
+    
+    private Map<Long, ProductDetailResult> loadAndCacheProductDetails(List<Long> productIds) {
+        log.debug("Cache Miss - Product IDs: {}, DB에서 일괄 조회", productIds);
+        long startedAt = System.nanoTime();
+        
+        List<ProductQueryRepository.ProductDetailQueryData> dataList = productQueryRepository.findProductDetailsByIds(productIds);
+        Map<Long, Long> pendingLikeCounts = findPendingLikeCounts(
+                dataList.stream().map(ProductQueryRepository.ProductDetailQueryData::id).toList()
+        );
+        
+        long computeMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        
+        Map<Long, ProductDetailResult> loaded = new HashMap<>();
+        Map<Long, ProductQueryCacheRepository.CachedDetail> toCache = new HashMap<>();
+        for (ProductQueryRepository.ProductDetailQueryData data : dataList) {
+            ProductDetailResult detailResult = ProductDetailResult.from(data)
+                    .withLikeCountDelta(pendingLikeCounts.get(data.id()));
+            loaded.put(data.id(), detailResult);
+            toCache.put(data.id(), ProductQueryCacheRepository.CachedDetail.of(detailResult, computeMillis, CacheConstants.TTL.PRODUCT_DETAIL));
+        }
+        
+        productQueryCacheRepository.saveDetails(toCache);
+        
+        return loaded;
+    }
+    
+    /**
+     * 만료가 가까워진 핫 키는 만료 전에 백그라운드에서 미리 갱신하여
+     * 요청 스레드가 동기 재적재 비용을 치르지 않도록 한다.
+     * 이미 갱신 중이면 기존 값을 그대로 내려주지만, 논리 만료 시각이 지난 값은 호출부에서 미스로 처리하므로
+     * stale 구간은 저장 후 PRODUCT_DETAIL TTL 을 넘지 않는다.
+     */
+    private void refreshEarlyIfNeeded(Long productId, ProductQueryCacheRepository.CachedDetail cachedDetail) {
+        boolean shouldRefresh = cachedDetail.shouldRefreshEarly(
+                System.currentTimeMillis(),
+                earlyRefreshBeta,
+                ThreadLocalRandom.current().nextDouble()
+        );
+        
+        if (!shouldRefresh || !refreshingProductIds.add(productId)) {
+            return;
+        }
+        
+        try {
+            cacheRefreshExecutor.execute(() -> {
+                try {
+                    productDetailLoader.execute(productId, () -> rebuildProductDetailCache(productId));
+                    log.debug("상품 상세 캐시 조기 갱신 완료 - Product ID: {}", productId);
+                } catch (CoreException e) {
+                    productQueryCacheRepository.evictDetail(productId);
+                    log.debug("상품 상세 캐시 조기 갱신 중 상품 없음 - Product ID: {}", productId);
+                } catch (Exception e) {
+                    log.warn("상품 상세 캐시 조기 갱신 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+                } finally {
+                    refreshingProductIds.remove(productId);
+                }
+            });
+        } catch (Exception e) {
+            refreshingProductIds.remove(productId);
+            log.warn("상품 상세 캐시 조기 갱신 요청 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+        }
+    }
+    
+    /**
+     * 캐시 미스 시 한 곳에서만 DB 를 조회해 캐시를 다시 채운다.
+     * JVM 내 동시 요청은 SingleFlight 로 합쳐지고, 락이 켜져 있으면 노드 간에도 한 노드만 적재한다.
+     */
+    private ProductDetailResult rebuildProductDetailCache(Long productId) {
+        if (!rebuildLockEnabled) {
+            return loadAndCacheProductDetail(productId);
+        }
+        
+        Optional<String> lockToken = productQueryCacheRepository.acquireRebuildLock(productId);
+        if (lockToken.isPresent()) {
+            try {
+                return loadAndCacheProductDetail(productId);
+            } finally {
+                productQueryCacheRepository.releaseRebuildLock(productId, lockToken.get());
+            }
+        }
+        
+        return waitForRebuiltCache(productId)
+                .orElseGet(() -> loadAndCacheProductDetail(productId));
+    }
+    
+    private Optional<ProductDetailResult> waitForRebuiltCache(Long productId) {
+        for (int attempt = 0; attempt < rebuildLockMaxWaitAttempts; attempt++) {
+            try {
+                Thread.sleep(rebuildLockWaitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            
+            Optional<ProductDetailResult> cached = productQueryCacheRepository.findDetailById(productId)
+                    .map(ProductQueryCacheRepository.CachedDetail::result);
+            if (cached.isPresent()) {
+                return cached;
+            }
+        }
+        
+        log.debug("다른 노드의 캐시 적재 대기 시간 초과 - Product ID: {}, 직접 조회", productId);
+        return Optional.empty();
+    }
+    
+    private ProductDetailResult loadAndCacheProductDetail(Long productId) {
+        log.debug("Cache Miss - Product ID: {}, DB에서 조회", productId);
+        long startedAt = System.nanoTime();
+        
+        Optional<ProductQueryRepository.ProductDetailQueryData> found = productQueryRepository.findProductDetailById(productId);
+        if (found.isEmpty()) {
+            productQueryCacheRepository.markAbsent(productId);
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다.");
+        }
+        
+        ProductDetailResult detailResult = ProductDetailResult.from(found.get())
+                .withLikeCountDelta(findPendingLikeCounts(List.of(productId)).get(productId));
+        
+        long computeMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        productQueryCacheRepository.saveDetail(
+                productId,
+                ProductQueryCacheRepository.CachedDetail.of(detailResult, computeMillis, CacheConstants.TTL.PRODUCT_DETAIL)
+        );
+        
+        return detailResult;
+    }
+    
+    /**
+     * 아직 product.like_count 에 반영되지 않은 좋아요 증감(Redis 누적값, 반영 중인 값, 샤드 누적값).
+     * DB 에서 읽은 좋아요 수에 더해 최신 값을 만들고, 이후 캐시는 이 값에서부터 제자리 갱신된다.
+     */
+    private Map<Long, Long> findPendingLikeCounts(List<Long> productIds) {
+        return likeCountBuffer.getPendingDeltas(productIds);
+    }
+    
+    private List<ProductQueryResult> attachLiked(List<ProductQueryResult> products, String accountId) {
+        if (accountId == null || products.isEmpty()) {
+            return products;
+        }
+        
+        Set<Long> likedProductIds = likeQuery.findLikedProductIds(
+            accountId, products.stream().map(ProductQueryResult::id).toList()
+        );
+        return products.stream()
+            .map(product -> product.withLiked(likedProductIds.contains(product.id())))
+            .toList();
+    }
+    
     private void publishProductViewedEvent(Long productId) {
         try {
             ProductViewedKafkaEvent event = ProductViewedKafkaEvent.builder()
@@ -117,6 +509,29 @@ public class ProductQuery {
         productQueryCacheRepository.evictDetail(productId);
     }
     
+    /**
+     * 캐시된 상세의 좋아요 수만 증감한다. 캐시가 없으면 아무것도 하지 않는다.
+     */
+    public void applyProductLikeCountDelta(Long productId, int delta) {
+        productQueryCacheRepository.applyLikeCountDelta(productId, delta);
+    }
+
+    /**
+     * 캐시된 상세의 재고만 최신 값으로 덮어쓴다. 캐시가 없으면 아무것도 하지 않는다.
+     */
+    public void applyProductStock(Long productId, int stock) {
+        productQueryCacheRepository.applyStock(productId, stock);
+    }
+
+    public void evictProductListCache(Long productId) {
+        productQueryCacheRepository.evictListPagesContaining(productId);
+    }
+    
+    @PreDestroy
+    void shutdownCacheRefreshExecutor() {
+        cacheRefreshExecutor.shutdown();
+    }
+    
     public record ProductQueryResult(
         Long id,
         String name,
@@ -125,7 +540,8 @@ public class ProductQuery {
         Integer stock,
         Long brandId,
         String brandName,
-        Integer likeCount
+        Integer likeCount,
+        Boolean liked
     ) {
         public static ProductQueryResult from(ProductQueryRepository.ProductQueryData data) {
             return new ProductQueryResult(
@@ -136,9 +552,22 @@ public class ProductQuery {
                 data.stock(),
                 data.brandId(),
                 data.brandName(),
-                data.likeCount()
+                data.likeCount(),
+                null
             );
         }
+        
+        public ProductQueryResult withLikeCountDelta(Long delta) {
+            if (delta == null || delta == 0) {
+                return this;
+            }
+            return new ProductQueryResult(id, name, description, price, stock, brandId, brandName,
+                (int) Math.max(0, likeCount + delta), liked);
+        }
+        
+        public ProductQueryResult withLiked(boolean liked) {
+            return new ProductQueryResult(id, name, description, price, stock, brandId, brandName, likeCount, liked);
+        }
     }
     
     public record ProductDetailResult(
@@ -179,8 +608,34 @@ public class ProductQuery {
                 ranking
             );
         }
+        
+        public ProductDetailResult withRank(Long rank) {
+            return new ProductDetailResult(
+                id,
+                name,
+                description,
+                price,
+                stock,
+                brand,
+                likeCount,
+                rank != null ? new RankingInfo(rank) : null
+            );
+        }
+        
+        public ProductDetailResult withLikeCountDelta(Long delta) {
+            if (delta == null || delta == 0) {
+                return this;
+            }
+            return new ProductDetailResult(id, name, description, price, stock, brand,
+                (int) Math.max(0, likeCount + delta), ranking);
+        }
     }
     
+    public record ProductDetailsResult(
+        List<ProductDetailResult> products,
+        List<Long> notFoundIds
+    ) {}
+    
     public record RankingInfo(
         Long rank
     ) {}
@@ -196,6 +651,19 @@ public class ProductQuery {
         long totalElements,
         int totalPages,
         int currentPage,
+        int pageSize,
+        boolean approximateTotal
+    ) {}
+    
+    private record TotalCount(
+        long count,
+        boolean approximate
+    ) {}
+    
+    public record ProductCursorListResult(
+        List<ProductQueryResult> products,
+        String nextCursor,
+        boolean hasNext,
         int pageSize
     ) {}
 }
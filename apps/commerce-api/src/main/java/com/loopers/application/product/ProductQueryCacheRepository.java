@@ -1,12 +1,145 @@
 package com.loopers.application.product;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductQueryCacheRepository {
     
-    Optional<ProductQuery.ProductDetailResult> findDetailById(Long productId);
+    Optional<CachedDetail> findDetailById(Long productId);
     
-    void saveDetail(Long productId, ProductQuery.ProductDetailResult result);
+    /**
+     * 캐시된 상품 상세(정적 부분)와 해당 일자 랭킹의 실시간 순위를 Redis 파이프라인 한 번으로 조회한다.
+     * 상세가 L1 에 있으면 순위만 조회한다.
+     */
+    RankedDetail findDetailWithRank(Long productId, LocalDate rankingDate);
+    
+    void saveDetail(Long productId, CachedDetail cachedDetail);
+    
+    /**
+     * 여러 상품 상세를 L1 → Redis MGET 한 번으로 조회한다. 캐시에 없는 상품은 결과에서 제외된다.
+     */
+    Map<Long, CachedDetail> findDetailsByIds(List<Long> productIds);
+    
+    /**
+     * 여러 상품 상세를 Redis 파이프라인 한 번으로 저장한다.
+     */
+    void saveDetails(Map<Long, CachedDetail> cachedDetails);
     
     void evictDetail(Long productId);
+    
+    /**
+     * 캐시된 상품 상세의 좋아요 수를 제자리에서 증감한다. 캐시에 없는 상품이면 아무것도 하지 않는다.
+     */
+    void applyLikeCountDelta(Long productId, int delta);
+    
+    /**
+     * 캐시된 상품 상세의 재고를 주어진 값으로 바꾼다. 캐시에 없는 상품이면 아무것도 하지 않는다.
+     */
+    void applyStock(Long productId, int stock);
+    
+    /**
+     * 조회 결과가 없었던 상품 ID 인지 확인한다 (negative cache).
+     */
+    boolean isMarkedAbsent(Long productId);
+    
+    void markAbsent(Long productId);
+    
+    /**
+     * 노드 간 캐시 재적재를 한 곳에서만 수행하기 위한 짧은 락을 획득한다.
+     * 획득 시 해제에 필요한 토큰을 반환한다.
+     */
+    Optional<String> acquireRebuildLock(Long productId);
+    
+    void releaseRebuildLock(Long productId, String token);
+    
+    /**
+     * 상품 목록 전체 개수 캐시. brandId 가 null 이면 전체 상품 기준이다.
+     */
+    Optional<CachedCount> findCount(Long brandId);
+    
+    void saveCount(Long brandId, CachedCount cachedCount);
+    
+    Optional<List<ProductQuery.ProductQueryResult>> findListPage(Long brandId, ProductSortType sortType, int page, int size);
+    
+    /**
+     * 목록 페이지를 저장하면서 페이지에 포함된 각 상품의 역인덱스에 페이지 키를 등록한다.
+     */
+    void saveListPage(Long brandId, ProductSortType sortType, int page, int size, List<ProductQuery.ProductQueryResult> products);
+    
+    /**
+     * 해당 상품이 포함된 목록 페이지만 골라서 무효화한다.
+     */
+    void evictListPagesContaining(Long productId);
+    
+    /**
+     * 캐시된 상품 상세와 함께 재계산 비용(computeMillis)과 논리 만료 시각(expiresAtMillis)을 보관한다.
+     */
+    record CachedDetail(
+        ProductQuery.ProductDetailResult result,
+        long computeMillis,
+        long expiresAtMillis
+    ) {
+        public static CachedDetail of(ProductQuery.ProductDetailResult result, long computeMillis, Duration ttl) {
+            return new CachedDetail(result, computeMillis, System.currentTimeMillis() + ttl.toMillis());
+        }
+        
+        /**
+         * 캐시에서 따로 갱신되는 좋아요 수/재고를 반영한다. null 인 값은 기존 값을 유지한다.
+         */
+        public CachedDetail withCounters(Integer likeCount, Integer stock) {
+            ProductQuery.ProductDetailResult patched = new ProductQuery.ProductDetailResult(
+                result.id(),
+                result.name(),
+                result.description(),
+                result.price(),
+                stock != null ? stock : result.stock(),
+                result.brand(),
+                likeCount != null ? likeCount : result.likeCount(),
+                result.ranking()
+            );
+            return new CachedDetail(patched, computeMillis, expiresAtMillis);
+        }
+        
+        /**
+         * XFetch(확률적 조기 갱신): now - computeMillis * beta * ln(random) >= expiresAtMillis 이면 갱신한다.
+         * 재계산 비용이 클수록, 만료가 가까울수록 갱신 확률이 높아진다.
+         */
+        public boolean shouldRefreshEarly(long nowMillis, double beta, double random) {
+            return nowMillis - computeMillis * beta * Math.log(random) >= expiresAtMillis;
+        }
+        
+        /**
+         * L1 은 Redis 에서 읽은 시점부터 따로 TTL 을 세므로, 논리 만료가 지난 값이 남아 있을 수 있다.
+         */
+        public boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+    
+    /**
+     * 캐시 미스면 cachedDetail 이, 랭킹에 없으면 rank 가 null 이다.
+     */
+    record RankedDetail(
+        CachedDetail cachedDetail,
+        Long rank
+    ) {}
+    
+    /**
+     * 삭제되지 않은 상품/브랜드 기준 전체 개수와 집계 시각.
+     */
+    record CachedCount(
+        long count,
+        long countedAtMillis
+    ) {
+        public static CachedCount of(long count) {
+            return new CachedCount(count, System.currentTimeMillis());
+        }
+        
+        public boolean isFresh(long nowMillis, Duration freshness) {
+            return nowMillis - countedAtMillis < freshness.toMillis();
+        }
+    }
 }
@@ -6,15 +6,43 @@ import org.springframework.data.domain.Pageable;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 public interface ProductQueryRepository {
     
     Page<ProductQueryData> findProducts(Long brandId, ProductSortType sortType, Pageable pageable);
     
+    /**
+     * 전체 개수는 totalCountSupplier 로 구한다. 첫 페이지가 페이지 크기보다 작거나 마지막 페이지라
+     * 조회 결과만으로 전체 개수를 알 수 있으면 supplier 를 호출하지 않는다.
+     */
+    Page<ProductQueryData> findProducts(Long brandId, ProductSortType sortType, Pageable pageable, LongSupplier totalCountSupplier);
+    
+    long countProducts(Long brandId);
+    
+    /**
+     * 커서 이후의 상품을 size 만큼 조회한다. OFFSET 대신 (정렬 값, ID) seek 조건을 사용하므로
+     * 페이지 깊이와 무관하게 인덱스 범위 스캔으로 처리된다. cursor 가 null 이면 첫 페이지를 조회한다.
+     */
+    ProductSliceData findProductsByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int size);
+    
     Optional<ProductDetailQueryData> findProductDetailById(Long productId);
     
     List<ProductQueryData> findProductsByIds(List<Long> productIds);
     
+    List<ProductDetailQueryData> findProductDetailsByIds(List<Long> productIds);
+    
+    /**
+     * 조회 가능한(삭제되지 않은 상품/브랜드) 상품 ID 를 afterId 이후부터 ID 순으로 limit 만큼 조회한다.
+     */
+    List<Long> findActiveProductIds(Long afterId, int limit);
+    
+    /**
+     * 사용자가 좋아요한 상품을 최근 좋아요 순으로 조회한다. likes (user_id, id) 인덱스로 좋아요 ID 를 seek 하고
+     * 같은 쿼리에서 상품/브랜드를 조인해 엔티티 없이 프로젝션만 읽는다. cursorLikeId 가 null 이면 첫 페이지를 조회한다.
+     */
+    LikedProductSliceData findLikedProducts(Long userId, Long cursorLikeId, int size);
+    
     record ProductQueryData(
         Long id,
         String name,
@@ -26,6 +54,24 @@ public interface ProductQueryRepository {
         Integer likeCount
     ) {}
     
+    record ProductSliceData(
+        List<ProductQueryData> content,
+        ProductCursor nextCursor
+    ) {
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+    
+    record LikedProductSliceData(
+        List<ProductQueryData> content,
+        Long nextCursor
+    ) {
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+    }
+    
     record ProductDetailQueryData(
         Long id,
         String name,
@@ -0,0 +1,104 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.StockBucketService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 최근 차감/복구된 버킷이 있는 상품만 골라 버킷의 누적 증감을 product.stock 에 더한다.
+ * 버킷 모드가 꺼져 있으면 합산 대신 남은 버킷을 상품 행에 합쳐 지우고, 한 번 모두 합친 뒤에는 조회도 하지 않는다.
+ */
+@Component
+@Slf4j
+public class StockBucketRollUpScheduler {
+
+    // 버킷 갱신 시각은 DB 시계 기준이므로 노드와의 시각 차이를 감안해 조금 겹쳐서 조회한다
+    private static final Duration ROLLUP_OVERLAP = Duration.ofMinutes(1);
+
+    private final StockBucketService stockBucketService;
+
+    private ZonedDateTime lastRollupStartedAt = ZonedDateTime.ofInstant(Instant.EPOCH, ZoneOffset.UTC);
+
+    // 꺼진 상태에서는 새 버킷이 생기지 않으므로, 한 번 모두 합친 뒤에는 매 주기 DISTINCT 조회를 하지 않는다
+    private volatile boolean mergedBack;
+
+    @Autowired
+    public StockBucketRollUpScheduler(StockBucketService stockBucketService) {
+        this.stockBucketService = stockBucketService;
+    }
+
+    @Scheduled(fixedDelayString = "${stock-bucket.rollup-interval-millis:1000}")
+    public void rollUp() {
+        if (!stockBucketService.isEnabled()) {
+            if (!mergedBack) {
+                mergedBack = mergeBack();
+            }
+            return;
+        }
+        mergedBack = false;
+
+        ZonedDateTime startedAt = ZonedDateTime.now(ZoneOffset.UTC);
+
+        List<Long> productIds;
+        try {
+            productIds = stockBucketService.findProductIdsUpdatedSince(lastRollupStartedAt.minus(ROLLUP_OVERLAP));
+        } catch (Exception e) {
+            log.warn("재고 버킷 갱신 상품 조회 실패 - 원인: {}", e.getMessage());
+            return;
+        }
+
+        boolean allSucceeded = true;
+        for (Long productId : productIds) {
+            try {
+                stockBucketService.rollUp(productId);
+            } catch (Exception e) {
+                allSucceeded = false;
+                log.error("재고 버킷 합산 실패 - productId: {}", productId, e);
+            }
+        }
+
+        // 실패한 상품이 있으면 다음 주기에 같은 구간을 다시 조회한다
+        if (allSucceeded) {
+            lastRollupStartedAt = startedAt;
+        }
+    }
+
+    /**
+     * @return 남은 버킷을 모두 합쳤으면 true
+     */
+    private boolean mergeBack() {
+        List<Long> productIds;
+        try {
+            productIds = stockBucketService.findAllBucketedProductIds();
+        } catch (Exception e) {
+            log.warn("재고 버킷 상품 조회 실패 - 원인: {}", e.getMessage());
+            return false;
+        }
+
+        boolean allSucceeded = true;
+        for (Long productId : productIds) {
+            try {
+                stockBucketService.mergeBack(productId);
+                log.info("버킷 모드 꺼짐, 재고 버킷을 상품 행에 합침 - productId: {}", productId);
+            } catch (Exception e) {
+                allSucceeded = false;
+                log.error("재고 버킷 합치기 실패, 다음 주기에 재시도 - productId: {}", productId, e);
+            }
+        }
+        return allSucceeded;
+    }
+
+    @PreDestroy
+    void rollUpOnShutdown() {
+        rollUp();
+    }
+}
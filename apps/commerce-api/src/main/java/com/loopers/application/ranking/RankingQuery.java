@@ -1,5 +1,6 @@
 package com.loopers.application.ranking;
 
+import com.loopers.application.like.LikeQuery;
 import com.loopers.application.product.ProductQueryRepository;
 import com.loopers.domain.ranking.RankingService;
 import lombok.extern.slf4j.Slf4j;
@@ -20,14 +21,25 @@ public class RankingQuery {
     
     private final RankingService rankingService;
     private final ProductQueryRepository productQueryRepository;
+    private final LikeQuery likeQuery;
 
     @Autowired
-    public RankingQuery(RankingService rankingService, ProductQueryRepository productQueryRepository) {
+    public RankingQuery(RankingService rankingService,
+                        ProductQueryRepository productQueryRepository,
+                        LikeQuery likeQuery) {
         this.rankingService = rankingService;
         this.productQueryRepository = productQueryRepository;
+        this.likeQuery = likeQuery;
     }
 
     public RankingPageResult getRankings(String dateStr, int page, int size) {
+        return getRankings(dateStr, page, size, null);
+    }
+
+    /**
+     * accountId 가 있으면 각 순위 항목에 좋아요 여부를 붙인다. 페이지 단위로 한 번만 조회한다.
+     */
+    public RankingPageResult getRankings(String dateStr, int page, int size, String accountId) {
         LocalDate date = parseDate(dateStr);
         
         // Redis에서 순서가 보장된 랭킹 데이터 조회
@@ -61,6 +73,11 @@ public class RankingQuery {
                                 product -> product
                         ));
         
+        // 로그인 사용자라면 페이지 상품의 좋아요 여부를 한 번에 조회
+        Set<Long> likedProductIds = accountId == null
+                ? Collections.emptySet()
+                : likeQuery.findLikedProductIds(accountId, productIdsForDbQuery);
+        
         // 페이징에 따른 시작 순위 계산
         long startRank = (long) page * size + 1;
 
@@ -82,7 +99,8 @@ public class RankingQuery {
                             productInfo.brandId(),
                             productInfo.brandName(),
                             productInfo.likeCount(),
-                            roundScore(redisRankingEntry.getScore())
+                            roundScore(redisRankingEntry.getScore()),
+                            accountId == null ? null : likedProductIds.contains(productId)
                     ));
                 }
             }
@@ -142,6 +160,7 @@ public class RankingQuery {
             Long brandId,
             String brandName,
             Integer likeCount,
-            Double score
+            Double score,
+            Boolean liked
     ) {}
 }
@@ -11,7 +11,8 @@ import lombok.Getter;
 @Table(name = "likes", 
        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "target_type", "target_id"}),
        indexes = {
-           @Index(name = "idx_like_target", columnList = "target_type, target_id")
+           @Index(name = "idx_like_target", columnList = "target_type, target_id"),
+           @Index(name = "idx_like_user_id", columnList = "user_id, id")
        })
 @Getter
 public class Like extends BaseEntity {
@@ -3,16 +3,33 @@ package com.loopers.domain.like;
 import com.loopers.domain.user.User;
 
 import java.util.List;
+import java.util.Set;
 
 public interface LikeRepository {
 
     Like save(Like like);
 
-    boolean existsByUserAndTarget(User user, TargetType targetType, Long targetId);
+    /**
+     * (user_id, target_type, target_id) 유니크 키에 맡겨 한 문장으로 저장한다. 이미 있으면 0 을 반환한다.
+     */
+    int insertIfAbsent(Long userId, TargetType targetType, Long targetId);
 
-    int deleteByUserAndTarget(User user, TargetType targetType, Long targetId);
+    /**
+     * 엔티티를 읽지 않고 한 문장으로 삭제한다. 삭제된 행 수를 반환한다.
+     */
+    int deleteByUserIdAndTarget(Long userId, TargetType targetType, Long targetId);
 
     List<Like> findByUser(User user);
 
     long countByTarget(TargetType targetType, Long targetId);
+
+    /**
+     * 주어진 대상 중 사용자가 좋아요한 대상 ID. (user_id, target_type, target_id) 유니크 인덱스만으로 조회한다.
+     */
+    Set<Long> findLikedTargetIds(Long userId, TargetType targetType, List<Long> targetIds);
+
+    /**
+     * 사용자가 좋아요한 대상 ID 를 최대 limit 개 조회한다.
+     */
+    List<Long> findTargetIds(Long userId, TargetType targetType, int limit);
 }
@@ -1,11 +1,12 @@
 package com.loopers.domain.like;
 
-import com.loopers.domain.user.User;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
+
 @Service
 public class LikeService {
 
@@ -16,24 +17,26 @@ public class LikeService {
         this.likeRepository = likeRepository;
     }
 
+    /**
+     * 조회 후 저장 대신 유니크 키에 맡긴 한 문장으로 저장한다. 동시에 같은 좋아요가 들어와도 한 요청만 true 를 받는다.
+     */
     @Transactional
-    public boolean createLike(User user, Target target) {
-        try {
-            if (likeRepository.existsByUserAndTarget(user, target.getType(), target.getId())) {
-                return false;
-            }
-            
-            Like like = Like.of(user, target);
-            likeRepository.save(like);
-
-            return true;
-        } catch (DataIntegrityViolationException e) {
-            return false;
-        }
+    public boolean createLike(Long userId, Target target) {
+        return likeRepository.insertIfAbsent(userId, target.getType(), target.getId()) > 0;
     }
 
     @Transactional
-    public boolean cancelLike(User user, Target target) {
-        return likeRepository.deleteByUserAndTarget(user, target.getType(), target.getId()) > 0;
+    public boolean cancelLike(Long userId, Target target) {
+        return likeRepository.deleteByUserIdAndTarget(userId, target.getType(), target.getId()) > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedTargetIds(Long userId, TargetType targetType, List<Long> targetIds) {
+        return likeRepository.findLikedTargetIds(userId, targetType, targetIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findTargetIds(Long userId, TargetType targetType, int limit) {
+        return likeRepository.findTargetIds(userId, targetType, limit);
     }
 }
@@ -0,0 +1,126 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.payment.PaymentDetails;
+import com.loopers.domain.payment.PaymentMethod;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 비동기로 접수된 주문 요청. 요청 스레드는 이 행만 저장하고 바로 응답하며,
+ * OrderIntakeWorker 가 접수 순서대로 꺼내 실제 주문을 생성한다.
+ * 카드 번호는 DB 에 남기지 않는다. 접수 시 토큰별로 Redis 에 짧게 보관하고, 처리할 때 toCommand 로 넘겨받는다.
+ */
+@Entity
+@Table(name = "order_intake",
+       uniqueConstraints = @UniqueConstraint(name = "uk_order_intake_token", columnNames = "token"),
+       indexes = {
+           @Index(name = "idx_order_intake_status", columnList = "status, id")
+       })
+@Getter
+public class OrderIntake extends BaseEntity {
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 500;
+
+    @Column(nullable = false, length = 36)
+    private String token;
+
+    @Column(nullable = false)
+    private String accountId;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = OrderIntakeItemsConverter.class)
+    private List<OrderCommand.CreateItem> items;
+
+    private Long userCouponId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentMethod paymentMethod;
+
+    private String cardType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OrderIntakeStatus status;
+
+    private Long orderId;
+
+    @Column(length = MAX_FAILURE_REASON_LENGTH)
+    private String failureReason;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    protected OrderIntake() {}
+
+    private OrderIntake(String token, String accountId, OrderCommand.Create command) {
+        this.token = token;
+        this.accountId = accountId;
+        this.items = command.items();
+        this.userCouponId = command.userCouponId();
+        switch (command.paymentDetails()) {
+            case PaymentDetails.Card card -> {
+                this.paymentMethod = PaymentMethod.CARD;
+                this.cardType = card.cardType();
+            }
+            case PaymentDetails.Point point -> this.paymentMethod = PaymentMethod.POINT;
+        }
+        this.status = OrderIntakeStatus.PENDING;
+        this.attempts = 0;
+    }
+
+    public static OrderIntake create(String token, String accountId, OrderCommand.Create command) {
+        return new OrderIntake(token, accountId, command);
+    }
+
+    public boolean isCardPayment() {
+        return this.paymentMethod == PaymentMethod.CARD;
+    }
+
+    /**
+     * @param cardNo 카드 결제일 때 접수 시 따로 보관한 카드 번호. 포인트 결제면 쓰지 않는다.
+     */
+    public OrderCommand.Create toCommand(String cardNo) {
+        PaymentDetails paymentDetails = switch (paymentMethod) {
+            case CARD -> new PaymentDetails.Card(cardType, cardNo);
+            case POINT -> new PaymentDetails.Point();
+        };
+        return new OrderCommand.Create(items, userCouponId, paymentDetails);
+    }
+
+    public void complete(Long orderId) {
+        this.status = OrderIntakeStatus.COMPLETED;
+        this.orderId = orderId;
+    }
+
+    public void fail(String reason) {
+        this.attempts++;
+        this.status = OrderIntakeStatus.FAILED;
+        this.failureReason = truncate(reason);
+    }
+
+    /**
+     * 일시적인 오류로 처리하지 못한 경우 다시 대기시키고, 시도 횟수를 다 쓰면 실패로 끝낸다.
+     */
+    public void retryOrFail(String reason, int maxAttempts) {
+        this.attempts++;
+        if (this.attempts >= maxAttempts) {
+            this.status = OrderIntakeStatus.FAILED;
+            this.failureReason = truncate(reason);
+        }
+    }
+
+    public boolean isPending() {
+        return this.status == OrderIntakeStatus.PENDING;
+    }
+
+    private String truncate(String reason) {
+        if (reason == null || reason.length() <= MAX_FAILURE_REASON_LENGTH) {
+            return reason;
+        }
+        return reason.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,17 @@
+package com.loopers.domain.order;
+
+import java.util.Optional;
+
+public interface OrderIntakeRepository {
+
+    OrderIntake save(OrderIntake orderIntake);
+
+    Optional<OrderIntake> findById(Long id);
+
+    Optional<OrderIntake> findByToken(String token);
+
+    /**
+     * 가장 먼저 접수된 대기 건을 잠근다. 다른 워커가 잠근 행은 건너뛰므로(SKIP LOCKED) 워커끼리 기다리지 않는다.
+     */
+    Optional<OrderIntake> findNextPendingForUpdate();
+}
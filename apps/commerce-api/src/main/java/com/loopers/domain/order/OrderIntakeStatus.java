@@ -0,0 +1,7 @@
+package com.loopers.domain.order;
+
+public enum OrderIntakeStatus {
+    PENDING,    // 접수되어 처리 대기 중
+    COMPLETED,  // 주문 생성 완료
+    FAILED      // 주문 생성 실패 (재고 부족, 쿠폰 오류 등)
+}
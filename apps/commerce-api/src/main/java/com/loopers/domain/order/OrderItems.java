@@ -1,12 +1,11 @@
 package com.loopers.domain.order;
 
-import com.loopers.domain.product.Product;
+import com.loopers.domain.product.Products;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 
 import java.math.BigDecimal;
 import java.util.*;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class OrderItems {
@@ -43,30 +42,18 @@ public class OrderItems {
         return items.size();
     }
 
-    public void validateStockAvailability(List<Product> products) {
-        this.items.forEach(orderItem -> {
-            Product product = Product.findById(products, orderItem.productId());
-            product.validateStockAvailability(orderItem.quantity());
-        });
+    public void validateStockAvailability(Products products) {
+        this.items.forEach(orderItem ->
+                products.get(orderItem.productId()).validateStockAvailability(orderItem.quantity()));
     }
 
-    public static OrderItems create(List<OrderCommand.CreateItem> commandItems, List<Product> products) {
-        Map<Long, Product> productMap = products.stream()
-                .collect(Collectors.toMap(Product::getId, Function.identity()));
-        
+    public static OrderItems create(List<OrderCommand.CreateItem> commandItems, Products products) {
         List<OrderItem> orderItemList = commandItems.stream()
-                .map(item -> {
-                    Product product = productMap.get(item.productId());
-                    if (product == null) {
-                        throw new CoreException(ErrorType.NOT_FOUND, 
-                                "상품을 찾을 수 없습니다. ID: " + item.productId());
-                    }
-                    return new OrderItem(
-                            item.productId(),
-                            item.quantity(),
-                            product.getPrice()
-                    );
-                })
+                .map(item -> new OrderItem(
+                        item.productId(),
+                        item.quantity(),
+                        products.get(item.productId()).getPrice()
+                ))
                 .toList();
         
         return OrderItems.from(orderItemList);
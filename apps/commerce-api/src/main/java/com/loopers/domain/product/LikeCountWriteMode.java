@@ -0,0 +1,30 @@
+package com.loopers.domain.product;
+
+import lombok.Getter;
+
+@Getter
+public enum LikeCountWriteMode {
+    DIRECT("direct"),       // 상품 행을 잠그고 즉시 반영
+    BUFFERED("buffered"),   // Redis 에 누적 후 주기적으로 일괄 반영
+    SHARDED("sharded");     // 상품별 N 개 카운터 행 중 하나에 누적 후 주기적으로 합산
+
+    private final String value;
+
+    LikeCountWriteMode(String value) {
+        this.value = value;
+    }
+
+    public static LikeCountWriteMode from(String value) {
+        if (value == null) {
+            return DIRECT;
+        }
+
+        for (LikeCountWriteMode mode : values()) {
+            if (mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+
+        return DIRECT; // 기본값
+    }
+}
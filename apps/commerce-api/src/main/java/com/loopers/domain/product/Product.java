@@ -8,7 +8,6 @@ import jakarta.persistence.*;
 import lombok.Getter;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 @Entity
 @Table(name = "product", indexes = {
@@ -103,13 +102,6 @@ public class Product extends BaseEntity {
         }
     }
 
-    public static Product findById(List<Product> products, Long productId) {
-        return products.stream()
-                .filter(product -> product.getId().equals(productId))
-                .findFirst()
-                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다. 상품 ID: " + productId));
-    }
-
     private static void validateQuantity(int quantity) {
         if (quantity <= 0) {
             throw new CoreException(ErrorType.INVALID_INPUT_FORMAT, "차감할 수량은 1개 이상이어야 합니다.");
@@ -0,0 +1,199 @@
+package com.loopers.domain.product;
+
+import com.loopers.config.redis.RedisConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상품별 좋아요 수 증감을 DB 에 반영하기 전까지 Redis 에 누적한다.
+ * 누적값이 있는 상품 ID 는 별도 Set 에 모아 두고, 반영 시 상품 단위로 원자적으로 꺼낸다.
+ * 꺼낸 값은 DB 반영이 끝날 때까지 반영 중 키에 남겨 두어, 그 사이 캐시를 다시 적재해도 좋아요 수가 빠지지 않는다.
+ */
+@Slf4j
+@Component
+public class ProductLikeCountBuffer {
+
+    private static final String PENDING_KEY_PREFIX = "product:like-count:pending:";
+    private static final String DIRTY_KEY = "product:like-count:dirty";
+    private static final String FLUSHING_KEY_PREFIX = "product:like-count:flushing:";
+
+    // 반영 도중 노드가 죽으면 반영 여부를 알 수 없으므로, 이 시간이 지나면 반영 중 값은 더하지 않는다
+    private static final Duration FLUSHING_TTL = Duration.ofMinutes(1);
+
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "local value = redis.call('incrby', KEYS[1], ARGV[1]) " +
+            "redis.call('sadd', KEYS[2], ARGV[2]) " +
+            "return value",
+            Long.class
+    );
+
+    // 누적값을 읽고 지우는 사이에 들어온 증감이 유실되지 않도록 한 스크립트에서 처리한다
+    // 꺼낸 값은 반영 중 키로 옮겨 DB 반영 전까지 조회에 포함되게 한다
+    private static final RedisScript<Long> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('srem', KEYS[2], ARGV[1]) " +
+            "local value = redis.call('get', KEYS[1]) " +
+            "if not value then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('del', KEYS[1]) " +
+            "redis.call('incrby', KEYS[3], value) " +
+            "redis.call('pexpire', KEYS[3], ARGV[2]) " +
+            "return tonumber(value)",
+            Long.class
+    );
+
+    // 만료된 키를 TTL 없이 되살리지 않도록 있는 키만 줄인다
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then " +
+            "  return 0 " +
+            "end " +
+            "local value = redis.call('decrby', KEYS[1], ARGV[1]) " +
+            "if value == 0 then " +
+            "  redis.call('del', KEYS[1]) " +
+            "end " +
+            "return value",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ProductLikeCounterRepository likeCounterRepository;
+
+    @Value("${like-count.write-mode:direct}")
+    private String likeCountWriteMode;
+
+    @Autowired
+    public ProductLikeCountBuffer(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+                                  ProductLikeCounterRepository likeCounterRepository) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.likeCounterRepository = likeCounterRepository;
+    }
+
+    /**
+     * @return Redis 장애로 누적하지 못하면 false
+     */
+    public boolean add(Long productId, int delta) {
+        try {
+            masterRedisTemplate.execute(
+                    ADD_SCRIPT,
+                    List.of(buildPendingKey(productId), DIRTY_KEY),
+                    String.valueOf(delta),
+                    productId.toString()
+            );
+            return true;
+        } catch (Exception e) {
+            log.warn("좋아요 수 누적 실패 - productId: {}, delta: {}, 원인: {}", productId, delta, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 아직 product.like_count 에 반영되지 않은 증감.
+     * Redis 누적값, 꺼냈지만 DB 반영이 끝나지 않은 값, 샤드 카운터 누적값을 더한다.
+     * direct 모드는 즉시 반영하므로 조회하지 않고, 샤드 카운터는 sharded 모드에서만 조회한다.
+     * sharded 모드에서도 전환 전에 쌓인 Redis 누적값이 반영될 때까지는 함께 더한다.
+     * 누적값이 없는 상품은 결과에서 제외된다.
+     */
+    public Map<Long, Long> getPendingDeltas(List<Long> productIds) {
+        LikeCountWriteMode writeMode = LikeCountWriteMode.from(likeCountWriteMode);
+        if (productIds.isEmpty() || writeMode == LikeCountWriteMode.DIRECT) {
+            return Map.of();
+        }
+
+        Map<Long, Long> result = new HashMap<>();
+        try {
+            List<String> keys = new ArrayList<>();
+            productIds.forEach(productId -> keys.add(buildPendingKey(productId)));
+            productIds.forEach(productId -> keys.add(buildFlushingKey(productId)));
+            List<String> values = masterRedisTemplate.opsForValue().multiGet(keys);
+
+            for (int i = 0; values != null && i < keys.size(); i++) {
+                String value = values.get(i);
+                if (value != null) {
+                    result.merge(productIds.get(i % productIds.size()), Long.parseLong(value), Long::sum);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("좋아요 수 누적값 조회 실패 - size: {}, 원인: {}", productIds.size(), e.getMessage());
+        }
+
+        if (writeMode == LikeCountWriteMode.SHARDED) {
+            for (ProductLikeCounter counter : likeCounterRepository.findPendingByProductIds(productIds)) {
+                result.merge(counter.getProductId(), counter.getLikeCount().longValue(), Long::sum);
+            }
+        }
+
+        result.values().removeIf(delta -> delta == 0);
+        return result;
+    }
+
+    /**
+     * 누적값이 있는 상품을 최대 limit 개 꺼내고 Redis 에서는 지운다.
+     */
+    public Map<Long, Integer> drain(int limit) {
+        Set<String> productIds = masterRedisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, limit);
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> drained = new HashMap<>();
+        for (String productId : productIds) {
+            Long delta = masterRedisTemplate.execute(
+                    DRAIN_SCRIPT,
+                    List.of(PENDING_KEY_PREFIX + productId, DIRTY_KEY, FLUSHING_KEY_PREFIX + productId),
+                    productId,
+                    String.valueOf(FLUSHING_TTL.toMillis())
+            );
+            if (delta != null && delta != 0) {
+                drained.put(Long.valueOf(productId), delta.intValue());
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * DB 반영이 커밋된 뒤 호출해 반영 중 값을 지운다.
+     * 커밋과 이 호출 사이(Redis 호출 한 번)에 적재된 캐시만 그만큼 많게 보일 수 있다.
+     */
+    public void complete(Map<Long, Integer> deltas) {
+        deltas.forEach((productId, delta) -> {
+            try {
+                masterRedisTemplate.execute(COMPLETE_SCRIPT, List.of(buildFlushingKey(productId)), String.valueOf(delta));
+            } catch (Exception e) {
+                log.warn("좋아요 수 반영 중 값 정리 실패, TTL 후 사라짐 - productId: {}, 원인: {}", productId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * DB 반영에 실패한 누적값을 다시 쌓아 다음 반영 때 처리되게 한다.
+     */
+    public void restore(Map<Long, Integer> deltas) {
+        deltas.forEach((productId, delta) -> {
+            if (!add(productId, delta)) {
+                log.error("좋아요 수 누적값 복구 실패 - productId: {}, delta: {}", productId, delta);
+            }
+        });
+        complete(deltas);
+    }
+
+    private String buildPendingKey(Long productId) {
+        return PENDING_KEY_PREFIX + productId;
+    }
+
+    private String buildFlushingKey(Long productId) {
+        return FLUSHING_KEY_PREFIX + productId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 상품 좋아요 수를 여러 행(샤드)에 나눠 누적한다.
+ * 좋아요는 임의의 샤드 하나만 갱신하므로 인기 상품에서도 한 행에 쓰기가 몰리지 않는다.
+ * 누적값은 주기적으로 product.like_count 에 합산되고 0 으로 초기화된다.
+ */
+@Entity
+@Table(name = "product_like_counter",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "shard_no"}),
+       indexes = {
+           @Index(name = "idx_product_like_counter_updated", columnList = "updated_at")
+       })
+@Getter
+public class ProductLikeCounter extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    // 취소가 다른 샤드에 반영될 수 있어 샤드 단위로는 음수가 될 수 있다
+    @Column(name = "like_count", nullable = false)
+    private Integer likeCount;
+
+    protected ProductLikeCounter() {}
+
+    /**
+     * 누적값을 꺼내고 0 으로 되돌린다.
+     */
+    public int drain() {
+        int drained = this.likeCount;
+        this.likeCount = 0;
+        return drained;
+    }
+}
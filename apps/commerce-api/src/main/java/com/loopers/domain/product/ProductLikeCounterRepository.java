@@ -0,0 +1,22 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductLikeCounterRepository {
+
+    /**
+     * 샤드 행이 없으면 만들고, 있으면 누적값에 더한다. (단일 INSERT ... ON DUPLICATE KEY UPDATE)
+     */
+    void increment(Long productId, int shardNo, int delta);
+
+    List<Long> findProductIdsUpdatedSince(ZonedDateTime since);
+
+    List<ProductLikeCounter> findByProductIdWithLock(Long productId);
+
+    /**
+     * 아직 product.like_count 에 합산되지 않은(누적값이 0 이 아닌) 샤드 행
+     */
+    List<ProductLikeCounter> findPendingByProductIds(Collection<Long> productIds);
+}
@@ -1,5 +1,7 @@
 package com.loopers.domain.product;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository {
@@ -8,5 +10,28 @@ public interface ProductRepository {
 
     Optional<Product> findByIdWithLock(Long id);
 
+    /**
+     * 여러 상품을 한 번의 SELECT ... FOR UPDATE 로 잠근다. 행은 항상 ID 오름차순으로 잠기고 반환된다.
+     */
+    List<Product> findAllByIdsWithLock(Collection<Long> ids);
+
+    List<Product> findAllByIds(Collection<Long> ids);
+
     Product save(Product product);
+
+    List<Product> saveAll(List<Product> products);
+
+    /**
+     * 행을 읽지 않고 UPDATE 한 번으로 좋아요 수를 증감한다. 0 아래로는 내려가지 않는다.
+     *
+     * @return 갱신된 행 수
+     */
+    int addLikeCount(Long id, int delta);
+
+    /**
+     * 행을 읽지 않고 UPDATE 한 번으로 재고를 증감한다. 버킷에 누적된 증감을 product.stock 에 합산할 때 쓴다.
+     *
+     * @return 갱신된 행 수
+     */
+    int addStock(Long id, int delta);
 }
@@ -4,20 +4,37 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Service
 @Slf4j
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductLikeCountBuffer likeCountBuffer;
+    private final ProductLikeCounterRepository likeCounterRepository;
+
+    @Value("${like-count.write-mode:direct}")
+    private String likeCountWriteMode;
+
+    @Value("${like-count.shard-count:16}")
+    private int likeCountShardCount;
 
     @Autowired
-    public ProductService(ProductRepository productRepository) {
+    public ProductService(ProductRepository productRepository,
+                          ProductLikeCountBuffer likeCountBuffer,
+                          ProductLikeCounterRepository likeCounterRepository) {
         this.productRepository = productRepository;
+        this.likeCountBuffer = likeCountBuffer;
+        this.likeCounterRepository = likeCounterRepository;
     }
 
     /**
@@ -31,21 +48,42 @@ public class ProductService {
         );
     }
 
+    /**
+     * IN 조회 한 번으로 가져오고, 없는 상품이 있으면 그 ID 들을 모두 담아 예외를 던진다.
+     */
     @Transactional(readOnly = true)
-    public List<Product> findProductsByIds(List<Long> productIds) {
-        List<Product> products = productIds.stream()
-                .map(this::findById)
+    public Products findProductsByIds(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Products.from(List.of());
+        }
+
+        List<Long> distinctIds = productIds.stream()
+                .distinct()
                 .toList();
+        Products found = Products.from(productRepository.findAllByIds(distinctIds));
 
-        if (products.size() != productIds.size()) {
-            throw new CoreException(ErrorType.NOT_FOUND, "일부 상품을 찾을 수 없습니다.");
+        List<Long> missingIds = distinctIds.stream()
+                .filter(productId -> !found.contains(productId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "일부 상품을 찾을 수 없습니다. 상품 ID: " + missingIds);
         }
 
-        return products;
+        // 요청한 ID 순서를 유지한다
+        return Products.from(distinctIds.stream().map(found::get).toList());
     }
 
     @Transactional
     public void increaseLikeCount(Long productId) {
+        LikeCountWriteMode writeMode = LikeCountWriteMode.from(likeCountWriteMode);
+        if (writeMode == LikeCountWriteMode.SHARDED) {
+            incrementRandomShard(productId, 1);
+            return;
+        }
+        if (writeMode == LikeCountWriteMode.BUFFERED && likeCountBuffer.add(productId, 1)) {
+            return;
+        }
+
         Product product = productRepository.findByIdWithLock(productId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
 
@@ -55,6 +93,15 @@ public class ProductService {
 
     @Transactional
     public void decreaseLikeCount(Long productId) {
+        LikeCountWriteMode writeMode = LikeCountWriteMode.from(likeCountWriteMode);
+        if (writeMode == LikeCountWriteMode.SHARDED) {
+            incrementRandomShard(productId, -1);
+            return;
+        }
+        if (writeMode == LikeCountWriteMode.BUFFERED && likeCountBuffer.add(productId, -1)) {
+            return;
+        }
+
         Product product = productRepository.findByIdWithLock(productId)
                 .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
 
@@ -62,4 +109,67 @@ public class ProductService {
         productRepository.save(product);
     }
 
+    /**
+     * 여러 건을 합친 좋아요 순증감을 쓰기 모드에 맞춰 한 번에 반영한다.
+     * direct 모드에서도 행 잠금 없이 원자적 UPDATE 한 문장으로 처리한다.
+     */
+    @Transactional
+    public void addLikeCount(Long productId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        LikeCountWriteMode writeMode = LikeCountWriteMode.from(likeCountWriteMode);
+        if (writeMode == LikeCountWriteMode.SHARDED) {
+            incrementRandomShard(productId, delta);
+            return;
+        }
+        if (writeMode == LikeCountWriteMode.BUFFERED && likeCountBuffer.add(productId, delta)) {
+            return;
+        }
+
+        if (productRepository.addLikeCount(productId, delta) == 0) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * Redis 에 누적된 좋아요 증감을 한 트랜잭션에서 반영한다.
+     * 여러 노드가 동시에 반영해도 교착되지 않도록 상품 ID 순으로 갱신한다.
+     */
+    @Transactional
+    public void applyLikeCountDeltas(Map<Long, Integer> deltas) {
+        new TreeMap<>(deltas).forEach((productId, delta) -> {
+            if (delta != 0 && productRepository.addLikeCount(productId, delta) == 0) {
+                log.warn("좋아요 수 반영 대상 상품 없음 - productId: {}, delta: {}", productId, delta);
+            }
+        });
+    }
+
+    public List<Long> findProductIdsWithLikeCounterUpdatedSince(ZonedDateTime since) {
+        return likeCounterRepository.findProductIdsUpdatedSince(since);
+    }
+
+    /**
+     * 상품의 샤드 누적값을 잠그고 합산해 product.like_count 에 더한 뒤 샤드를 0 으로 되돌린다.
+     * 잠금은 이 상품의 샤드 행에만 짧게 걸리므로 다른 상품의 좋아요는 영향을 받지 않는다.
+     *
+     * @return 반영한 증감
+     */
+    @Transactional
+    public int rollUpLikeCounterShards(Long productId) {
+        int delta = likeCounterRepository.findByProductIdWithLock(productId).stream()
+                .mapToInt(ProductLikeCounter::drain)
+                .sum();
+
+        if (delta != 0) {
+            productRepository.addLikeCount(productId, delta);
+        }
+        return delta;
+    }
+
+    private void incrementRandomShard(Long productId, int delta) {
+        int shardNo = ThreadLocalRandom.current().nextInt(Math.max(1, likeCountShardCount));
+        likeCounterRepository.increment(productId, shardNo, delta);
+    }
 }
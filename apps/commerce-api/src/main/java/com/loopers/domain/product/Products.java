@@ -0,0 +1,47 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 번의 조회로 가져온 상품들을 ID 로 찾을 수 있게 묶는다.
+ * 주문 처리 동안 같은 인스턴스를 넘겨 항목마다 목록을 훑지 않고 바로 찾는다.
+ */
+public class Products {
+    private final Map<Long, Product> productMap;
+
+    private Products(List<Product> products) {
+        this.productMap = new LinkedHashMap<>();
+        products.forEach(product -> this.productMap.put(product.getId(), product));
+    }
+
+    public static Products from(List<Product> products) {
+        return new Products(products);
+    }
+
+    public Product get(Long productId) {
+        Product product = productMap.get(productId);
+        if (product == null) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다. ID: " + productId);
+        }
+        return product;
+    }
+
+    public boolean contains(Long productId) {
+        return productMap.containsKey(productId);
+    }
+
+    public List<Product> toList() {
+        return Collections.unmodifiableList(new ArrayList<>(productMap.values()));
+    }
+
+    public int size() {
+        return productMap.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+
+/**
+ * 인기 상품의 재고를 여러 행(버킷)에 나눠 보관한다.
+ * 주문은 재고가 남은 버킷 하나를 조건부 UPDATE 로 차감하므로 구매자들이 상품 행 하나의 잠금에 줄서지 않는다.
+ * 버킷의 차감/복구는 unrolled_delta 에도 누적되고, 주기적으로 product.stock 에 증감으로 더해진 뒤 0 으로 초기화된다.
+ * 덮어쓰지 않고 증감만 더하므로 버킷 전환 전 예약의 복구처럼 상품 행에 직접 반영된 변경도 그대로 남는다.
+ */
+@Entity
+@Table(name = "stock_bucket",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "bucket_no"}),
+       indexes = {
+           @Index(name = "idx_stock_bucket_updated", columnList = "updated_at")
+       })
+@Getter
+public class StockBucket extends BaseEntity {
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "bucket_no", nullable = false)
+    private Integer bucketNo;
+
+    @Column(name = "stock", nullable = false)
+    private Integer stock;
+
+    // 마지막 합산 이후 이 버킷에서 차감(-)/복구(+)된 수량
+    @Column(name = "unrolled_delta", nullable = false)
+    private Integer unrolledDelta;
+
+    protected StockBucket() {}
+
+    private StockBucket(Long productId, Integer bucketNo, Integer stock) {
+        this.productId = productId;
+        this.bucketNo = bucketNo;
+        this.stock = stock;
+        this.unrolledDelta = 0;
+    }
+
+    public static StockBucket create(Long productId, int bucketNo, int stock) {
+        return new StockBucket(productId, bucketNo, stock);
+    }
+}
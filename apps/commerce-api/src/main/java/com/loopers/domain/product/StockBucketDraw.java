@@ -0,0 +1,10 @@
+package com.loopers.domain.product;
+
+public record StockBucketDraw(
+    Long bucketId,
+    Integer quantity
+) {
+    public static StockBucketDraw of(Long bucketId, Integer quantity) {
+        return new StockBucketDraw(bucketId, quantity);
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.domain.product;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockBucketRepository {
+
+    List<StockBucket> saveAll(List<StockBucket> buckets);
+
+    List<StockBucket> findByProductId(Long productId);
+
+    List<Long> findBucketedProductIds(Collection<Long> productIds);
+
+    List<Long> findAllBucketedProductIds();
+
+    List<StockBucket> findByProductIdWithLock(Long productId);
+
+    /**
+     * 버킷 재고가 수량 이상일 때만 차감한다. (단일 조건부 UPDATE)
+     *
+     * @return 갱신된 행 수. 0 이면 다른 주문이 먼저 가져갔거나 재고가 모자란 것이다.
+     */
+    int claim(Long bucketId, int quantity);
+
+    /**
+     * @return 갱신된 행 수. 0 이면 버킷 모드를 끄면서 버킷이 상품 행으로 합쳐진 것이다.
+     */
+    int restore(Long bucketId, int quantity);
+
+    int resetUnrolledDelta(Long productId);
+
+    int deleteByProductId(Long productId);
+
+    int sumStockByProductId(Long productId);
+
+    List<Long> findProductIdsUpdatedSince(ZonedDateTime since);
+}
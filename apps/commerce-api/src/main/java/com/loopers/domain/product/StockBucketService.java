@@ -0,0 +1,221 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 버킷 재고(stock_bucket)로 전환된 상품의 재고 차감/복구를 담당한다.
+ * stock-bucket.enabled 가 꺼져 있으면 모든 상품이 기존처럼 상품 행 잠금으로 처리되고,
+ * 남아 있는 버킷은 mergeBack 으로 상품 행에 합쳐 지운다. 다시 켜면 splitStock 으로 새로 나눠야 한다.
+ * 버킷으로 나뉜 상품의 주문 가능 수량은 버킷 합계뿐이다. product.stock 에 직접 더한 재입고는 버킷에 나뉘지 않아
+ * 주문에 쓰이지 않으므로, 재입고는 mergeBack 으로 합친 뒤 재고를 바꾸고 splitStock 으로 다시 나눠야 한다.
+ */
+@Component
+public class StockBucketService {
+
+    private final StockBucketRepository stockBucketRepository;
+    private final ProductRepository productRepository;
+
+    @Value("${stock-bucket.enabled:false}")
+    private boolean enabled;
+
+    @Autowired
+    public StockBucketService(StockBucketRepository stockBucketRepository, ProductRepository productRepository) {
+        this.stockBucketRepository = stockBucketRepository;
+        this.productRepository = productRepository;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Set<Long> findBucketedProductIds(Collection<Long> productIds) {
+        if (!enabled || productIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(stockBucketRepository.findBucketedProductIds(productIds));
+    }
+
+    /**
+     * 상품의 현재 재고를 버킷 N 개로 고르게 나눈다. 이후 주문은 상품 행 대신 버킷에서 차감된다.
+     */
+    @Transactional
+    public List<StockBucket> splitStock(Long productId, int bucketCount) {
+        if (bucketCount < 1) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "버킷 수는 1 이상이어야 합니다.");
+        }
+
+        Product product = productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+
+        if (!stockBucketRepository.findByProductId(productId).isEmpty()) {
+            throw new CoreException(ErrorType.CONFLICT, "이미 재고가 버킷으로 나뉜 상품입니다.");
+        }
+
+        int stock = product.getStock();
+        List<StockBucket> buckets = IntStream.range(0, bucketCount)
+                .mapToObj(bucketNo -> StockBucket.create(
+                        productId,
+                        bucketNo,
+                        stock / bucketCount + (bucketNo < stock % bucketCount ? 1 : 0)
+                ))
+                .toList();
+
+        return stockBucketRepository.saveAll(buckets);
+    }
+
+    /**
+     * 버킷에서 수량을 차감한다. 한 버킷으로 채울 수 있으면 그런 버킷 중 임의의 하나를 고르고,
+     * 없으면 bucket_no 순서로 여러 버킷에서 나눠 가져온다.
+     * 모자라면 예외를 던지며, 이미 차감한 버킷은 트랜잭션 롤백으로 되돌아간다.
+     */
+    @Transactional
+    public List<StockBucketDraw> claim(Long productId, int quantity) {
+        List<StockBucket> buckets = stockBucketRepository.findByProductId(productId);
+
+        List<StockBucket> candidates = buckets.stream()
+                .filter(bucket -> bucket.getStock() >= quantity)
+                .collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+
+        for (StockBucket bucket : candidates) {
+            if (stockBucketRepository.claim(bucket.getId(), quantity) > 0) {
+                return List.of(StockBucketDraw.of(bucket.getId(), quantity));
+            }
+        }
+
+        // 조회한 버킷 재고는 참고값이고, 실제 차감 가능 여부는 조건부 UPDATE 가 판단한다
+        List<StockBucketDraw> draws = new ArrayList<>();
+        int remaining = quantity;
+        for (StockBucket bucket : buckets) {
+            int take = Math.min(bucket.getStock(), remaining);
+            if (take <= 0) {
+                continue;
+            }
+            if (stockBucketRepository.claim(bucket.getId(), take) > 0) {
+                draws.add(StockBucketDraw.of(bucket.getId(), take));
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                return draws;
+            }
+        }
+
+        throw new CoreException(ErrorType.INVALID_INPUT_FORMAT,
+                "재고가 부족합니다. 상품 ID: " + productId + ", 요청 수량: " + quantity);
+    }
+
+    /**
+     * 예약이 차감했던 버킷에 수량을 돌려주고 상품별 결과를 반환한다.
+     * 버킷은 ID 순서로 갱신해 동시에 해제되는 주문끼리 데드락이 생기지 않게 한다.
+     */
+    @Transactional
+    public List<StockReservationResult> restore(List<StockReservation> reservations) {
+        Map<Long, Integer> bucketQuantities = reservations.stream()
+                .collect(Collectors.toMap(StockReservation::getBucketId, StockReservation::getQuantity, Integer::sum, TreeMap::new));
+        Map<Long, Long> bucketProductIds = reservations.stream()
+                .collect(Collectors.toMap(StockReservation::getBucketId, StockReservation::getProductId, (a, b) -> a));
+
+        // 버킷이 이미 상품 행으로 합쳐졌으면 상품 행에 돌려준다
+        Map<Long, Integer> mergedQuantities = new TreeMap<>();
+        bucketQuantities.forEach((bucketId, quantity) -> {
+            if (stockBucketRepository.restore(bucketId, quantity) == 0) {
+                mergedQuantities.merge(bucketProductIds.get(bucketId), quantity, Integer::sum);
+            }
+        });
+        mergedQuantities.forEach(productRepository::addStock);
+
+        Map<Long, Integer> productQuantities = reservations.stream()
+                .collect(Collectors.toMap(StockReservation::getProductId, StockReservation::getQuantity, Integer::sum, TreeMap::new));
+
+        return productQuantities.entrySet().stream()
+                .map(entry -> StockReservationResult.of(
+                        entry.getKey(),
+                        entry.getValue(),
+                        sumStock(entry.getKey())
+                ))
+                .toList();
+    }
+
+    /**
+     * 버킷으로 나뉜 상품은 버킷 합계를, 버킷이 상품 행으로 합쳐졌으면 product.stock 을 현재 재고로 돌려준다.
+     */
+    public int sumStock(Long productId) {
+        if (stockBucketRepository.findByProductId(productId).isEmpty()) {
+            return productRepository.findById(productId)
+                    .map(Product::getStock)
+                    .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        }
+        return stockBucketRepository.sumStockByProductId(productId);
+    }
+
+    public List<Long> findAllBucketedProductIds() {
+        return stockBucketRepository.findAllBucketedProductIds();
+    }
+
+    public List<Long> findProductIdsUpdatedSince(ZonedDateTime since) {
+        return stockBucketRepository.findProductIdsUpdatedSince(since);
+    }
+
+    /**
+     * 마지막 합산 이후 버킷에서 차감/복구된 수량을 product.stock 에 더하고 버킷의 누적값을 0 으로 되돌린다.
+     * 버킷 합계로 덮어쓰지 않으므로 상품 행에 직접 반영된 재고 변경을 잃지 않는다.
+     * 예약 해제와 같은 순서(상품 행 → 버킷)로 잠가 서로 교착되지 않게 한다.
+     *
+     * @return 반영한 증감
+     */
+    @Transactional
+    public int rollUp(Long productId) {
+        productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+
+        int delta = drainUnrolledDelta(productId);
+        if (delta != 0) {
+            productRepository.addStock(productId, delta);
+        }
+        return delta;
+    }
+
+    /**
+     * 버킷 모드를 끈 뒤 남은 버킷을 상품 행에 합친다. 누적 증감을 product.stock 에 더하고 버킷을 지우므로,
+     * 이후 이 상품은 상품 행 잠금으로만 처리된다. 아직 해제되지 않은 버킷 예약은 restore 에서 상품 행으로 돌아간다.
+     */
+    @Transactional
+    public void mergeBack(Long productId) {
+        productRepository.findByIdWithLock(productId)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+
+        int delta = drainUnrolledDelta(productId);
+        stockBucketRepository.deleteByProductId(productId);
+        if (delta != 0) {
+            productRepository.addStock(productId, delta);
+        }
+    }
+
+    private int drainUnrolledDelta(Long productId) {
+        int delta = stockBucketRepository.findByProductIdWithLock(productId).stream()
+                .mapToInt(StockBucket::getUnrolledDelta)
+                .sum();
+        if (delta != 0) {
+            stockBucketRepository.resetUnrolledDelta(productId);
+        }
+        return delta;
+    }
+}
@@ -0,0 +1,216 @@
+package com.loopers.domain.product;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주문의 재고를 DB 잠금 전에 Redis 카운터로 먼저 확인하고 차감한다.
+ * 재고가 모자란 주문은 트랜잭션을 열기 전에 거절되어 상품 행 잠금 대기열에 들어가지 않는다.
+ * 카운터는 Product.stock 에서 적재하고 TTL 이 지나면 다시 적재하므로, 어긋나도 TTL 안에서 DB 값으로 맞춰진다.
+ * 카운터가 모자라다고 해도 바로 거절하지 않고 잠금 없이 읽은 DB 재고로 한 번 더 확인한다.
+ * 카운터는 재입고나 누락된 복구로 TTL 동안 실제보다 낮을 수 있기 때문이다.
+ * 최종 판정은 여전히 DB 의 비관적 락이 하며, Redis 장애 시에는 게이트를 건너뛴다.
+ */
+@Slf4j
+@Component
+public class StockGate {
+
+    private static final String KEY_PREFIX = "product:stock-gate:";
+
+    // 주문의 모든 상품을 먼저 확인하고 전부 가능할 때만 차감한다
+    // 반환값: 0 = 차감 성공, i > 0 = i 번째 상품 재고 부족, -i = i 번째 상품 카운터 없음
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "  local available = redis.call('get', KEYS[i]) " +
+            "  if not available then " +
+            "    return -i " +
+            "  end " +
+            "  if tonumber(available) < tonumber(ARGV[i]) then " +
+            "    return i " +
+            "  end " +
+            "end " +
+            "for i = 1, #KEYS do " +
+            "  redis.call('decrby', KEYS[i], ARGV[i]) " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    // 만료된 카운터를 부분 값으로 되살리지 않도록 있는 키만 되돌린다
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #KEYS do " +
+            "  if redis.call('exists', KEYS[i]) == 1 then " +
+            "    redis.call('incrby', KEYS[i], ARGV[i]) " +
+            "  end " +
+            "end " +
+            "return 0",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final ProductRepository productRepository;
+
+    @Value("${stock-gate.enabled:false}")
+    private boolean enabled;
+
+    @Value("${stock-gate.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    @Autowired
+    public StockGate(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+                     ProductRepository productRepository) {
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.productRepository = productRepository;
+    }
+
+    /**
+     * 상품별 수량을 한 번에 확인하고 차감한다. 하나라도 모자라면 아무것도 차감하지 않는다.
+     * 모자란 상품의 DB 재고도 모자라면 예외를 던지고, DB 재고는 충분하면 게이트를 건너뛰어 DB 잠금으로 판정하게 한다.
+     * 0 이하 수량이 있으면 카운터를 건드리지 않고 예외를 던진다.
+     *
+     * @return 게이트에서 차감했으면 true. 꺼져 있거나 Redis 장애, 카운터와 DB 가 어긋나 건너뛰면 false 이며 이때는 release 하지 않는다.
+     */
+    public boolean reserve(Map<Long, Integer> quantities) {
+        if (!enabled || quantities.isEmpty()) {
+            return false;
+        }
+        // 0 이하 수량이 스크립트에 들어가면 차감 대신 카운터를 늘리게 되므로 먼저 거절한다
+        quantities.forEach((productId, quantity) -> {
+            if (quantity == null || quantity <= 0) {
+                throw new CoreException(ErrorType.INVALID_INPUT_FORMAT, "주문 수량은 1개 이상이어야 합니다.");
+            }
+        });
+
+        List<Long> productIds = new ArrayList<>(new TreeMap<>(quantities).keySet());
+        try {
+            // 카운터가 없는 상품은 하나씩 적재하고 다시 시도한다 (상품 수만큼이면 모두 적재된다)
+            long result = executeReserve(productIds, quantities);
+            for (int attempt = 0; result < 0 && attempt < productIds.size(); attempt++) {
+                seed(productIds.get((int) -result - 1));
+                result = executeReserve(productIds, quantities);
+            }
+
+            if (result < 0) {
+                log.warn("재고 게이트 적재 실패, DB 잠금으로 처리 - 상품 수: {}", productIds.size());
+                return false;
+            }
+            if (result > 0) {
+                Long productId = productIds.get((int) result - 1);
+                if (findStock(productId) < quantities.get(productId)) {
+                    throw new CoreException(ErrorType.BAD_REQUEST,
+                            String.format("재고 부족 - 상품 ID: %d, 요청: %d", productId, quantities.get(productId)));
+                }
+
+                // 커밋 전인 주문이 잡고 있는 수량이거나 카운터가 낮게 어긋난 경우다. 어느 쪽인지 알 수 없으므로
+                // 카운터는 고치지 않고 (TTL 후 재적재) 이번 주문만 DB 잠금으로 판정한다
+                log.debug("재고 게이트 카운터 부족하나 DB 재고 충분, DB 잠금으로 처리 - productId: {}", productId);
+                return false;
+            }
+            return true;
+
+        } catch (CoreException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("재고 게이트 확인 실패, DB 잠금으로 처리 - 원인: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(Map<Long, Integer> quantities) {
+        if (!enabled || quantities.isEmpty()) {
+            return;
+        }
+
+        List<Long> productIds = new ArrayList<>(new TreeMap<>(quantities).keySet());
+        try {
+            masterRedisTemplate.execute(RELEASE_SCRIPT, toKeys(productIds), toQuantities(productIds, quantities));
+        } catch (Exception e) {
+            log.warn("재고 게이트 복구 실패, TTL 후 재적재로 맞춰짐 - 상품 수: {}, 원인: {}", productIds.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋되지 않고 끝나면 되돌린다. 바깥 트랜잭션에 합류한 경우에도 최종 결과를 기준으로 한다.
+     * 트랜잭션이 없으면 아무것도 하지 않으므로, 호출하는 쪽이 트랜잭션 안에서 불러야 한다.
+     */
+    public void releaseOnRollback(Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    release(quantities);
+                }
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 트랜잭션이 커밋된 뒤에만 되돌린다. DB 재고 복구가 롤백되면 게이트도 그대로 둔다.
+     */
+    public void releaseAfterCommit(Map<Long, Integer> quantities) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(quantities);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(quantities);
+            }
+        });
+    }
+
+    private long executeReserve(List<Long> productIds, Map<Long, Integer> quantities) {
+        Long result = masterRedisTemplate.execute(RESERVE_SCRIPT, toKeys(productIds), toQuantities(productIds, quantities));
+        if (result == null) {
+            throw new IllegalStateException("재고 게이트 스크립트 결과 없음");
+        }
+        return result;
+    }
+
+    private void seed(Long productId) {
+        // 동시에 적재해도 먼저 들어간 값을 유지한다
+        masterRedisTemplate.opsForValue().setIfAbsent(
+                buildKey(productId), String.valueOf(findStock(productId)), Duration.ofSeconds(ttlSeconds));
+    }
+
+    private int findStock(Long productId) {
+        return productRepository.findById(productId)
+                .map(Product::getStock)
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+    }
+
+    private List<String> toKeys(List<Long> productIds) {
+        return productIds.stream().map(this::buildKey).toList();
+    }
+
+    private Object[] toQuantities(List<Long> productIds, Map<Long, Integer> quantities) {
+        return productIds.stream().map(productId -> String.valueOf(quantities.get(productId))).toArray();
+    }
+
+    private String buildKey(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
@@ -8,7 +8,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,20 +26,23 @@ public class StockManagementService {
     public void decreaseStock(List<Product> products, OrderItems orderItems) {
         Map<Long, Integer> requiredQuantities = orderItems.getProductQuantityMap();
 
-        List<Product> sortedProducts = products.stream()
-                .sorted(Comparator.comparing(Product::getId))
+        List<Long> sortedProductIds = products.stream()
+                .map(Product::getId)
+                .filter(requiredQuantities::containsKey)
+                .distinct()
+                .sorted()
                 .toList();
 
-        for (Product product : sortedProducts) {
-            Integer quantity = requiredQuantities.get(product.getId());
-            if (quantity != null) {
-                Product lockedProduct = productRepository.findByIdWithLock(product.getId())
-                        .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        if (sortedProductIds.isEmpty()) {
+            return;
+        }
 
-                lockedProduct.decreaseStock(quantity);
-                productRepository.save(lockedProduct);
-            }
+        List<Product> lockedProducts = lockProducts(sortedProductIds);
+        for (Product lockedProduct : lockedProducts) {
+            lockedProduct.decreaseStock(requiredQuantities.get(lockedProduct.getId()));
         }
+
+        productRepository.saveAll(lockedProducts);
     }
 
     @Transactional
@@ -51,29 +53,42 @@ public class StockManagementService {
                         Collectors.summingInt(StockReservation::getQuantity)
                 ));
 
-        List<Long> productIds = List.copyOf(productQuantityMap.keySet());
-        List<Long> sortedProductIds = productIds.stream()
+        List<Long> sortedProductIds = productQuantityMap.keySet().stream()
                 .sorted()
                 .toList();
 
+        if (sortedProductIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Product> lockedProducts = lockProducts(sortedProductIds);
         List<StockReservationResult> stockReservationResults = new ArrayList<>();
-        
-        for (Long productId : sortedProductIds) {
-            Integer quantity = productQuantityMap.get(productId);
-            
-            Product lockedProduct = productRepository.findByIdWithLock(productId)
-                    .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
 
+        for (Product lockedProduct : lockedProducts) {
+            Integer quantity = productQuantityMap.get(lockedProduct.getId());
             lockedProduct.increaseStock(quantity);
-            productRepository.save(lockedProduct);
-            
+
             stockReservationResults.add(StockReservationResult.of(
                     lockedProduct.getId(),
                     quantity,
                     lockedProduct.getStock()
             ));
         }
-        
+
+        productRepository.saveAll(lockedProducts);
         return stockReservationResults;
     }
+
+    /**
+     * 필요한 상품 행을 ID 오름차순으로 한 번에 잠근다.
+     * 모든 주문이 같은 순서로 잠그므로 상품 구성이 겹치는 주문끼리 데드락이 생기지 않는다.
+     */
+    private List<Product> lockProducts(List<Long> sortedProductIds) {
+        List<Product> lockedProducts = productRepository.findAllByIdsWithLock(sortedProductIds);
+
+        if (lockedProducts.size() != sortedProductIds.size()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다.");
+        }
+        return lockedProducts;
+    }
 }
@@ -20,6 +20,9 @@ public class StockReservation extends BaseEntity {
     @Column(nullable = false)
     private Integer quantity;
 
+    // 버킷 재고에서 차감한 예약이면 해제 시 돌려줄 버킷, 상품 행에서 차감했으면 null
+    private Long bucketId;
+
     @Enumerated(EnumType.STRING)
     private ReservationStatus status;
 
@@ -28,10 +31,11 @@ public class StockReservation extends BaseEntity {
 
     protected StockReservation() {}
 
-    private StockReservation (Long orderId, Long productId, Integer quantity, ZonedDateTime expiresAt) {
+    private StockReservation (Long orderId, Long productId, Integer quantity, Long bucketId, ZonedDateTime expiresAt) {
         this.orderId = orderId;
         this.productId = productId;
         this.quantity = quantity;
+        this.bucketId = bucketId;
         this.expiresAt = expiresAt;
         this.status = ReservationStatus.RESERVED;
     }
@@ -39,7 +43,17 @@ public class StockReservation extends BaseEntity {
     public static StockReservation create(Long orderId, Long productId, Integer quantity) {
         ZonedDateTime expiresAt = ZonedDateTime.now().plusMinutes(30);
 
-        return new StockReservation(orderId, productId, quantity, expiresAt);
+        return new StockReservation(orderId, productId, quantity, null, expiresAt);
+    }
+
+    public static StockReservation createFromBucket(Long orderId, Long productId, StockBucketDraw draw) {
+        ZonedDateTime expiresAt = ZonedDateTime.now().plusMinutes(30);
+
+        return new StockReservation(orderId, productId, draw.quantity(), draw.bucketId(), expiresAt);
+    }
+
+    public boolean isFromBucket() {
+        return this.bucketId != null;
     }
 
     public void confirm() {
@@ -1,5 +1,6 @@
 package com.loopers.domain.product;
 
+import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderItems;
 import com.loopers.infrastructure.product.StockReservationJpaRepository;
 import com.loopers.support.error.CoreException;
@@ -9,7 +10,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class StockReservationService {
@@ -18,25 +23,40 @@ public class StockReservationService {
     private final StockReservationJpaRepository stockReservationJpaRepository;
     private final StockManagementService stockManagementService;
     private final ProductRepository productRepository;
+    private final StockGate stockGate;
+    private final StockBucketService stockBucketService;
 
     @Autowired
     public StockReservationService(StockReservationRepository stockReservationRepository, 
                                    StockReservationJpaRepository stockReservationJpaRepository, 
                                    StockManagementService stockManagementService,
-                                   ProductRepository productRepository) {
+                                   ProductRepository productRepository,
+                                   StockGate stockGate,
+                                   StockBucketService stockBucketService) {
         this.stockReservationRepository = stockReservationRepository;
         this.stockReservationJpaRepository = stockReservationJpaRepository;
         this.stockManagementService = stockManagementService;
         this.productRepository = productRepository;
+        this.stockGate = stockGate;
+        this.stockBucketService = stockBucketService;
     }
 
     @Transactional
-    public void reserveStock(Long orderId, List<Product> products, OrderItems orderItems) {
-        orderItems.validateStockAvailability(products);
+    public void reserveStock(Long orderId, Products products, OrderItems orderItems) {
+        // 버킷 재고로 전환된 상품은 상품 행을 잠그지 않고 버킷에서 차감한다
+        Set<Long> bucketedProductIds = stockBucketService.findBucketedProductIds(orderItems.getProductQuantityMap().keySet());
+        Map<Boolean, List<OrderItem>> itemsByBucketed = orderItems.getItems().stream()
+                .collect(Collectors.partitioningBy(orderItem -> bucketedProductIds.contains(orderItem.productId())));
 
-        stockManagementService.decreaseStock(products, orderItems);
+        // 버킷 상품의 product.stock 은 합산 전이라 늦을 수 있으므로 상품 행 상품만 미리 확인하고,
+        // 버킷 상품은 claim 의 조건부 차감이 버킷 합계 기준으로 판정한다
+        List<OrderItem> rowItems = itemsByBucketed.get(false);
+        OrderItems.from(rowItems).validateStockAvailability(products);
+        if (!rowItems.isEmpty()) {
+            stockManagementService.decreaseStock(products.toList(), OrderItems.from(rowItems));
+        }
 
-        orderItems.getItems().forEach(orderItem -> {
+        rowItems.forEach(orderItem -> {
             StockReservation reservation = StockReservation.create(
                     orderId,
                     orderItem.productId(),
@@ -45,6 +65,13 @@ public class StockReservationService {
 
             stockReservationRepository.save(reservation);
         });
+
+        // 상품 행과 같은 기준으로 상품 ID 순서대로 차감한다
+        itemsByBucketed.get(true).stream()
+                .sorted(Comparator.comparing(OrderItem::productId))
+                .forEach(orderItem -> stockBucketService.claim(orderItem.productId(), orderItem.quantity())
+                        .forEach(draw -> stockReservationRepository.save(
+                                StockReservation.createFromBucket(orderId, orderItem.productId(), draw))));
     }
 
     @Transactional
@@ -62,13 +89,10 @@ public class StockReservationService {
         
         List<StockReservationResult> stockReservationResults = new ArrayList<>();
         for (StockReservation reservation : reservations) {
-            Product product = productRepository.findById(reservation.getProductId())
-                    .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
-            
             stockReservationResults.add(StockReservationResult.of(
                     reservation.getProductId(),
                     reservation.getQuantity(),
-                    product.getStock()
+                    currentStock(reservation)
             ));
         }
         
@@ -83,13 +107,37 @@ public class StockReservationService {
             return List.of();
         }
 
-        List<StockReservationResult> stockResults = stockManagementService.increaseStock(reservations);
+        Map<Boolean, List<StockReservation>> reservationsByBucket = reservations.stream()
+                .collect(Collectors.partitioningBy(StockReservation::isFromBucket));
+
+        List<StockReservationResult> stockResults = new ArrayList<>();
+        if (!reservationsByBucket.get(false).isEmpty()) {
+            stockResults.addAll(stockManagementService.increaseStock(reservationsByBucket.get(false)));
+        }
+        if (!reservationsByBucket.get(true).isEmpty()) {
+            stockResults.addAll(stockBucketService.restore(reservationsByBucket.get(true)));
+        }
 
         reservations.forEach(reservation -> {
             reservation.release();
             stockReservationJpaRepository.save(reservation);
         });
+
+        // DB 재고 복구가 커밋되면 재고 게이트에도 같은 수량을 돌려준다
+        stockGate.releaseAfterCommit(stockResults.stream()
+                .collect(Collectors.toMap(StockReservationResult::productId, StockReservationResult::reservedQuantity, Integer::sum)));
         
         return stockResults;
     }
+
+    // 버킷에서 차감한 상품은 product.stock 이 합산 전일 수 있어 버킷 합계를 현재 재고로 쓴다
+    private int currentStock(StockReservation reservation) {
+        if (reservation.isFromBucket()) {
+            return stockBucketService.sumStock(reservation.getProductId());
+        }
+
+        Product product = productRepository.findById(reservation.getProductId())
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."));
+        return product.getStock();
+    }
 }
@@ -2,12 +2,17 @@ package com.loopers.domain.ranking;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -62,6 +67,37 @@ public class RankingService {
         }
     }
 
+    /**
+     * 여러 상품의 순위를 ZREVRANK 파이프라인 한 번으로 조회한다. 순위가 없는 상품은 결과에서 제외된다.
+     */
+    public Map<Long, Long> getProductRanks(List<Long> productIds, LocalDate date) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        try {
+            byte[] key = generateKey(date).getBytes(StandardCharsets.UTF_8);
+            
+            List<Object> ranks = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long productId : productIds) {
+                    connection.zSetCommands().zRevRank(key, generateMember(productId).getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+            
+            Map<Long, Long> result = new HashMap<>();
+            for (int i = 0; i < productIds.size(); i++) {
+                if (ranks.get(i) instanceof Long rank) {
+                    result.put(productIds.get(i), rank + 1);
+                }
+            }
+            return result;
+        } catch (RedisConnectionFailureException e) {
+            log.warn("Redis 연결 실패로 상품 순위 일괄 조회 불가 - size: {}", productIds.size());
+            return Map.of();
+        }
+    }
+
     public Long getTotalCount(LocalDate date) {
         try {
             String key = generateKey(date);
@@ -74,11 +110,11 @@ public class RankingService {
         }
     }
     
-    private String generateKey(LocalDate date) {
+    public static String generateKey(LocalDate date) {
         return KEY_PREFIX + date.format(DATE_FORMATTER);
     }
     
-    private String generateMember(Long productId) {
+    public static String generateMember(Long productId) {
         return "product:" + productId;
     }
     
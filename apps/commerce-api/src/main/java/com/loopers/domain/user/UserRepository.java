@@ -12,4 +12,6 @@ public interface UserRepository {
 
     Optional<User> findById(Long id);
 
+    Optional<Long> findIdByAccountId(String accountId);
+
 }
@@ -6,6 +6,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 @Service
 public class UserService {
     
@@ -34,6 +36,24 @@ public class UserService {
         );
     }
 
+    /**
+     * 엔티티를 읽지 않고 식별자만 조회한다. 사용자 ID 만 필요한 쓰기 경로에서 사용한다.
+     */
+    @Transactional(readOnly = true)
+    public Long findIdByAccountId(String accountId) {
+        return userRepository.findIdByAccountId(accountId).orElseThrow(
+                () -> new CoreException(ErrorType.USER_NOT_FOUND, accountId)
+        );
+    }
+
+    /**
+     * 로그인 없이도 볼 수 있는 화면에서 사용한다. 없는 사용자면 예외 대신 empty 를 돌려준다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findOptionalIdByAccountId(String accountId) {
+        return userRepository.findIdByAccountId(accountId);
+    }
+
     public User findById(Long userId) {
         return userRepository.findById(userId).orElseThrow(
                 () -> new CoreException(ErrorType.USER_NOT_FOUND, "존재하지 않는 유저입니다.")
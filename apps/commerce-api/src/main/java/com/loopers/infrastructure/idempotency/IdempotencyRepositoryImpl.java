@@ -0,0 +1,139 @@
+package com.loopers.infrastructure.idempotency;
+
+import com.loopers.application.idempotency.IdempotencyRepository;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class IdempotencyRepositoryImpl implements IdempotencyRepository {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private static final String FINGERPRINT_FIELD = "fingerprint";
+    private static final String OWNER_FIELD = "owner";
+    private static final String RESPONSE_FIELD = "response";
+    private static final String ERROR_TYPE_FIELD = "error-type";
+    private static final String ERROR_MESSAGE_FIELD = "error-message";
+
+    // 차지한 요청의 처리 중 기록(아직 결과가 없는 기록)인지 확인하는 공통 조건
+    private static final String IF_NOT_OWNED_PROCESSING =
+            "if redis.call('hget', KEYS[1], '" + OWNER_FIELD + "') ~= ARGV[1] " +
+            "   or redis.call('hexists', KEYS[1], '" + RESPONSE_FIELD + "') == 1 " +
+            "   or redis.call('hexists', KEYS[1], '" + ERROR_TYPE_FIELD + "') == 1 then " +
+            "  return 0 " +
+            "end ";
+
+    // SETNX 와 같이 키가 없을 때만 지문과 owner 를 넣고, 만료 시간까지 한 번에 건다
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('hset', KEYS[1], '" + FINGERPRINT_FIELD + "', ARGV[1], '" + OWNER_FIELD + "', ARGV[2]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            IF_NOT_OWNED_PROCESSING +
+            "redis.call('pexpire', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 처리 중 기록이 만료되었거나 다른 요청이 다시 차지했으면 결과를 남기지 않는다
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            IF_NOT_OWNED_PROCESSING +
+            "redis.call('hset', KEYS[1], '" + RESPONSE_FIELD + "', ARGV[2]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    private static final RedisScript<Long> FAIL_SCRIPT = new DefaultRedisScript<>(
+            IF_NOT_OWNED_PROCESSING +
+            "redis.call('hset', KEYS[1], '" + ERROR_TYPE_FIELD + "', ARGV[2], '" + ERROR_MESSAGE_FIELD + "', ARGV[3]) " +
+            "redis.call('pexpire', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class
+    );
+
+    // compare-and-delete: 만료 뒤 다른 요청이 차지한 기록은 지우지 않는다
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            IF_NOT_OWNED_PROCESSING +
+            "redis.call('del', KEYS[1]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    // 재시도 요청이 바로 이어서 들어오므로 읽기/쓰기 모두 master 를 사용한다
+    @Autowired
+    public IdempotencyRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, String fingerprint, String owner, Duration processingTtl) {
+        Long acquired = masterRedisTemplate.execute(
+                ACQUIRE_SCRIPT, List.of(buildKey(key)), fingerprint, owner, String.valueOf(processingTtl.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public Optional<Record> find(String key) {
+        Map<Object, Object> fields = masterRedisTemplate.opsForHash().entries(buildKey(key));
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new Record(
+                (String) fields.get(FINGERPRINT_FIELD),
+                (String) fields.get(RESPONSE_FIELD),
+                (String) fields.get(ERROR_TYPE_FIELD),
+                (String) fields.get(ERROR_MESSAGE_FIELD)
+        ));
+    }
+
+    @Override
+    public boolean renew(String key, String owner, Duration processingTtl) {
+        Long renewed = masterRedisTemplate.execute(
+                RENEW_SCRIPT, List.of(buildKey(key)), owner, String.valueOf(processingTtl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    @Override
+    public boolean complete(String key, String owner, String response, Duration ttl) {
+        Long completed = masterRedisTemplate.execute(
+                COMPLETE_SCRIPT, List.of(buildKey(key)), owner, response, String.valueOf(ttl.toMillis()));
+        return completed != null && completed == 1L;
+    }
+
+    @Override
+    public boolean fail(String key, String owner, String errorType, String errorMessage, Duration ttl) {
+        Long failed = masterRedisTemplate.execute(
+                FAIL_SCRIPT, List.of(buildKey(key)), owner, errorType, errorMessage, String.valueOf(ttl.toMillis()));
+        return failed != null && failed == 1L;
+    }
+
+    @Override
+    public boolean release(String key, String owner) {
+        Long released = masterRedisTemplate.execute(RELEASE_SCRIPT, List.of(buildKey(key)), owner);
+        return released != null && released == 1L;
+    }
+
+    private String buildKey(String key) {
+        return KEY_PREFIX + key;
+    }
+}
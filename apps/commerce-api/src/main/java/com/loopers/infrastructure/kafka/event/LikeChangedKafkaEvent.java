@@ -13,7 +13,7 @@ public class LikeChangedKafkaEvent extends BaseKafkaEvent {
     private Long productId;
     private Long userId;
     private String action;        // "CREATED" 또는 "CANCELLED"
-    private Integer deltaCount;   // +1 또는 -1
+    private Integer deltaCount;   // +1 또는 -1, 묶어서 발행하면 상품별 순증감
     
     @Override
     public String getEventType() {
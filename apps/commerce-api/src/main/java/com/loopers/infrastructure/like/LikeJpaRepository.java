@@ -3,17 +3,53 @@ package com.loopers.infrastructure.like;
 import com.loopers.domain.like.Like;
 import com.loopers.domain.like.TargetType;
 import com.loopers.domain.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface LikeJpaRepository extends JpaRepository<Like, Long> {
 
-    boolean existsByUserAndTargetTypeAndTargetId(User user, TargetType targetType, Long targetId);
+    // 중복 키만 무시되도록 호출 전에 사용자 존재를 확인한다 (IGNORE 는 FK 위반도 경고로 바꾼다)
+    // created_at/updated_at 은 JPA 가 UTC 로 저장하므로 같은 기준으로 맞춘다
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, target_type, target_id, created_at, updated_at) " +
+            "VALUES (:userId, :targetType, :targetId, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))",
+            nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("targetType") String targetType,
+                     @Param("targetId") Long targetId);
 
-    int deleteByUserAndTargetTypeAndTargetId(User user, TargetType targetType, Long targetId);
+    @Modifying
+    @Query( "DELETE FROM Like l " +
+            "WHERE l.user.id = :userId " +
+            "AND l.targetType = :targetType " +
+            "AND l.targetId = :targetId")
+    int deleteByUserIdAndTarget(@Param("userId") Long userId,
+                                @Param("targetType") TargetType targetType,
+                                @Param("targetId") Long targetId);
 
     List<Like> findByUser(User user);
 
     long countByTargetTypeAndTargetId(TargetType targetType, Long targetId);
+
+    @Query( "SELECT l.targetId " +
+            "FROM Like l " +
+            "WHERE l.user.id = :userId " +
+            "AND l.targetType = :targetType " +
+            "AND l.targetId IN :targetIds")
+    List<Long> findLikedTargetIds(@Param("userId") Long userId,
+                                  @Param("targetType") TargetType targetType,
+                                  @Param("targetIds") List<Long> targetIds);
+
+    @Query( "SELECT l.targetId " +
+            "FROM Like l " +
+            "WHERE l.user.id = :userId " +
+            "AND l.targetType = :targetType")
+    List<Long> findTargetIds(@Param("userId") Long userId,
+                             @Param("targetType") TargetType targetType,
+                             Pageable pageable);
 }
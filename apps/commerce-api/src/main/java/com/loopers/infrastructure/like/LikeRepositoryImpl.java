@@ -5,9 +5,12 @@ import com.loopers.domain.like.LikeRepository;
 import com.loopers.domain.like.TargetType;
 import com.loopers.domain.user.User;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 public class LikeRepositoryImpl implements LikeRepository {
@@ -25,13 +28,13 @@ public class LikeRepositoryImpl implements LikeRepository {
     }
 
     @Override
-    public boolean existsByUserAndTarget(User user, TargetType targetType, Long targetId) {
-        return likeJpaRepository.existsByUserAndTargetTypeAndTargetId(user, targetType, targetId);
+    public int insertIfAbsent(Long userId, TargetType targetType, Long targetId) {
+        return likeJpaRepository.insertIgnore(userId, targetType.name(), targetId);
     }
 
     @Override
-    public int deleteByUserAndTarget(User user, TargetType targetType, Long targetId) {
-        return likeJpaRepository.deleteByUserAndTargetTypeAndTargetId(user, targetType, targetId);
+    public int deleteByUserIdAndTarget(Long userId, TargetType targetType, Long targetId) {
+        return likeJpaRepository.deleteByUserIdAndTarget(userId, targetType, targetId);
     }
 
     @Override
@@ -43,4 +46,17 @@ public class LikeRepositoryImpl implements LikeRepository {
     public long countByTarget(TargetType targetType, Long targetId) {
         return likeJpaRepository.countByTargetTypeAndTargetId(targetType, targetId);
     }
+
+    @Override
+    public Set<Long> findLikedTargetIds(Long userId, TargetType targetType, List<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(likeJpaRepository.findLikedTargetIds(userId, targetType, targetIds));
+    }
+
+    @Override
+    public List<Long> findTargetIds(Long userId, TargetType targetType, int limit) {
+        return likeJpaRepository.findTargetIds(userId, targetType, PageRequest.of(0, limit));
+    }
 }
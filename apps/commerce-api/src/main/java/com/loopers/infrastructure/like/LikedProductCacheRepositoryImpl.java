@@ -0,0 +1,193 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.application.like.LikedProductCacheRepository;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.support.cache.CacheConstants;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Slf4j
+@Repository
+public class LikedProductCacheRepositoryImpl implements LikedProductCacheRepository {
+
+    // 상품 ID 와 겹치지 않도록 숫자가 아닌 값을 표식으로 쓴다
+    private static final String LOADED_MARKER = "loaded";
+    private static final String OVERFLOW_MARKER = "overflow";
+
+    private static final String LOAD_TOKEN_PREFIX = "loading:";
+
+    // 적재 전이면 키를 지워 진행 중인 적재 토큰을 무효로 만든다 (개수 초과 표식도 지워지지만 다음 적재 때 다시 판단한다)
+    private static final RedisScript<Long> ADD_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('sismember', KEYS[1], ARGV[1]) == 0 then " +
+            "  redis.call('del', KEYS[1]) " +
+            "  return 0 " +
+            "end " +
+            "return redis.call('sadd', KEYS[1], ARGV[2])",
+            Long.class
+    );
+
+    private static final RedisScript<Long> REMOVE_IF_LOADED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('sismember', KEYS[1], ARGV[1]) == 0 then " +
+            "  redis.call('del', KEYS[1]) " +
+            "  return 0 " +
+            "end " +
+            "return redis.call('srem', KEYS[1], ARGV[2])",
+            Long.class
+    );
+
+    // 적재 토큰이 남아 있을 때만(= beginLoad 이후 좋아요 변경이 없었을 때만) 집합을 교체한다
+    // ARGV[3] 부터가 적재 표식과 상품 ID 이며, unpack 인자 수 제한을 넘지 않도록 나눠 넣는다
+    private static final RedisScript<Long> SAVE_IF_UNCHANGED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('sismember', KEYS[1], ARGV[1]) == 0 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('del', KEYS[1]) " +
+            "for i = 3, #ARGV, 1000 do " +
+            "  redis.call('sadd', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "redis.call('expire', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    // 좋아요 직후 조회에서도 반영된 값을 보도록 읽기/쓰기 모두 master 를 사용한다
+    @Autowired
+    public LikedProductCacheRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public LikedProducts findLikedProducts(Long userId, List<Long> productIds) {
+        List<Object> members = new ArrayList<>();
+        members.add(LOADED_MARKER);
+        members.add(OVERFLOW_MARKER);
+        productIds.forEach(productId -> members.add(productId.toString()));
+
+        try {
+            Map<Object, Boolean> result = masterRedisTemplate.opsForSet().isMember(buildKey(userId), members.toArray());
+            if (result == null) {
+                return LikedProducts.missing();
+            }
+
+            if (Boolean.TRUE.equals(result.get(OVERFLOW_MARKER))) {
+                return new LikedProducts(State.OVERFLOW, Set.of());
+            }
+            if (!Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+                return LikedProducts.missing();
+            }
+
+            Set<Long> liked = new HashSet<>();
+            for (Long productId : productIds) {
+                if (Boolean.TRUE.equals(result.get(productId.toString()))) {
+                    liked.add(productId);
+                }
+            }
+            return new LikedProducts(State.LOADED, liked);
+
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 조회 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+            return LikedProducts.missing();
+        }
+    }
+
+    @Override
+    public Optional<String> beginLoad(Long userId) {
+        String loadToken = LOAD_TOKEN_PREFIX + UUID.randomUUID();
+        byte[] key = buildKey(userId).getBytes(StandardCharsets.UTF_8);
+
+        try {
+            // 적재 표식 없이 토큰만 있는 키는 조회 시 MISSING 으로 읽힌다
+            masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.setCommands().sAdd(key, loadToken.getBytes(StandardCharsets.UTF_8));
+                connection.keyCommands().expire(key, CacheConstants.TTL.LIKED_PRODUCTS.toSeconds());
+                return null;
+            });
+            return Optional.of(loadToken);
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 적재 토큰 저장 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean saveLikedProducts(Long userId, String loadToken, List<Long> likedProductIds) {
+        List<String> args = new ArrayList<>(likedProductIds.size() + 3);
+        args.add(loadToken);
+        args.add(String.valueOf(CacheConstants.TTL.LIKED_PRODUCTS.toSeconds()));
+        args.add(LOADED_MARKER);
+        likedProductIds.forEach(productId -> args.add(productId.toString()));
+
+        try {
+            Long saved = masterRedisTemplate.execute(SAVE_IF_UNCHANGED_SCRIPT, List.of(buildKey(userId)), args.toArray());
+            return saved != null && saved == 1L;
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 저장 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void markOverflow(Long userId) {
+        byte[] key = buildKey(userId).getBytes(StandardCharsets.UTF_8);
+
+        try {
+            masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.keyCommands().del(key);
+                connection.setCommands().sAdd(key, OVERFLOW_MARKER.getBytes(StandardCharsets.UTF_8));
+                connection.keyCommands().expire(key, CacheConstants.TTL.LIKED_PRODUCTS.toSeconds());
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 개수 초과 표식 저장 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void addIfLoaded(Long userId, Long productId) {
+        try {
+            masterRedisTemplate.execute(ADD_IF_LOADED_SCRIPT, List.of(buildKey(userId)), LOADED_MARKER, productId.toString());
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 반영 실패, 캐시 삭제 - userId: {}, productId: {}, 원인: {}", userId, productId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    @Override
+    public void removeIfLoaded(Long userId, Long productId) {
+        try {
+            masterRedisTemplate.execute(REMOVE_IF_LOADED_SCRIPT, List.of(buildKey(userId)), LOADED_MARKER, productId.toString());
+        } catch (Exception e) {
+            log.warn("좋아요 상품 캐시 반영 실패, 캐시 삭제 - userId: {}, productId: {}, 원인: {}", userId, productId, e.getMessage());
+            evict(userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        try {
+            masterRedisTemplate.delete(buildKey(userId));
+        } catch (Exception e) {
+            log.error("좋아요 상품 캐시 삭제 실패 - userId: {}, 원인: {}", userId, e.getMessage());
+        }
+    }
+
+    private String buildKey(Long userId) {
+        return CacheConstants.Keys.LIKED_PRODUCTS + userId;
+    }
+}
@@ -0,0 +1,44 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.application.order.OrderIntakeCardRepository;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Repository
+public class OrderIntakeCardRepositoryImpl implements OrderIntakeCardRepository {
+
+    private static final String KEY_PREFIX = "order-intake:card:";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    // 접수 직후 워커가 가져가므로 복제 지연 없이 읽도록 master 를 사용한다
+    @Autowired
+    public OrderIntakeCardRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public void save(String token, String cardNo, Duration ttl) {
+        masterRedisTemplate.opsForValue().set(buildKey(token), cardNo, ttl);
+    }
+
+    @Override
+    public Optional<String> find(String token) {
+        return Optional.ofNullable(masterRedisTemplate.opsForValue().get(buildKey(token)));
+    }
+
+    @Override
+    public void delete(String token) {
+        masterRedisTemplate.delete(buildKey(token));
+    }
+
+    private String buildKey(String token) {
+        return KEY_PREFIX + token;
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderIntake;
+import com.loopers.domain.order.OrderIntakeStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.Optional;
+
+public interface OrderIntakeJpaRepository extends JpaRepository<OrderIntake, Long> {
+
+    Optional<OrderIntake> findByToken(String token);
+
+    // lock.timeout -2 는 Hibernate 에서 SKIP LOCKED 로 변환된다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    Optional<OrderIntake> findFirstByStatusOrderByIdAsc(OrderIntakeStatus status);
+}
@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.domain.order.OrderIntake;
+import com.loopers.domain.order.OrderIntakeRepository;
+import com.loopers.domain.order.OrderIntakeStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public class OrderIntakeRepositoryImpl implements OrderIntakeRepository {
+
+    private final OrderIntakeJpaRepository orderIntakeJpaRepository;
+
+    @Autowired
+    public OrderIntakeRepositoryImpl(OrderIntakeJpaRepository orderIntakeJpaRepository) {
+        this.orderIntakeJpaRepository = orderIntakeJpaRepository;
+    }
+
+    @Override
+    public OrderIntake save(OrderIntake orderIntake) {
+        return orderIntakeJpaRepository.save(orderIntake);
+    }
+
+    @Override
+    public Optional<OrderIntake> findById(Long id) {
+        return orderIntakeJpaRepository.findById(id);
+    }
+
+    @Override
+    public Optional<OrderIntake> findByToken(String token) {
+        return orderIntakeJpaRepository.findByToken(token);
+    }
+
+    @Override
+    public Optional<OrderIntake> findNextPendingForUpdate() {
+        return orderIntakeJpaRepository.findFirstByStatusOrderByIdAsc(OrderIntakeStatus.PENDING);
+    }
+}
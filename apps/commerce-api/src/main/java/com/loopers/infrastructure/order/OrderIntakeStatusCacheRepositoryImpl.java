@@ -0,0 +1,73 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.application.order.OrderIntakeInfo;
+import com.loopers.application.order.OrderIntakeStatusCacheRepository;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.order.OrderIntakeStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+public class OrderIntakeStatusCacheRepositoryImpl implements OrderIntakeStatusCacheRepository {
+
+    private static final String KEY_PREFIX = "order-intake:status:";
+
+    private static final String ACCOUNT_ID_FIELD = "accountId";
+    private static final String STATUS_FIELD = "status";
+    private static final String ORDER_ID_FIELD = "orderId";
+    private static final String FAILURE_REASON_FIELD = "failureReason";
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    // 처리 직후 폴링에서도 바뀐 상태를 보도록 읽기/쓰기 모두 master 를 사용한다
+    @Autowired
+    public OrderIntakeStatusCacheRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public Optional<OrderIntakeInfo> find(String token) {
+        Map<Object, Object> fields = masterRedisTemplate.opsForHash().entries(buildKey(token));
+        // 접수자 없이 저장된 이전 형식은 본인 확인을 할 수 없으므로 없는 것으로 보고 DB 에서 다시 읽는다
+        if (fields.isEmpty() || fields.get(ACCOUNT_ID_FIELD) == null) {
+            return Optional.empty();
+        }
+
+        Object orderId = fields.get(ORDER_ID_FIELD);
+        return Optional.of(new OrderIntakeInfo(
+                token,
+                fields.get(ACCOUNT_ID_FIELD).toString(),
+                OrderIntakeStatus.valueOf(fields.get(STATUS_FIELD).toString()),
+                orderId == null ? null : Long.valueOf(orderId.toString()),
+                (String) fields.get(FAILURE_REASON_FIELD)
+        ));
+    }
+
+    @Override
+    public void save(OrderIntakeInfo info, Duration ttl) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(ACCOUNT_ID_FIELD, info.accountId());
+        fields.put(STATUS_FIELD, info.status().name());
+        if (info.orderId() != null) {
+            fields.put(ORDER_ID_FIELD, info.orderId().toString());
+        }
+        if (info.failureReason() != null) {
+            fields.put(FAILURE_REASON_FIELD, info.failureReason());
+        }
+
+        String key = buildKey(info.token());
+        masterRedisTemplate.opsForHash().putAll(key, fields);
+        masterRedisTemplate.expire(key, ttl);
+    }
+
+    private String buildKey(String token) {
+        return KEY_PREFIX + token;
+    }
+}
@@ -0,0 +1,152 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.application.order.OrderQueueRepository;
+import com.loopers.config.redis.RedisConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class OrderQueueRepositoryImpl implements OrderQueueRepository {
+
+    // 입장 스크립트가 꺼낸 사용자의 토큰/입장 키를 스크립트 안에서 만들므로, 클러스터에서도 한 슬롯에 모이도록 같은 해시 태그를 쓴다
+    private static final String KEY_HASH_TAG = "{order-queue}";
+    private static final String WAITING_KEY = KEY_HASH_TAG + ":waiting";
+    private static final String DISPATCH_LOCK_KEY = KEY_HASH_TAG + ":dispatch-lock";
+    private static final String TOKEN_KEY_PREFIX = KEY_HASH_TAG + ":token:";
+    private static final String ADMITTED_KEY_PREFIX = KEY_HASH_TAG + ":admitted:";
+
+    // 만료된 사용자가 몰려 있어도 한 번의 스크립트가 길어지지 않도록 입장 인원의 이 배수까지만 꺼낸다
+    private static final int ADMIT_SCAN_FACTOR = 10;
+
+    // 토큰 발급과 대기열 진입, 순번 조회를 한 번에 처리한다. 반환값: {토큰, 1 부터 시작하는 순번}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ENTER_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('set', KEYS[2], ARGV[1], 'NX', 'EX', ARGV[2]) " +
+            "local token = redis.call('get', KEYS[2]) " +
+            "redis.call('zadd', KEYS[1], 'NX', ARGV[3], ARGV[4]) " +
+            "local rank = redis.call('zrank', KEYS[1], ARGV[4]) " +
+            "return {token, tostring(rank + 1)}",
+            List.class
+    );
+
+    // 주기 잠금을 잡은 호출만 앞에서부터 꺼내 입장시킨다
+    // 토큰이 만료된(떠난) 사용자는 입장 인원에 세지 않고 버리며, 정해진 인원이 찰 때까지 (최대 ARGV[4] 명) 더 꺼낸다
+    // 토큰/입장 키는 KEYS[3], KEYS[4] 접두사에 사용자 ID 를 붙여 만들며, 모두 같은 해시 태그라 대기열 키와 같은 슬롯이다
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "if not redis.call('set', KEYS[2], '1', 'NX', 'PX', ARGV[2]) then " +
+            "  return 0 " +
+            "end " +
+            "local limit = tonumber(ARGV[1]) " +
+            "local scanLimit = tonumber(ARGV[4]) " +
+            "local admitted = 0 " +
+            "local scanned = 0 " +
+            "while admitted < limit and scanned < scanLimit do " +
+            "  local popped = redis.call('zpopmin', KEYS[1], math.min(limit - admitted, scanLimit - scanned)) " +
+            "  if #popped == 0 then " +
+            "    break " +
+            "  end " +
+            "  for i = 1, #popped, 2 do " +
+            "    scanned = scanned + 1 " +
+            "    local tokenKey = KEYS[3] .. popped[i] " +
+            "    local token = redis.call('get', tokenKey) " +
+            "    if token then " +
+            "      redis.call('set', KEYS[4] .. popped[i], token, 'EX', ARGV[3]) " +
+            "      redis.call('del', tokenKey) " +
+            "      admitted = admitted + 1 " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return admitted",
+            Long.class
+    );
+
+    // 토큰이 같을 때만 입장을 지우고, 되돌릴 때 쓰도록 남은 유효 시간(ms)을 돌려준다. 0 이면 입장이 없거나 토큰이 다르다
+    private static final RedisScript<Long> CONSUME_ADMISSION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) ~= ARGV[1] then " +
+            "  return 0 " +
+            "end " +
+            "local ttl = redis.call('pttl', KEYS[1]) " +
+            "redis.call('del', KEYS[1]) " +
+            "if ttl < 1 then " +
+            "  return 1 " +
+            "end " +
+            "return ttl",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> masterRedisTemplate;
+
+    // 순번과 입장 여부는 방금 쓴 값을 읽어야 하므로 읽기/쓰기 모두 master 를 사용한다
+    @Autowired
+    public OrderQueueRepositoryImpl(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate) {
+        this.masterRedisTemplate = masterRedisTemplate;
+    }
+
+    @Override
+    public Waiting enter(String accountId, String newToken, Duration tokenTtl) {
+        List<?> result = masterRedisTemplate.execute(
+                ENTER_SCRIPT,
+                List.of(WAITING_KEY, TOKEN_KEY_PREFIX + accountId),
+                newToken,
+                String.valueOf(tokenTtl.toSeconds()),
+                String.valueOf(System.currentTimeMillis()),
+                accountId
+        );
+        if (result == null || result.size() < 2) {
+            throw new IllegalStateException("주문 대기열 진입 스크립트 결과 없음");
+        }
+        return new Waiting(String.valueOf(result.get(0)), Long.parseLong(String.valueOf(result.get(1))));
+    }
+
+    @Override
+    public Optional<Long> findPosition(String accountId) {
+        Long rank = masterRedisTemplate.opsForZSet().rank(WAITING_KEY, accountId);
+        return Optional.ofNullable(rank).map(value -> value + 1);
+    }
+
+    @Override
+    public Optional<String> findAdmittedToken(String accountId) {
+        return Optional.ofNullable(masterRedisTemplate.opsForValue().get(ADMITTED_KEY_PREFIX + accountId));
+    }
+
+    @Override
+    public long admit(int count, Duration dispatchInterval, Duration admittedTtl) {
+        Long admitted = masterRedisTemplate.execute(
+                ADMIT_SCRIPT,
+                List.of(WAITING_KEY, DISPATCH_LOCK_KEY, TOKEN_KEY_PREFIX, ADMITTED_KEY_PREFIX),
+                String.valueOf(count),
+                String.valueOf(dispatchInterval.toMillis()),
+                String.valueOf(admittedTtl.toSeconds()),
+                String.valueOf((long) count * ADMIT_SCAN_FACTOR)
+        );
+        return admitted == null ? 0 : admitted;
+    }
+
+    @Override
+    public Optional<Admission> consumeAdmission(String accountId, String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        Long remainingMillis = masterRedisTemplate.execute(
+                CONSUME_ADMISSION_SCRIPT, List.of(ADMITTED_KEY_PREFIX + accountId), token);
+        if (remainingMillis == null || remainingMillis <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(new Admission(accountId, token, Duration.ofMillis(remainingMillis)));
+    }
+
+    @Override
+    public void restoreAdmission(Admission admission) {
+        masterRedisTemplate.opsForValue().setIfAbsent(
+                ADMITTED_KEY_PREFIX + admission.accountId(), admission.token(), admission.remainingTtl());
+    }
+}
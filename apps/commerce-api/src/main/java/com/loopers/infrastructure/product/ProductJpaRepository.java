@@ -4,9 +4,12 @@ import com.loopers.domain.product.Product;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
@@ -16,4 +19,23 @@ public interface ProductJpaRepository extends JpaRepository<Product, Long> {
             "FROM Product p " +
             "WHERE p.id = :id")
     Optional<Product> findByIdWithLock(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query( "SELECT p " +
+            "FROM Product p " +
+            "WHERE p.id IN :ids " +
+            "ORDER BY p.id")
+    List<Product> findAllByIdsWithLock(@Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query( "UPDATE Product p " +
+            "SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END " +
+            "WHERE p.id = :id")
+    int addLikeCount(@Param("id") Long id, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query( "UPDATE Product p " +
+            "SET p.stock = p.stock + :delta " +
+            "WHERE p.id = :id")
+    int addStock(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -0,0 +1,42 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductLikeCounterJpaRepository extends JpaRepository<ProductLikeCounter, Long> {
+
+    // created_at/updated_at 은 JPA 가 UTC 로 저장하므로 같은 기준으로 맞춘다
+    @Modifying
+    @Query(value = "INSERT INTO product_like_counter (product_id, shard_no, like_count, created_at, updated_at) " +
+            "VALUES (:productId, :shardNo, :delta, UTC_TIMESTAMP(6), UTC_TIMESTAMP(6)) " +
+            "ON DUPLICATE KEY UPDATE like_count = like_count + :delta, updated_at = UTC_TIMESTAMP(6)",
+            nativeQuery = true)
+    int increment(@Param("productId") Long productId, @Param("shardNo") int shardNo, @Param("delta") int delta);
+
+    @Query( "SELECT DISTINCT c.productId " +
+            "FROM ProductLikeCounter c " +
+            "WHERE c.updatedAt >= :since")
+    List<Long> findProductIdsUpdatedSince(@Param("since") ZonedDateTime since);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query( "SELECT c " +
+            "FROM ProductLikeCounter c " +
+            "WHERE c.productId = :productId " +
+            "ORDER BY c.shardNo")
+    List<ProductLikeCounter> findByProductIdWithLock(@Param("productId") Long productId);
+
+    @Query( "SELECT c " +
+            "FROM ProductLikeCounter c " +
+            "WHERE c.productId IN :productIds " +
+            "AND c.likeCount <> 0")
+    List<ProductLikeCounter> findPendingByProductIds(@Param("productIds") Collection<Long> productIds);
+}
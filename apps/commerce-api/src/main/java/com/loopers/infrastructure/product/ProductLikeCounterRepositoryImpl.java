@@ -0,0 +1,41 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCounter;
+import com.loopers.domain.product.ProductLikeCounterRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class ProductLikeCounterRepositoryImpl implements ProductLikeCounterRepository {
+
+    private final ProductLikeCounterJpaRepository productLikeCounterJpaRepository;
+
+    @Autowired
+    public ProductLikeCounterRepositoryImpl(ProductLikeCounterJpaRepository productLikeCounterJpaRepository) {
+        this.productLikeCounterJpaRepository = productLikeCounterJpaRepository;
+    }
+
+    @Override
+    public void increment(Long productId, int shardNo, int delta) {
+        productLikeCounterJpaRepository.increment(productId, shardNo, delta);
+    }
+
+    @Override
+    public List<Long> findProductIdsUpdatedSince(ZonedDateTime since) {
+        return productLikeCounterJpaRepository.findProductIdsUpdatedSince(since);
+    }
+
+    @Override
+    public List<ProductLikeCounter> findByProductIdWithLock(Long productId) {
+        return productLikeCounterJpaRepository.findByProductIdWithLock(productId);
+    }
+
+    @Override
+    public List<ProductLikeCounter> findPendingByProductIds(Collection<Long> productIds) {
+        return productLikeCounterJpaRepository.findPendingByProductIds(productIds);
+    }
+}
@@ -5,6 +5,8 @@ import com.loopers.domain.product.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -27,8 +29,33 @@ public class ProductRepositoryImpl implements ProductRepository {
         return productJpaRepository.findByIdWithLock(id);
     }
 
+    @Override
+    public List<Product> findAllByIdsWithLock(Collection<Long> ids) {
+        return productJpaRepository.findAllByIdsWithLock(ids);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return productJpaRepository.findAllById(ids);
+    }
+
     @Override
     public Product save(Product product) {
         return productJpaRepository.save(product);
     }
+
+    @Override
+    public List<Product> saveAll(List<Product> products) {
+        return productJpaRepository.saveAll(products);
+    }
+
+    @Override
+    public int addLikeCount(Long id, int delta) {
+        return productJpaRepository.addLikeCount(id, delta);
+    }
+
+    @Override
+    public int addStock(Long id, int delta) {
+        return productJpaRepository.addStock(id, delta);
+    }
 }
@@ -0,0 +1,76 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.StockBucket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface StockBucketJpaRepository extends JpaRepository<StockBucket, Long> {
+
+    @Query( "SELECT b " +
+            "FROM StockBucket b " +
+            "WHERE b.productId = :productId " +
+            "ORDER BY b.bucketNo")
+    List<StockBucket> findByProductId(@Param("productId") Long productId);
+
+    @Query( "SELECT DISTINCT b.productId " +
+            "FROM StockBucket b " +
+            "WHERE b.productId IN :productIds")
+    List<Long> findBucketedProductIds(@Param("productIds") Collection<Long> productIds);
+
+    @Query( "SELECT DISTINCT b.productId " +
+            "FROM StockBucket b")
+    List<Long> findAllBucketedProductIds();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query( "SELECT b " +
+            "FROM StockBucket b " +
+            "WHERE b.productId = :productId " +
+            "ORDER BY b.bucketNo")
+    List<StockBucket> findByProductIdWithLock(@Param("productId") Long productId);
+
+    // created_at/updated_at 은 JPA 가 UTC 로 저장하므로 같은 기준으로 맞춘다
+    @Modifying
+    @Query(value = "UPDATE stock_bucket " +
+            "SET stock = stock - :quantity, unrolled_delta = unrolled_delta - :quantity, updated_at = UTC_TIMESTAMP(6) " +
+            "WHERE id = :id AND stock >= :quantity",
+            nativeQuery = true)
+    int claim(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE stock_bucket " +
+            "SET stock = stock + :quantity, unrolled_delta = unrolled_delta + :quantity, updated_at = UTC_TIMESTAMP(6) " +
+            "WHERE id = :id",
+            nativeQuery = true)
+    int restore(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query(value = "UPDATE stock_bucket " +
+            "SET unrolled_delta = 0 " +
+            "WHERE product_id = :productId",
+            nativeQuery = true)
+    int resetUnrolledDelta(@Param("productId") Long productId);
+
+    @Modifying
+    @Query(value = "DELETE FROM stock_bucket " +
+            "WHERE product_id = :productId",
+            nativeQuery = true)
+    int deleteByProductId(@Param("productId") Long productId);
+
+    @Query( "SELECT COALESCE(SUM(b.stock), 0) " +
+            "FROM StockBucket b " +
+            "WHERE b.productId = :productId")
+    Long sumStockByProductId(@Param("productId") Long productId);
+
+    @Query( "SELECT DISTINCT b.productId " +
+            "FROM StockBucket b " +
+            "WHERE b.updatedAt >= :since")
+    List<Long> findProductIdsUpdatedSince(@Param("since") ZonedDateTime since);
+}
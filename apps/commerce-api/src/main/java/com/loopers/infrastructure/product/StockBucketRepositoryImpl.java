@@ -0,0 +1,76 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.StockBucket;
+import com.loopers.domain.product.StockBucketRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class StockBucketRepositoryImpl implements StockBucketRepository {
+
+    private final StockBucketJpaRepository stockBucketJpaRepository;
+
+    @Autowired
+    public StockBucketRepositoryImpl(StockBucketJpaRepository stockBucketJpaRepository) {
+        this.stockBucketJpaRepository = stockBucketJpaRepository;
+    }
+
+    @Override
+    public List<StockBucket> saveAll(List<StockBucket> buckets) {
+        return stockBucketJpaRepository.saveAll(buckets);
+    }
+
+    @Override
+    public List<StockBucket> findByProductId(Long productId) {
+        return stockBucketJpaRepository.findByProductId(productId);
+    }
+
+    @Override
+    public List<Long> findBucketedProductIds(Collection<Long> productIds) {
+        return stockBucketJpaRepository.findBucketedProductIds(productIds);
+    }
+
+    @Override
+    public List<Long> findAllBucketedProductIds() {
+        return stockBucketJpaRepository.findAllBucketedProductIds();
+    }
+
+    @Override
+    public List<StockBucket> findByProductIdWithLock(Long productId) {
+        return stockBucketJpaRepository.findByProductIdWithLock(productId);
+    }
+
+    @Override
+    public int claim(Long bucketId, int quantity) {
+        return stockBucketJpaRepository.claim(bucketId, quantity);
+    }
+
+    @Override
+    public int restore(Long bucketId, int quantity) {
+        return stockBucketJpaRepository.restore(bucketId, quantity);
+    }
+
+    @Override
+    public int resetUnrolledDelta(Long productId) {
+        return stockBucketJpaRepository.resetUnrolledDelta(productId);
+    }
+
+    @Override
+    public int deleteByProductId(Long productId) {
+        return stockBucketJpaRepository.deleteByProductId(productId);
+    }
+
+    @Override
+    public int sumStockByProductId(Long productId) {
+        return stockBucketJpaRepository.sumStockByProductId(productId).intValue();
+    }
+
+    @Override
+    public List<Long> findProductIdsUpdatedSince(ZonedDateTime since) {
+        return stockBucketJpaRepository.findProductIdsUpdatedSince(since);
+    }
+}
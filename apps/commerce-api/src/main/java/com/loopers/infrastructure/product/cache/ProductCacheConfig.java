@@ -0,0 +1,66 @@
+package com.loopers.infrastructure.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductQueryCacheRepository.CachedDetail;
+import com.loopers.support.cache.CacheConstants;
+import com.loopers.support.cache.codec.CacheCodec;
+import com.loopers.support.cache.codec.JsonCacheCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+@Configuration
+public class ProductCacheConfig {
+
+    public static final String PRODUCT_CACHE_REDIS_TEMPLATE = "productCacheRedisTemplate";
+
+    @Bean
+    public RedisMessageListenerContainer productCacheListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            ProductCacheInvalidationSubscriber invalidationSubscriber
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(
+                invalidationSubscriber,
+                new ChannelTopic(CacheConstants.Channels.PRODUCT_DETAIL_INVALIDATION)
+        );
+        return container;
+    }
+
+    /**
+     * 직렬화는 CacheCodec 이 담당하므로 값은 바이트 그대로 저장한다.
+     */
+    @Bean(PRODUCT_CACHE_REDIS_TEMPLATE)
+    public RedisTemplate<String, byte[]> productCacheRedisTemplate(RedisConnectionFactory redisConnectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
+    /**
+     * compact: 바이너리 코덱 (기존 JSON 값도 읽음), json: 기존 JSON 형식 유지
+     */
+    @Bean
+    public CacheCodec<CachedDetail> productDetailCacheCodec(
+            ObjectMapper objectMapper,
+            @Value("${cache.product-detail.codec.type:compact}") String codecType,
+            @Value("${cache.product-detail.codec.compression-threshold-bytes:1024}") int compressionThreshold
+    ) {
+        JsonCacheCodec<CachedDetail> jsonCodec = new JsonCacheCodec<>(objectMapper, CachedDetail.class);
+        if ("json".equalsIgnoreCase(codecType)) {
+            return jsonCodec;
+        }
+        return new ProductDetailCacheCodec(compressionThreshold, jsonCodec);
+    }
+}
@@ -0,0 +1,35 @@
+package com.loopers.infrastructure.product.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 발행한 상품 상세 캐시 무효화 메시지를 수신하여 L1 캐시를 비운다.
+ */
+@Slf4j
+@Component
+public class ProductCacheInvalidationSubscriber implements MessageListener {
+
+    private final ProductDetailLocalCache localCache;
+
+    public ProductCacheInvalidationSubscriber(ProductDetailLocalCache localCache) {
+        this.localCache = localCache;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        try {
+            Long productId = Long.parseLong(body);
+            localCache.invalidate(productId);
+            log.debug("로컬 캐시 무효화 메시지 수신 - Product ID: {}", productId);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지 - body: {}", body);
+        }
+    }
+}
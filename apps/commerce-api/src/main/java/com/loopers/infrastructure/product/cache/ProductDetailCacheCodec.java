@@ -0,0 +1,80 @@
+package com.loopers.infrastructure.product.cache;
+
+import com.loopers.application.product.ProductQuery;
+import com.loopers.application.product.ProductQueryCacheRepository.CachedDetail;
+import com.loopers.support.cache.codec.CacheCodec;
+import com.loopers.support.cache.codec.CompactCacheCodec;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * 상품 상세 캐시 바이너리 코덱. 필드를 추가/변경하면 SCHEMA_VERSION 을 올린다.
+ */
+public class ProductDetailCacheCodec extends CompactCacheCodec<CachedDetail> {
+
+    // 2: 문자열을 writeUTF 대신 varint 길이 + UTF-8 로 저장
+    private static final byte SCHEMA_VERSION = 2;
+
+    public ProductDetailCacheCodec(int compressionThreshold, CacheCodec<CachedDetail> fallbackCodec) {
+        super(compressionThreshold, fallbackCodec);
+    }
+
+    @Override
+    protected byte schemaVersion() {
+        return SCHEMA_VERSION;
+    }
+
+    @Override
+    protected void writeBody(DataOutputStream out, CachedDetail value) throws IOException {
+        ProductQuery.ProductDetailResult result = value.result();
+
+        out.writeLong(value.computeMillis());
+        out.writeLong(value.expiresAtMillis());
+
+        writeNullableLong(out, result.id());
+        writeNullableString(out, result.name());
+        writeNullableString(out, result.description());
+        writeNullableDecimal(out, result.price());
+        writeNullableInt(out, result.stock());
+        writeNullableInt(out, result.likeCount());
+
+        ProductQuery.BrandInfo brand = result.brand();
+        out.writeBoolean(brand != null);
+        if (brand != null) {
+            writeNullableLong(out, brand.id());
+            writeNullableString(out, brand.name());
+            writeNullableString(out, brand.description());
+        }
+
+        ProductQuery.RankingInfo ranking = result.ranking();
+        writeNullableLong(out, ranking != null ? ranking.rank() : null);
+    }
+
+    @Override
+    protected CachedDetail readBody(DataInputStream in) throws IOException {
+        long computeMillis = in.readLong();
+        long expiresAtMillis = in.readLong();
+
+        Long id = readNullableLong(in);
+        String name = readNullableString(in);
+        String description = readNullableString(in);
+        BigDecimal price = readNullableDecimal(in);
+        Integer stock = readNullableInt(in);
+        Integer likeCount = readNullableInt(in);
+
+        ProductQuery.BrandInfo brand = in.readBoolean()
+                ? new ProductQuery.BrandInfo(readNullableLong(in), readNullableString(in), readNullableString(in))
+                : null;
+
+        Long rank = readNullableLong(in);
+
+        ProductQuery.ProductDetailResult result = new ProductQuery.ProductDetailResult(
+                id, name, description, price, stock, brand, likeCount,
+                rank != null ? new ProductQuery.RankingInfo(rank) : null
+        );
+        return new CachedDetail(result, computeMillis, expiresAtMillis);
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.infrastructure.product.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.application.product.ProductQueryCacheRepository;
+import com.loopers.support.cache.CacheConstants;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 상품 상세 DTO 의 L1(프로세스 내) 캐시.
+ * Redis(L2) 앞단에서 핫 상품 조회를 힙에서 처리하며, 크기/TTL 기반으로 축출된다.
+ */
+@Component
+public class ProductDetailLocalCache {
+
+    private final Cache<Long, ProductQueryCacheRepository.CachedDetail> cache = Caffeine.newBuilder()
+            .maximumSize(CacheConstants.Size.PRODUCT_DETAIL_LOCAL_MAX)
+            .expireAfterWrite(CacheConstants.TTL.PRODUCT_DETAIL_LOCAL)
+            .build();
+
+    private final boolean enabled;
+
+    public ProductDetailLocalCache(@Value("${cache.product-detail.local.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Optional<ProductQueryCacheRepository.CachedDetail> get(Long productId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(productId));
+    }
+
+    public void put(Long productId, ProductQueryCacheRepository.CachedDetail cachedDetail) {
+        if (enabled) {
+            cache.put(productId, cachedDetail);
+        }
+    }
+
+    public void invalidate(Long productId) {
+        cache.invalidate(productId);
+    }
+}
@@ -1,78 +1,586 @@
 package com.loopers.infrastructure.product.cache;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.product.ProductQuery;
 import com.loopers.application.product.ProductQueryCacheRepository;
+import com.loopers.application.product.ProductSortType;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.ranking.RankingService;
 import com.loopers.support.cache.CacheConstants;
+import com.loopers.support.cache.codec.CacheCodec;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
+/**
+ * L1(로컬) + L2(Redis) 2단 캐시.
+ * 조회는 L1 → L2 순으로 하며 L2 히트 시 L1 을 채운다.
+ * 무효화는 L1/L2 를 지우고 Redis pub/sub 으로 다른 노드의 L1 도 비우도록 알린다.
+ * 좋아요 수/재고 변경은 L2 Hash 필드를 제자리에서 갱신하고 L1 만 비운다.
+ * 조회는 replica 우선 템플릿으로, 쓰기/삭제/발행은 모두 master 템플릿으로 보낸다.
+ * objectRedisTemplate 으로 읽는 값은 같은 형식(타입 정보 없는 JSON)의 문자열로 master 에 쓴다.
+ */
 @Repository
 @Slf4j
 public class ProductQueryCacheRepositoryImpl implements ProductQueryCacheRepository {
-    
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('del', KEYS[1]) " +
+            "else " +
+            "  return 0 " +
+            "end",
+            Long.class
+    );
+
+    // 필드가 있을 때만(= 캐시된 상세가 있을 때만) 증감한다. 음수로 내려가지 않도록 0 에서 멈춘다.
+    private static final RedisScript<Long> INCREMENT_IF_CACHED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then " +
+            "  return nil " +
+            "end " +
+            "local value = redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) " +
+            "if value < 0 then " +
+            "  redis.call('hset', KEYS[1], ARGV[1], 0) " +
+            "  value = 0 " +
+            "end " +
+            "return value",
+            Long.class
+    );
+
+    private static final RedisScript<Long> SET_IF_CACHED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('hexists', KEYS[1], ARGV[1]) == 0 then " +
+            "  return 0 " +
+            "end " +
+            "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 빈 문자열로 넘긴 카운터 필드는 건드리지 않는다
+    private static final byte[] WRITE_DETAIL_SCRIPT = (
+            "redis.call('hset', KEYS[1], 'payload', ARGV[2]) " +
+            "if ARGV[3] ~= '' then " +
+            "  redis.call('hset', KEYS[1], 'likeCount', ARGV[3]) " +
+            "end " +
+            "if ARGV[4] ~= '' then " +
+            "  redis.call('hset', KEYS[1], 'stock', ARGV[4]) " +
+            "end " +
+            "redis.call('pexpire', KEYS[1], ARGV[1]) " +
+            "return 1"
+    ).getBytes(StandardCharsets.UTF_8);
+
+    private static final String FIELD_PAYLOAD = "payload";
+    private static final String FIELD_LIKE_COUNT = "likeCount";
+    private static final String FIELD_STOCK = "stock";
+    private static final byte[][] DETAIL_FIELDS = {
+            FIELD_PAYLOAD.getBytes(StandardCharsets.UTF_8),
+            FIELD_LIKE_COUNT.getBytes(StandardCharsets.UTF_8),
+            FIELD_STOCK.getBytes(StandardCharsets.UTF_8)
+    };
+
     private final RedisTemplate<String, Object> objectRedisTemplate;
-    
-    public ProductQueryCacheRepositoryImpl(RedisTemplate<String, Object> objectRedisTemplate) {
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisTemplate<String, String> masterRedisTemplate;
+    private final RedisTemplate<String, byte[]> detailRedisTemplate;
+    private final CacheCodec<CachedDetail> detailCodec;
+    private final ProductDetailLocalCache localCache;
+    private final ObjectMapper objectMapper;
+
+    public ProductQueryCacheRepositoryImpl(RedisTemplate<String, Object> objectRedisTemplate,
+                                           RedisTemplate<String, String> redisTemplate,
+                                           @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> masterRedisTemplate,
+                                           @Qualifier(ProductCacheConfig.PRODUCT_CACHE_REDIS_TEMPLATE) RedisTemplate<String, byte[]> detailRedisTemplate,
+                                           CacheCodec<CachedDetail> detailCodec,
+                                           ProductDetailLocalCache localCache,
+                                           ObjectMapper objectMapper) {
         this.objectRedisTemplate = objectRedisTemplate;
+        this.redisTemplate = redisTemplate;
+        this.masterRedisTemplate = masterRedisTemplate;
+        this.detailRedisTemplate = detailRedisTemplate;
+        this.detailCodec = detailCodec;
+        this.localCache = localCache;
+        this.objectMapper = objectMapper;
     }
-    
+
     @Override
-    public Optional<ProductQuery.ProductDetailResult> findDetailById(Long productId) {
-        String cacheKey = buildDetailCacheKey(productId);
-        
+    public Optional<CachedDetail> findDetailById(Long productId) {
+        Optional<CachedDetail> localResult = localCache.get(productId);
+        if (localResult.isPresent()) {
+            log.debug("Local Cache Hit - Product ID: {}", productId);
+            return localResult;
+        }
+
+        byte[] cacheKey = toBytes(buildDetailCacheKey(productId));
+
         try {
-            ProductQuery.ProductDetailResult cachedResult = 
-                (ProductQuery.ProductDetailResult) objectRedisTemplate.opsForValue().get(cacheKey);
-            
+            List<byte[]> fields = detailRedisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.hashCommands().hMGet(cacheKey, DETAIL_FIELDS)
+            );
+            CachedDetail cachedResult = toCachedDetail(fields);
+
             if (cachedResult != null) {
                 log.debug("Query Cache Hit - Product ID: {}", productId);
+                localCache.put(productId, cachedResult);
                 return Optional.of(cachedResult);
             } else {
                 log.debug("Query Cache Miss - Product ID: {}", productId);
                 return Optional.empty();
             }
-            
+
         } catch (Exception e) {
             log.warn("Query 캐시 조회 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
             return Optional.empty();
         }
     }
-    
+
     @Override
-    public void saveDetail(Long productId, ProductQuery.ProductDetailResult result) {
-        String cacheKey = buildDetailCacheKey(productId);
-        
+    public RankedDetail findDetailWithRank(Long productId, LocalDate rankingDate) {
+        byte[] rankingKey = toBytes(RankingService.generateKey(rankingDate));
+        byte[] rankingMember = toBytes(RankingService.generateMember(productId));
+
+        Optional<CachedDetail> localResult = localCache.get(productId);
+
         try {
-            objectRedisTemplate.opsForValue().set(
-                cacheKey, 
-                result, 
-                CacheConstants.TTL.PRODUCT_DETAIL
-            );
-            log.debug("Query 캐시 저장 완료 - Product ID: {}, TTL: {}분", 
+            if (localResult.isPresent()) {
+                log.debug("Local Cache Hit - Product ID: {}", productId);
+                Long rank = detailRedisTemplate.execute(
+                    (RedisCallback<Long>) connection -> connection.zSetCommands().zRevRank(rankingKey, rankingMember)
+                );
+                return new RankedDetail(localResult.get(), toRank(rank));
+            }
+
+            byte[] cacheKey = toBytes(buildDetailCacheKey(productId));
+            List<Object> results = detailRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.hashCommands().hMGet(cacheKey, DETAIL_FIELDS);
+                connection.zSetCommands().zRevRank(rankingKey, rankingMember);
+                return null;
+            }, RedisSerializer.byteArray());
+
+            @SuppressWarnings("unchecked")
+            CachedDetail cachedResult = toCachedDetail((List<byte[]>) results.get(0));
+            if (cachedResult != null) {
+                log.debug("Query Cache Hit - Product ID: {}", productId);
+                localCache.put(productId, cachedResult);
+            } else {
+                log.debug("Query Cache Miss - Product ID: {}", productId);
+            }
+
+            return new RankedDetail(cachedResult, toRank(results.get(1)));
+
+        } catch (Exception e) {
+            log.warn("Query 캐시/순위 조회 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+            return new RankedDetail(localResult.orElse(null), null);
+        }
+    }
+
+    @Override
+    public void saveDetail(Long productId, CachedDetail cachedDetail) {
+        localCache.put(productId, cachedDetail);
+
+        try {
+            writeDetails(Map.of(productId, cachedDetail));
+            log.debug("Query 캐시 저장 완료 - Product ID: {}, TTL: {}분",
                 productId, CacheConstants.TTL.PRODUCT_DETAIL.toMinutes());
-                
+
         } catch (Exception e) {
             log.error("Query 캐시 저장 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
         }
     }
-    
+
+    @Override
+    public Map<Long, CachedDetail> findDetailsByIds(List<Long> productIds) {
+        Map<Long, CachedDetail> result = new HashMap<>();
+        List<Long> redisLookupIds = new ArrayList<>();
+
+        for (Long productId : productIds) {
+            localCache.get(productId).ifPresentOrElse(
+                cachedDetail -> result.put(productId, cachedDetail),
+                () -> redisLookupIds.add(productId)
+            );
+        }
+
+        if (redisLookupIds.isEmpty()) {
+            return result;
+        }
+
+        try {
+            List<Object> cachedValues = detailRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long productId : redisLookupIds) {
+                    connection.hashCommands().hMGet(toBytes(buildDetailCacheKey(productId)), DETAIL_FIELDS);
+                }
+                return null;
+            }, RedisSerializer.byteArray());
+
+            for (int i = 0; i < redisLookupIds.size(); i++) {
+                @SuppressWarnings("unchecked")
+                CachedDetail cachedDetail = toCachedDetail((List<byte[]>) cachedValues.get(i));
+                if (cachedDetail != null) {
+                    localCache.put(redisLookupIds.get(i), cachedDetail);
+                    result.put(redisLookupIds.get(i), cachedDetail);
+                }
+            }
+            log.debug("Query 캐시 일괄 조회 - 요청: {}, Hit: {}", productIds.size(), result.size());
+
+        } catch (Exception e) {
+            log.warn("Query 캐시 일괄 조회 실패 - 요청: {}, 원인: {}", productIds.size(), e.getMessage());
+        }
+
+        return result;
+    }
+
+    @Override
+    public void saveDetails(Map<Long, CachedDetail> cachedDetails) {
+        if (cachedDetails.isEmpty()) {
+            return;
+        }
+
+        cachedDetails.forEach(localCache::put);
+
+        try {
+            writeDetails(cachedDetails);
+            log.debug("Query 캐시 일괄 저장 완료 - 저장: {}", cachedDetails.size());
+
+        } catch (Exception e) {
+            log.error("Query 캐시 일괄 저장 실패 - 저장: {}, 원인: {}", cachedDetails.size(), e.getMessage());
+        }
+    }
+
     @Override
     public void evictDetail(Long productId) {
+        localCache.invalidate(productId);
+
         String cacheKey = buildDetailCacheKey(productId);
-        
+
         try {
-            Boolean deleted = objectRedisTemplate.delete(cacheKey);
+            Boolean deleted = masterRedisTemplate.delete(cacheKey);
             log.debug("Query 캐시 무효화 - Product ID: {}, 삭제 성공: {}", productId, deleted);
-            
+
+            publishLocalInvalidation(productId);
+
         } catch (Exception e) {
             log.error("Query 캐시 무효화 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
         }
     }
-    
+
+    @Override
+    public void applyLikeCountDelta(Long productId, int delta) {
+        localCache.invalidate(productId);
+
+        try {
+            Long likeCount = masterRedisTemplate.execute(
+                INCREMENT_IF_CACHED_SCRIPT,
+                List.of(buildDetailCacheKey(productId)),
+                FIELD_LIKE_COUNT,
+                String.valueOf(delta)
+            );
+            log.debug("Query 캐시 좋아요 수 반영 - Product ID: {}, delta: {}, 결과: {}", productId, delta, likeCount);
+
+            publishLocalInvalidation(productId);
+
+        } catch (Exception e) {
+            // 반영에 실패하면 잘못된 값을 남기지 않도록 캐시를 지운다
+            log.warn("Query 캐시 좋아요 수 반영 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+            evictDetail(productId);
+        }
+    }
+
+    @Override
+    public void applyStock(Long productId, int stock) {
+        localCache.invalidate(productId);
+
+        try {
+            Long applied = masterRedisTemplate.execute(
+                SET_IF_CACHED_SCRIPT,
+                List.of(buildDetailCacheKey(productId)),
+                FIELD_STOCK,
+                String.valueOf(stock)
+            );
+            log.debug("Query 캐시 재고 반영 - Product ID: {}, stock: {}, 반영: {}", productId, stock, applied);
+
+            publishLocalInvalidation(productId);
+
+        } catch (Exception e) {
+            log.warn("Query 캐시 재고 반영 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+            evictDetail(productId);
+        }
+    }
+
+    @Override
+    public boolean isMarkedAbsent(Long productId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(buildAbsentKey(productId)));
+        } catch (Exception e) {
+            log.warn("존재하지 않는 상품 캐시 조회 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void markAbsent(Long productId) {
+        try {
+            masterRedisTemplate.opsForValue().set(buildAbsentKey(productId), "1", CacheConstants.TTL.PRODUCT_DETAIL_ABSENT);
+            log.debug("존재하지 않는 상품 캐시 저장 - Product ID: {}", productId);
+        } catch (Exception e) {
+            log.warn("존재하지 않는 상품 캐시 저장 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<String> acquireRebuildLock(Long productId) {
+        String token = UUID.randomUUID().toString();
+
+        try {
+            Boolean acquired = masterRedisTemplate.opsForValue().setIfAbsent(
+                buildLockKey(productId),
+                token,
+                CacheConstants.TTL.PRODUCT_DETAIL_LOCK
+            );
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+
+        } catch (Exception e) {
+            // 락 저장소 장애 시 재적재 자체는 막지 않는다
+            log.warn("캐시 재적재 락 획득 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+            return Optional.of(token);
+        }
+    }
+
+    @Override
+    public void releaseRebuildLock(Long productId, String token) {
+        try {
+            masterRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(buildLockKey(productId)), token);
+        } catch (Exception e) {
+            log.warn("캐시 재적재 락 해제 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<CachedCount> findCount(Long brandId) {
+        String cacheKey = buildCountCacheKey(brandId);
+
+        try {
+            Object cachedValue = objectRedisTemplate.opsForValue().get(cacheKey);
+            if (cachedValue == null) {
+                log.debug("상품 개수 캐시 Miss - Brand ID: {}", brandId);
+                return Optional.empty();
+            }
+            return Optional.of(toCachedCount(cachedValue));
+
+        } catch (Exception e) {
+            log.warn("상품 개수 캐시 조회 실패 - Brand ID: {}, 원인: {}", brandId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveCount(Long brandId, CachedCount cachedCount) {
+        try {
+            masterRedisTemplate.opsForValue().set(
+                buildCountCacheKey(brandId),
+                objectMapper.writeValueAsString(cachedCount),
+                CacheConstants.TTL.PRODUCT_LIST_COUNT_RETENTION
+            );
+        } catch (Exception e) {
+            log.error("상품 개수 캐시 저장 실패 - Brand ID: {}, 원인: {}", brandId, e.getMessage());
+        }
+    }
+
+    @Override
+    public Optional<List<ProductQuery.ProductQueryResult>> findListPage(Long brandId, ProductSortType sortType, int page, int size) {
+        String pageKey = buildListPageKey(brandId, sortType, page, size);
+
+        try {
+            Object cachedValue = objectRedisTemplate.opsForValue().get(pageKey);
+            if (cachedValue == null) {
+                log.debug("상품 목록 캐시 Miss - key: {}", pageKey);
+                return Optional.empty();
+            }
+            log.debug("상품 목록 캐시 Hit - key: {}", pageKey);
+            return Optional.of(toCachedListPage(cachedValue).products());
+
+        } catch (Exception e) {
+            log.warn("상품 목록 캐시 조회 실패 - key: {}, 원인: {}", pageKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void saveListPage(Long brandId, ProductSortType sortType, int page, int size,
+                             List<ProductQuery.ProductQueryResult> products) {
+        String pageKey = buildListPageKey(brandId, sortType, page, size);
+
+        try {
+            masterRedisTemplate.opsForValue().set(
+                pageKey,
+                objectMapper.writeValueAsString(new CachedListPage(products)),
+                CacheConstants.TTL.PRODUCT_LIST_PAGE
+            );
+
+            byte[] pageKeyBytes = pageKey.getBytes(StandardCharsets.UTF_8);
+            long indexTtlSeconds = CacheConstants.TTL.PRODUCT_LIST_PAGE.toSeconds();
+            masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (ProductQuery.ProductQueryResult product : products) {
+                    byte[] indexKey = buildListPageIndexKey(product.id()).getBytes(StandardCharsets.UTF_8);
+                    connection.setCommands().sAdd(indexKey, pageKeyBytes);
+                    connection.keyCommands().expire(indexKey, indexTtlSeconds);
+                }
+                return null;
+            });
+
+        } catch (Exception e) {
+            log.error("상품 목록 캐시 저장 실패 - key: {}, 원인: {}", pageKey, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictListPagesContaining(Long productId) {
+        String indexKey = buildListPageIndexKey(productId);
+
+        try {
+            Set<String> pageKeys = masterRedisTemplate.opsForSet().members(indexKey);
+
+            List<String> keysToDelete = new ArrayList<>();
+            if (pageKeys != null) {
+                keysToDelete.addAll(pageKeys);
+            }
+            keysToDelete.add(indexKey);
+
+            Long deleted = masterRedisTemplate.delete(keysToDelete);
+            log.debug("상품 목록 캐시 무효화 - Product ID: {}, 삭제 키 수: {}", productId, deleted);
+
+        } catch (Exception e) {
+            log.error("상품 목록 캐시 무효화 실패 - Product ID: {}, 원인: {}", productId, e.getMessage());
+        }
+    }
+
+    /**
+     * payload 에는 정적인 상세 정보를, likeCount/stock 은 별도 필드에 두어 제자리에서 갱신할 수 있게 한다.
+     * 키마다 HSET 과 PEXPIRE 를 스크립트 하나로 실행해 TTL 없는 키가 남지 않게 하고, 여러 키는 한 파이프라인으로 보낸다.
+     */
+    private void writeDetails(Map<Long, CachedDetail> cachedDetails) {
+        byte[] ttlMillis = toBytes(String.valueOf(CacheConstants.TTL.PRODUCT_DETAIL.toMillis()));
+
+        // 직렬화에 실패한 상품 하나 때문에 파이프라인 전체가 중단되지 않도록 미리 인코딩하고 실패한 상품만 건너뛴다
+        Map<Long, byte[]> payloads = new LinkedHashMap<>();
+        cachedDetails.forEach((productId, cachedDetail) -> {
+            try {
+                payloads.put(productId, detailCodec.encode(cachedDetail));
+            } catch (RuntimeException e) {
+                log.warn("Query 캐시 직렬화 실패, 저장 생략 - Product ID: {}, 원인: {}", productId, e.getMessage());
+            }
+        });
+
+        if (payloads.isEmpty()) {
+            return;
+        }
+
+        masterRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            payloads.forEach((productId, payload) -> {
+                CachedDetail cachedDetail = cachedDetails.get(productId);
+                Integer likeCount = cachedDetail.result().likeCount();
+                Integer stock = cachedDetail.result().stock();
+
+                connection.scriptingCommands().eval(
+                    WRITE_DETAIL_SCRIPT,
+                    ReturnType.INTEGER,
+                    1,
+                    toBytes(buildDetailCacheKey(productId)),
+                    ttlMillis,
+                    payload,
+                    toBytes(likeCount != null ? String.valueOf(likeCount) : ""),
+                    toBytes(stock != null ? String.valueOf(stock) : "")
+                );
+            });
+            return null;
+        });
+    }
+
+    private CachedDetail toCachedDetail(List<byte[]> fields) {
+        if (fields == null || fields.isEmpty() || fields.get(0) == null) {
+            return null;
+        }
+
+        CachedDetail payload = detailCodec.decode(fields.get(0));
+        if (payload == null) {
+            return null;
+        }
+
+        return payload.withCounters(parseNullableInt(fields.get(1)), parseNullableInt(fields.get(2)));
+    }
+
+    // ZREVRANK 는 0 부터 시작하므로 1 위부터로 바꾼다
+    private static Long toRank(Object zeroBasedRank) {
+        return zeroBasedRank instanceof Long rank ? rank + 1 : null;
+    }
+
+    private void publishLocalInvalidation(Long productId) {
+        masterRedisTemplate.convertAndSend(CacheConstants.Channels.PRODUCT_DETAIL_INVALIDATION, productId.toString());
+    }
+
+    private static Integer parseNullableInt(byte[] value) {
+        return value != null ? Integer.valueOf(new String(value, StandardCharsets.UTF_8)) : null;
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private CachedCount toCachedCount(Object cachedValue) {
+        if (cachedValue instanceof CachedCount cachedCount) {
+            return cachedCount;
+        }
+        return objectMapper.convertValue(cachedValue, CachedCount.class);
+    }
+
+    private CachedListPage toCachedListPage(Object cachedValue) {
+        if (cachedValue instanceof CachedListPage cachedListPage) {
+            return cachedListPage;
+        }
+        return objectMapper.convertValue(cachedValue, CachedListPage.class);
+    }
+
     private String buildDetailCacheKey(Long productId) {
-        return CacheConstants.Keys.PRODUCT_DETAIL_DTO + productId;
+        return CacheConstants.Keys.PRODUCT_DETAIL + productId;
+    }
+
+    // 조회 조건이 항상 삭제되지 않은 상품/브랜드이므로 키에 active 필터를 명시한다
+    private String buildCountCacheKey(Long brandId) {
+        return CacheConstants.Keys.PRODUCT_LIST_COUNT + (brandId != null ? brandId : "all") + ":active";
+    }
+
+    private String buildListPageKey(Long brandId, ProductSortType sortType, int page, int size) {
+        return CacheConstants.Keys.PRODUCT_LIST_PAGE
+                + (brandId != null ? brandId : "all") + ":" + sortType.getValue() + ":" + page + ":" + size;
+    }
+
+    private String buildListPageIndexKey(Long productId) {
+        return CacheConstants.Keys.PRODUCT_LIST_PAGE_INDEX + productId;
+    }
+
+    private String buildAbsentKey(Long productId) {
+        return CacheConstants.Keys.PRODUCT_DETAIL_ABSENT + productId;
     }
+
+    private String buildLockKey(Long productId) {
+        return CacheConstants.Keys.PRODUCT_DETAIL_LOCK + productId;
+    }
+
+    // List 를 그대로 저장하면 역직렬화 시 원소 타입을 알 수 없어 한 번 감싸서 저장한다
+    record CachedListPage(List<ProductQuery.ProductQueryResult> products) {}
 }
@@ -1,21 +1,32 @@
 package com.loopers.infrastructure.product.query;
 
+import com.loopers.application.product.ProductCursor;
 import com.loopers.application.product.ProductQueryRepository;
 import com.loopers.application.product.ProductSortType;
+import com.loopers.domain.like.TargetType;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.LongSupplier;
 
 import static com.loopers.domain.brand.QBrand.brand;
+import static com.loopers.domain.like.QLike.like;
 import static com.loopers.domain.product.QProduct.product;
 
 @Repository
@@ -30,6 +41,12 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
     
     @Override
     public Page<ProductQueryData> findProducts(Long brandId, ProductSortType sortType, Pageable pageable) {
+        return findProducts(brandId, sortType, pageable, () -> countProducts(brandId));
+    }
+
+    @Override
+    public Page<ProductQueryData> findProducts(Long brandId, ProductSortType sortType, Pageable pageable,
+                                               LongSupplier totalCountSupplier) {
 
         List<ProductQueryData> content = jpaQueryFactory
             .select(Projections.constructor(ProductQueryData.class,
@@ -53,7 +70,12 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
-        
+
+        return PageableExecutionUtils.getPage(content, pageable, totalCountSupplier);
+    }
+
+    @Override
+    public long countProducts(Long brandId) {
         Long total = jpaQueryFactory
             .select(product.count())
             .from(product)
@@ -64,8 +86,48 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
                 brandIdEq(brandId)
             )
             .fetchOne();
-        
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public ProductSliceData findProductsByCursor(Long brandId, ProductSortType sortType, ProductCursor cursor, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다
+        List<Tuple> rows = jpaQueryFactory
+            .select(Projections.constructor(ProductQueryData.class,
+                    product.id,
+                    product.name,
+                    product.description,
+                    product.price,
+                    product.stock,
+                    brand.id,
+                    brand.name,
+                    product.likeCount
+                ),
+                product.createdAt
+            )
+            .from(product)
+            .join(product.brand, brand)
+            .where(
+                product.deletedAt.isNull(),
+                brand.deletedAt.isNull(),
+                brandIdEq(brandId),
+                cursorAfter(sortType, cursor)
+            )
+            .orderBy(getOrderSpecifier(sortType), product.id.asc())
+            .limit(size + 1L)
+            .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<ProductQueryData> content = pageRows.stream()
+            .map(row -> row.get(0, ProductQueryData.class))
+            .toList();
+
+        ProductCursor nextCursor = hasNext ? toCursor(sortType, pageRows.getLast()) : null;
+
+        return new ProductSliceData(content, nextCursor);
     }
     
     @Override
@@ -121,10 +183,138 @@ public class ProductQueryRepositoryImpl implements ProductQueryRepository {
             .fetch();
     }
 
+    @Override
+    public List<ProductDetailQueryData> findProductDetailsByIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+
+        return jpaQueryFactory
+            .select(Projections.constructor(ProductDetailQueryData.class,
+                product.id,
+                product.name,
+                product.description,
+                product.price,
+                product.stock,
+                brand.id,
+                brand.name,
+                brand.description,
+                product.likeCount
+            ))
+            .from(product)
+            .join(product.brand, brand)
+            .where(
+                product.id.in(productIds),
+                product.deletedAt.isNull(),
+                brand.deletedAt.isNull()
+            )
+            .fetch();
+    }
+
+    @Override
+    public List<Long> findActiveProductIds(Long afterId, int limit) {
+        return jpaQueryFactory
+            .select(product.id)
+            .from(product)
+            .join(product.brand, brand)
+            .where(
+                product.id.gt(afterId),
+                product.deletedAt.isNull(),
+                brand.deletedAt.isNull()
+            )
+            .orderBy(product.id.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public LikedProductSliceData findLikedProducts(Long userId, Long cursorLikeId, int size) {
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회한다
+        List<Tuple> rows = jpaQueryFactory
+            .select(Projections.constructor(ProductQueryData.class,
+                    product.id,
+                    product.name,
+                    product.description,
+                    product.price,
+                    product.stock,
+                    brand.id,
+                    brand.name,
+                    product.likeCount
+                ),
+                like.id
+            )
+            .from(like)
+            .join(product).on(product.id.eq(like.targetId))
+            .join(product.brand, brand)
+            .where(
+                like.user.id.eq(userId),
+                like.targetType.eq(TargetType.PRODUCT),
+                cursorLikeId != null ? like.id.lt(cursorLikeId) : null,
+                product.deletedAt.isNull(),
+                brand.deletedAt.isNull()
+            )
+            .orderBy(like.id.desc())
+            .limit(size + 1L)
+            .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        List<ProductQueryData> content = pageRows.stream()
+            .map(row -> row.get(0, ProductQueryData.class))
+            .toList();
+
+        Long nextCursor = hasNext ? pageRows.getLast().get(like.id) : null;
+
+        return new LikedProductSliceData(content, nextCursor);
+    }
+
     private static BooleanExpression brandIdEq(Long brandId) {
         return brandId != null ? product.brand.id.eq(brandId) : null;
     }
 
+    /**
+     * 정렬 컬럼이 같은 구간은 ID 오름차순으로 이어서 읽는다.
+     * InnoDB 보조 인덱스 뒤에 PK 가 오름차순으로 붙으므로 각 정렬 인덱스를 그대로 따라 스캔할 수 있다.
+     */
+    private static BooleanExpression cursorAfter(ProductSortType sortType, ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        try {
+            return switch (sortType) {
+                case LATEST -> {
+                    ZonedDateTime createdAt = ZonedDateTime.ofInstant(Instant.parse(cursor.sortValue()), ZoneId.systemDefault());
+                    yield product.createdAt.lt(createdAt)
+                        .or(product.createdAt.eq(createdAt).and(product.id.gt(cursor.id())));
+                }
+                case PRICE_ASC -> {
+                    BigDecimal price = new BigDecimal(cursor.sortValue());
+                    yield product.price.gt(price)
+                        .or(product.price.eq(price).and(product.id.gt(cursor.id())));
+                }
+                case LIKES_DESC -> {
+                    Integer likeCount = Integer.valueOf(cursor.sortValue());
+                    yield product.likeCount.lt(likeCount)
+                        .or(product.likeCount.eq(likeCount).and(product.id.gt(cursor.id())));
+                }
+            };
+        } catch (RuntimeException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    private static ProductCursor toCursor(ProductSortType sortType, Tuple lastRow) {
+        ProductQueryData last = lastRow.get(0, ProductQueryData.class);
+        String sortValue = switch (sortType) {
+            case LATEST -> lastRow.get(product.createdAt).toInstant().toString();
+            case PRICE_ASC -> last.price().toPlainString();
+            case LIKES_DESC -> String.valueOf(last.likeCount());
+        };
+        return new ProductCursor(sortType, sortValue, last.id());
+    }
+
     private OrderSpecifier<?> getOrderSpecifier(ProductSortType sortType) {
         return switch (sortType) {
             case LATEST -> product.createdAt.desc();
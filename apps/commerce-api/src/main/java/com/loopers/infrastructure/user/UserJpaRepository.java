@@ -2,10 +2,19 @@ package com.loopers.infrastructure.user;
 
 import com.loopers.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface UserJpaRepository extends JpaRepository<User, Long> {
 
     boolean existsByAccountId(String accountId);
 
     User findByAccountId(String accountId);
+
+    @Query( "SELECT u.id " +
+            "FROM User u " +
+            "WHERE u.accountId = :accountId")
+    Optional<Long> findIdByAccountId(@Param("accountId") String accountId);
 }
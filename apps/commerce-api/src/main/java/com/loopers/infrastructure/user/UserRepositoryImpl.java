@@ -36,4 +36,9 @@ public class UserRepositoryImpl implements UserRepository {
     public Optional<User> findById(Long userId) {
         return userJpaRepository.findById(userId);
     }
+
+    @Override
+    public Optional<Long> findIdByAccountId(String accountId) {
+        return userJpaRepository.findIdByAccountId(accountId);
+    }
 }
@@ -1,15 +1,25 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.application.like.LikeQuery;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Like API", description = "좋아요 관련 API")
 public interface LikeV1ApiSpec {
 
+    @Operation(summary = "좋아요한 상품 목록 조회", description = "최근에 좋아요한 순으로 상품을 조회합니다. 이전 응답의 nextCursor 를 넘겨 다음 페이지를 조회합니다.")
+    ApiResponse<LikeQuery.LikedProductListResult> getLikedProducts(
+        @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") String userId,
+        @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) Long cursor,
+        @Parameter(description = "페이지 크기", schema = @Schema(defaultValue = "20")) @RequestParam(defaultValue = "20") int size
+    );
+
     @Operation(summary = "상품 좋아요 등록", description = "특정 상품에 좋아요를 등록합니다.")
     ApiResponse<Object> createProductLike(
         @Parameter(description = "상품 ID", required = true) @PathVariable Long productId,
@@ -1,6 +1,7 @@
 package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeFacade;
+import com.loopers.application.like.LikeQuery;
 import com.loopers.domain.like.LikeCommand;
 import com.loopers.domain.like.TargetType;
 import com.loopers.interfaces.api.ApiResponse;
@@ -12,10 +13,21 @@ import org.springframework.web.bind.annotation.*;
 public class LikeV1Controller implements LikeV1ApiSpec {
 
     private final LikeFacade likeFacade;
+    private final LikeQuery likeQuery;
 
     @Autowired
-    public LikeV1Controller(LikeFacade likeFacade) {
+    public LikeV1Controller(LikeFacade likeFacade, LikeQuery likeQuery) {
         this.likeFacade = likeFacade;
+        this.likeQuery = likeQuery;
+    }
+
+    @GetMapping("/products")
+    public ApiResponse<LikeQuery.LikedProductListResult> getLikedProducts(
+            @RequestHeader("X-USER-ID") String accountId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(likeQuery.getLikedProducts(accountId, cursor, size));
     }
 
     @PostMapping("/products/{productId}")
@@ -12,11 +12,48 @@ public interface OrderV1ApiSpec {
 
     @Operation(
         summary = "주문 생성", 
-        description = "상품을 주문합니다. 포인트 할인과 쿠폰을 선택적으로 사용할 수 있습니다."
+        description = "상품을 주문합니다. 포인트 할인과 쿠폰을 선택적으로 사용할 수 있습니다. Idempotency-Key 를 보내면 같은 키의 재요청에는 처음 응답(재고 부족 같은 4xx 오류 포함)을 그대로 돌려줍니다."
     )
     ApiResponse<OrderV1Dto.OrderCreateResponse> createOrder(
         @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") String userId,
+        @Parameter(description = "대기열 입장 토큰 (대기열 운영 중에만 필수)") @RequestHeader(value = "X-QUEUE-TOKEN", required = false) String queueToken,
+        @Parameter(description = "멱등 키 (선택사항, 재시도 시 같은 값을 보냄)") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
         @Parameter(description = "주문 정보", required = true) @RequestBody OrderV1Dto.OrderCreateRequest request
     );
 
+    @Operation(
+        summary = "주문 비동기 접수",
+        description = "주문을 접수만 하고 202 와 접수 토큰을 바로 돌려줍니다. 주문 생성 결과는 상태 조회로 확인합니다."
+    )
+    ApiResponse<OrderV1Dto.OrderIntakeResponse> createOrderAsync(
+        @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") String userId,
+        @Parameter(description = "대기열 입장 토큰 (대기열 운영 중에만 필수)") @RequestHeader(value = "X-QUEUE-TOKEN", required = false) String queueToken,
+        @Parameter(description = "주문 정보", required = true) @RequestBody OrderV1Dto.OrderCreateRequest request
+    );
+
+    @Operation(
+        summary = "주문 접수 상태 조회",
+        description = "접수 토큰으로 처리 상태(PENDING/COMPLETED/FAILED)를 조회합니다. 완료되면 주문 ID 를 함께 돌려줍니다. 본인이 접수한 건만 조회할 수 있습니다."
+    )
+    ApiResponse<OrderV1Dto.OrderIntakeResponse> getOrderIntakeStatus(
+        @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") String userId,
+        @Parameter(description = "접수 토큰", required = true) String token
+    );
+
+    @Operation(
+        summary = "주문 대기열 진입",
+        description = "주문 대기열에 들어가 토큰과 대기 순번을 받습니다. 이미 대기 중이면 기존 토큰과 순번을 돌려줍니다."
+    )
+    ApiResponse<OrderV1Dto.OrderQueueResponse> enterQueue(
+        @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") String userId
+    );
+
+    @Operation(
+        summary = "주문 대기열 상태 조회",
+        description = "대기 순번과 예상 대기 시간을 조회합니다. 입장하면 ADMITTED 와 함께 주문에 쓸 토큰을 돌려줍니다."
+    )
+    ApiResponse<OrderV1Dto.OrderQueueResponse> getQueueStatus(
+        @Parameter(description = "사용자 ID", required = true) @RequestHeader("X-USER-ID") String userId
+    );
+
 }
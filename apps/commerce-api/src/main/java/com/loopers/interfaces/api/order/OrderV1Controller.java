@@ -1,7 +1,12 @@
 package com.loopers.interfaces.api.order;
 
+import com.loopers.application.idempotency.IdempotencyFacade;
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderInfo;
+import com.loopers.application.order.OrderIntakeFacade;
+import com.loopers.application.order.OrderIntakeInfo;
+import com.loopers.application.order.OrderQueueFacade;
+import com.loopers.application.order.OrderQueueInfo;
 import com.loopers.domain.order.OrderCommand;
 import com.loopers.domain.payment.PaymentDetails;
 import com.loopers.domain.payment.PaymentMethod;
@@ -9,6 +14,7 @@ import com.loopers.interfaces.api.ApiResponse;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,35 +24,94 @@ import java.util.List;
 public class OrderV1Controller implements OrderV1ApiSpec {
 
     private final OrderFacade orderFacade;
+    private final OrderQueueFacade orderQueueFacade;
+    private final OrderIntakeFacade orderIntakeFacade;
+    private final IdempotencyFacade idempotencyFacade;
 
     @Autowired
-    public OrderV1Controller(OrderFacade orderFacade) {
+    public OrderV1Controller(OrderFacade orderFacade, OrderQueueFacade orderQueueFacade,
+                             OrderIntakeFacade orderIntakeFacade, IdempotencyFacade idempotencyFacade) {
         this.orderFacade = orderFacade;
+        this.orderQueueFacade = orderQueueFacade;
+        this.orderIntakeFacade = orderIntakeFacade;
+        this.idempotencyFacade = idempotencyFacade;
     }
 
     @PostMapping
     public ApiResponse<OrderV1Dto.OrderCreateResponse> createOrder(
             @RequestHeader("X-USER-ID") String accountId,
+            @RequestHeader(value = "X-QUEUE-TOKEN", required = false) String queueToken,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody OrderV1Dto.OrderCreateRequest request
     ) {
+        // 재시도 요청은 대기열 입장이 이미 끝났으므로 입장 확인보다 먼저 저장된 응답을 찾는다
+        OrderV1Dto.OrderCreateResponse response = idempotencyFacade.execute(
+                "order", accountId, idempotencyKey, request, OrderV1Dto.OrderCreateResponse.class,
+                () -> orderQueueFacade.executeAdmitted(accountId, queueToken, () -> {
+                    OrderCommand.Create command = createCommand(request);
+
+                    OrderInfo orderInfo = orderFacade.createOrder(accountId, command);
+                    return OrderV1Dto.OrderCreateResponse.from(orderInfo);
+                }));
+
+        return ApiResponse.success(response);
+    }
+
+    @PostMapping("/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ApiResponse<OrderV1Dto.OrderIntakeResponse> createOrderAsync(
+            @RequestHeader("X-USER-ID") String accountId,
+            @RequestHeader(value = "X-QUEUE-TOKEN", required = false) String queueToken,
+            @RequestBody OrderV1Dto.OrderCreateRequest request
+    ) {
+        OrderIntakeInfo intakeInfo = orderQueueFacade.executeAdmitted(accountId, queueToken,
+                () -> orderIntakeFacade.enqueue(accountId, createCommand(request)));
+
+        return ApiResponse.success(OrderV1Dto.OrderIntakeResponse.from(intakeInfo));
+    }
+
+    @GetMapping("/{token}/status")
+    public ApiResponse<OrderV1Dto.OrderIntakeResponse> getOrderIntakeStatus(
+            @RequestHeader("X-USER-ID") String accountId,
+            @PathVariable String token
+    ) {
+        OrderIntakeInfo intakeInfo = orderIntakeFacade.getStatus(accountId, token);
+
+        return ApiResponse.success(OrderV1Dto.OrderIntakeResponse.from(intakeInfo));
+    }
+
+    @PostMapping("/queue")
+    public ApiResponse<OrderV1Dto.OrderQueueResponse> enterQueue(
+            @RequestHeader("X-USER-ID") String accountId
+    ) {
+        OrderQueueInfo queueInfo = orderQueueFacade.enter(accountId);
+
+        return ApiResponse.success(OrderV1Dto.OrderQueueResponse.from(queueInfo));
+    }
+
+    @GetMapping("/queue")
+    public ApiResponse<OrderV1Dto.OrderQueueResponse> getQueueStatus(
+            @RequestHeader("X-USER-ID") String accountId
+    ) {
+        OrderQueueInfo queueInfo = orderQueueFacade.getStatus(accountId);
+
+        return ApiResponse.success(OrderV1Dto.OrderQueueResponse.from(queueInfo));
+    }
+    
+    private OrderCommand.Create createCommand(OrderV1Dto.OrderCreateRequest request) {
         List<OrderCommand.CreateItem> commandItems = request.items().stream()
             .map(item -> new OrderCommand.CreateItem(item.productId(), item.quantity()))
             .toList();
 
         PaymentDetails paymentDetails = createPaymentDetails(request.paymentMethod(), request.cardInfo());
 
-        OrderCommand.Create command = new OrderCommand.Create(
+        return new OrderCommand.Create(
             commandItems,
             request.userCouponId(),
             paymentDetails
         );
-
-        OrderInfo orderInfo = orderFacade.createOrder(accountId, command);
-        OrderV1Dto.OrderCreateResponse response = OrderV1Dto.OrderCreateResponse.from(orderInfo);
-
-        return ApiResponse.success(response);
     }
-    
+
     private PaymentDetails createPaymentDetails(PaymentMethod paymentMethod, OrderV1Dto.CardInfoRequest cardInfo) {
         return switch (paymentMethod) {
             case CARD -> {
@@ -1,6 +1,8 @@
 package com.loopers.interfaces.api.order;
 
 import com.loopers.application.order.OrderInfo;
+import com.loopers.application.order.OrderIntakeInfo;
+import com.loopers.application.order.OrderQueueInfo;
 import com.loopers.domain.payment.PaymentMethod;
 
 import java.math.BigDecimal;
@@ -39,5 +41,37 @@ public class OrderV1Dto {
         }
     }
 
+    public record OrderIntakeResponse(
+        String token,
+        String status,
+        Long orderId,
+        String failureReason
+    ) {
+        public static OrderIntakeResponse from(OrderIntakeInfo intakeInfo) {
+            return new OrderIntakeResponse(
+                intakeInfo.token(),
+                intakeInfo.status().name(),
+                intakeInfo.orderId(),
+                intakeInfo.failureReason()
+            );
+        }
+    }
+
+    public record OrderQueueResponse(
+        String status,
+        String token,
+        Long position,
+        Long estimatedWaitSeconds
+    ) {
+        public static OrderQueueResponse from(OrderQueueInfo queueInfo) {
+            return new OrderQueueResponse(
+                queueInfo.status().name(),
+                queueInfo.token(),
+                queueInfo.position(),
+                queueInfo.estimatedWaitSeconds()
+            );
+        }
+    }
+
 
 }
@@ -20,11 +20,13 @@ public interface PointV1ApiSpec {
 
     @Operation(
             summary = "포인트 충전",
-            description = "유저의 포인트를 충전합니다."
+            description = "유저의 포인트를 충전합니다. Idempotency-Key 를 보내면 같은 키의 재요청은 다시 충전하지 않고 처음 응답을 돌려줍니다."
     )
     ApiResponse<PointV1Dto.PointResponse> chargePoints(
             @Schema(name = "사용자 ID", description = "X-USER-ID 헤더로 전달되는 현재 사용자 식별자")
             String userId,
+            @Schema(name = "멱등 키", description = "Idempotency-Key 헤더로 전달되는 선택 값. 재시도 시 같은 값을 보냅니다.")
+            String idempotencyKey,
             @Schema(name = "충전할 포인트", description = "충전할 포인트 단, 0이하의 값은 불허합니다.")
             UserV1Dto.UserPointChargeRequest request
     );
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.point;
 
+import com.loopers.application.idempotency.IdempotencyFacade;
 import com.loopers.application.user.UserFacade;
 import com.loopers.application.user.UserPointInfo;
 import com.loopers.interfaces.api.ApiResponse;
@@ -12,10 +13,12 @@ import org.springframework.web.bind.annotation.*;
 public class PointV1Controller implements PointV1ApiSpec {
 
     private final UserFacade userFacade;
+    private final IdempotencyFacade idempotencyFacade;
 
     @Autowired
-    public PointV1Controller(UserFacade userFacade) {
+    public PointV1Controller(UserFacade userFacade, IdempotencyFacade idempotencyFacade) {
         this.userFacade = userFacade;
+        this.idempotencyFacade = idempotencyFacade;
     }
 
     @GetMapping("")
@@ -28,10 +31,15 @@ public class PointV1Controller implements PointV1ApiSpec {
     @PostMapping("")
     public ApiResponse<PointV1Dto.PointResponse> chargePoints(
             @RequestHeader("X-USER-ID") String accountId,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestBody UserV1Dto.UserPointChargeRequest request)
     {
-        UserPointInfo userPointInfo = userFacade.chargePoint(accountId, request.amount());
+        PointV1Dto.PointResponse response = idempotencyFacade.execute(
+                "point-charge", accountId, idempotencyKey, request, PointV1Dto.PointResponse.class, () -> {
+                    UserPointInfo userPointInfo = userFacade.chargePoint(accountId, request.amount());
+                    return PointV1Dto.PointResponse.from(userPointInfo);
+                });
 
-        return ApiResponse.success(PointV1Dto.PointResponse.from(userPointInfo));
+        return ApiResponse.success(response);
     }
 }
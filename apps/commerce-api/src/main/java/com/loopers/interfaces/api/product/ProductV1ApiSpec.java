@@ -7,6 +7,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.util.List;
+
 @Tag(name = "Product V1 API", description = "상품 조회")
 public interface ProductV1ApiSpec {
 
@@ -28,7 +30,37 @@ public interface ProductV1ApiSpec {
             
             @Parameter(description = "페이지 크기", 
                       schema = @Schema(defaultValue = "20"))
-            int size
+            int size,
+
+            @Parameter(description = "근사 전체 개수 허용 여부 (true 이면 재집계 전의 캐시된 개수를 사용할 수 있음)",
+                      schema = @Schema(defaultValue = "false"))
+            boolean approximateTotal,
+
+            @Parameter(description = "사용자 ID (선택사항, 있으면 상품별 좋아요 여부 포함)")
+            String accountId
+    );
+
+    @Operation(
+            summary = "상품 목록 커서 조회",
+            description = "이전 응답의 nextCursor 를 넘겨 다음 상품 목록을 조회합니다. 페이지가 깊어져도 조회 비용이 일정합니다."
+    )
+    ApiResponse<ProductQuery.ProductCursorListResult> getProductsByCursor(
+            @Parameter(description = "브랜드 ID (선택사항)")
+            Long brandId,
+
+            @Parameter(description = "정렬 기준 (latest/price_asc/likes_desc)",
+                      schema = @Schema(defaultValue = "latest"))
+            String sort,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            String cursor,
+
+            @Parameter(description = "페이지 크기",
+                      schema = @Schema(defaultValue = "20"))
+            int size,
+
+            @Parameter(description = "사용자 ID (선택사항, 있으면 상품별 좋아요 여부 포함)")
+            String accountId
     );
 
     @Operation(
@@ -39,4 +71,13 @@ public interface ProductV1ApiSpec {
             @Parameter(description = "상품 ID", required = true)
             Long productId
     );
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "상품 상세 일괄 조회",
+            description = "여러 상품의 상세 정보를 한 번에 조회합니다. 존재하지 않는 상품 ID 는 notFoundIds 로 반환합니다. (최대 100개)"
+    )
+    ApiResponse<ProductQuery.ProductDetailsResult> getProductDetails(
+            @Parameter(description = "상품 ID 목록 (예: ids=1,2,3)", required = true)
+            List<Long> ids
+    );
+}
@@ -5,6 +5,8 @@ import com.loopers.interfaces.api.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/products")
 public class ProductV1Controller implements ProductV1ApiSpec {
@@ -21,9 +23,27 @@ public class ProductV1Controller implements ProductV1ApiSpec {
             @RequestParam(required = false) Long brandId,
             @RequestParam(defaultValue = "latest") String sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean approximateTotal,
+            @RequestHeader(value = "X-USER-ID", required = false) String accountId
+    ) {
+        return ApiResponse.success(productQuery.getProducts(brandId, sort, page, size, approximateTotal, accountId));
+    }
+
+    @GetMapping("/cursor")
+    public ApiResponse<ProductQuery.ProductCursorListResult> getProductsByCursor(
+            @RequestParam(required = false) Long brandId,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = "X-USER-ID", required = false) String accountId
     ) {
-        return ApiResponse.success(productQuery.getProducts(brandId, sort, page, size));
+        return ApiResponse.success(productQuery.getProductsByCursor(brandId, sort, cursor, size, accountId));
+    }
+
+    @GetMapping("/details")
+    public ApiResponse<ProductQuery.ProductDetailsResult> getProductDetails(@RequestParam List<Long> ids) {
+        return ApiResponse.success(productQuery.getProductDetails(ids));
     }
 
     @GetMapping("/{productId}")
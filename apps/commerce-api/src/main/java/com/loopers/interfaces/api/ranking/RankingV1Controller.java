@@ -20,9 +20,10 @@ public class RankingV1Controller {
     public ApiResponse<RankingQuery.RankingPageResult> getRankings(
             @RequestParam(required = false) String date,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = "X-USER-ID", required = false) String accountId
     ) {
-        RankingQuery.RankingPageResult result = rankingQuery.getRankings(date, page, size);
+        RankingQuery.RankingPageResult result = rankingQuery.getRankings(date, page, size, accountId);
 
         return ApiResponse.success(result);
     }
@@ -0,0 +1,58 @@
+package com.loopers.support.cache;
+
+import java.util.BitSet;
+
+/**
+ * long 값 전용 Bloom filter.
+ * 없다고 답하면 확실히 없고, 있다고 답하면 falsePositiveRate 확률로 틀릴 수 있다.
+ * 생성 후 put 이 끝난 인스턴스만 공유하는 용도이므로 동기화하지 않는다.
+ */
+public class BloomFilter {
+
+    private final BitSet bits;
+    private final int bitSize;
+    private final int hashCount;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long insertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.min(Integer.MAX_VALUE - 1, Math.max(64, optimalBits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / insertions * Math.log(2)));
+        this.bits = new BitSet(bitSize);
+    }
+
+    public void put(long value) {
+        long hash1 = mix(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            bits.set(indexOf(hash1, hash2, i));
+        }
+    }
+
+    public boolean mightContain(long value) {
+        long hash1 = mix(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            if (!bits.get(indexOf(hash1, hash2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch-Mitzenmacher: 해시 두 개로 k 개의 인덱스를 만든다
+    private int indexOf(long hash1, long hash2, int i) {
+        return (int) Math.floorMod(hash1 + i * hash2, (long) bitSize);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -7,10 +7,41 @@ public final class CacheConstants {
     private CacheConstants() {}
     
     public static final class Keys {
-        public static final String PRODUCT_DETAIL_DTO = "product:detail:dto:";
+        // 상품 상세 Hash (payload / likeCount / stock 필드)
+        public static final String PRODUCT_DETAIL = "product:detail:hash:";
+        public static final String PRODUCT_DETAIL_LOCK = "product:detail:lock:";
+        public static final String PRODUCT_DETAIL_ABSENT = "product:detail:absent:";
+        public static final String PRODUCT_LIST_COUNT = "product:list:count:";
+        public static final String PRODUCT_LIST_PAGE = "product:list:page:";
+        // 상품 ID → 해당 상품이 포함된 목록 페이지 키 집합 (선택적 무효화용 역인덱스)
+        public static final String PRODUCT_LIST_PAGE_INDEX = "product:list:page-index:";
+        // 사용자 ID → 좋아요한 상품 ID 집합 (적재 완료/개수 초과 표식 포함)
+        public static final String LIKED_PRODUCTS = "like:user:liked-products:";
+    }
+    
+    public static final class Channels {
+        public static final String PRODUCT_DETAIL_INVALIDATION = "product:detail:invalidation";
     }
     
     public static final class TTL {
-        public static final Duration PRODUCT_DETAIL = Duration.ofMinutes(10);
+        // 순위는 캐시하지 않고 좋아요 수/재고는 제자리에서 갱신되므로 정적 정보 기준으로 길게 유지
+        public static final Duration PRODUCT_DETAIL = Duration.ofHours(1);
+        // pub/sub 메시지 유실 시에도 로컬 캐시의 stale 구간이 이 시간을 넘지 않도록 짧게 유지
+        public static final Duration PRODUCT_DETAIL_LOCAL = Duration.ofSeconds(30);
+        public static final Duration PRODUCT_DETAIL_LOCK = Duration.ofSeconds(3);
+        // 존재하지 않는 상품 ID 표식. 이후 생성/복구된 상품이 이 시간 이상 가려지지 않도록 짧게 유지
+        public static final Duration PRODUCT_DETAIL_ABSENT = Duration.ofMinutes(1);
+        // 이 시간 안에 집계된 전체 개수는 그대로 사용하고, 지나면 다시 집계한다
+        public static final Duration PRODUCT_LIST_COUNT = Duration.ofMinutes(1);
+        // 근사 개수 모드에서 재집계 전까지 내려줄 수 있는 최대 보관 기간
+        public static final Duration PRODUCT_LIST_COUNT_RETENTION = Duration.ofHours(1);
+        // 정렬 순서 변경처럼 역인덱스로 잡히지 않는 변경의 stale 구간 상한
+        public static final Duration PRODUCT_LIST_PAGE = Duration.ofMinutes(1);
+        // 좋아요 변경은 커밋 후 반영되지만 적재와 겹친 변경이 빠질 수 있어 이 시간마다 다시 적재한다
+        public static final Duration LIKED_PRODUCTS = Duration.ofMinutes(10);
+    }
+    
+    public static final class Size {
+        public static final long PRODUCT_DETAIL_LOCAL_MAX = 10_000;
     }
 }
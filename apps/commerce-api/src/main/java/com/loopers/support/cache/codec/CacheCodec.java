@@ -0,0 +1,12 @@
+package com.loopers.support.cache.codec;
+
+/**
+ * 캐시 값을 Redis 에 저장할 바이트로 변환한다.
+ * decode 는 형식을 알 수 없는 값(이전 스키마 버전 등)이면 null 을 반환하고, 호출 측은 이를 캐시 미스로 취급한다.
+ */
+public interface CacheCodec<T> {
+
+    byte[] encode(T value);
+
+    T decode(byte[] bytes);
+}
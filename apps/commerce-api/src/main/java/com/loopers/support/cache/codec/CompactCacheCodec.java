@@ -0,0 +1,197 @@
+package com.loopers.support.cache.codec;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 필드 이름 없이 값만 순서대로 쓰는 바이너리 코덱.
+ * <pre>
+ * [MAGIC 1B][스키마 버전 1B][플래그 1B][본문]
+ * </pre>
+ * 본문이 compressionThreshold 바이트 이상이면 Deflate 로 압축하고 플래그에 표시한다.
+ * 스키마 버전이 맞지 않는 값은 읽지 않고 null(캐시 미스)로 돌려주므로, 필드 구성이 바뀌면 버전만 올리면 된다.
+ * MAGIC 으로 시작하지 않는 값은 fallback 코덱(기존 JSON 등)으로 읽어 포맷 전환 중에도 기존 캐시를 그대로 사용한다.
+ */
+@Slf4j
+public abstract class CompactCacheCodec<T> implements CacheCodec<T> {
+
+    static final byte MAGIC = (byte) 0xC7;
+    static final int HEADER_SIZE = 3;
+    private static final byte FLAG_COMPRESSED = 0x01;
+
+    private final int compressionThreshold;
+    private final CacheCodec<T> fallbackCodec;
+
+    protected CompactCacheCodec(int compressionThreshold, CacheCodec<T> fallbackCodec) {
+        this.compressionThreshold = compressionThreshold;
+        this.fallbackCodec = fallbackCodec;
+    }
+
+    protected abstract byte schemaVersion();
+
+    protected abstract void writeBody(DataOutputStream out, T value) throws IOException;
+
+    protected abstract T readBody(DataInputStream in) throws IOException;
+
+    @Override
+    public byte[] encode(T value) {
+        try {
+            ByteArrayOutputStream bodyBuffer = new ByteArrayOutputStream(256);
+            try (DataOutputStream out = new DataOutputStream(bodyBuffer)) {
+                writeBody(out, value);
+            }
+            byte[] body = bodyBuffer.toByteArray();
+
+            boolean compressed = body.length >= compressionThreshold;
+            if (compressed) {
+                body = deflate(body);
+            }
+
+            byte[] encoded = new byte[HEADER_SIZE + body.length];
+            encoded[0] = MAGIC;
+            encoded[1] = schemaVersion();
+            encoded[2] = compressed ? FLAG_COMPRESSED : 0;
+            System.arraycopy(body, 0, encoded, HEADER_SIZE, body.length);
+            return encoded;
+
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 값 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        if (bytes[0] != MAGIC) {
+            return fallbackCodec != null ? fallbackCodec.decode(bytes) : null;
+        }
+
+        if (bytes.length < HEADER_SIZE || bytes[1] != schemaVersion()) {
+            log.debug("캐시 스키마 버전 불일치 - 기대: {}, 실제: {}", schemaVersion(), bytes.length > 1 ? bytes[1] : null);
+            return null;
+        }
+
+        InputStream body = new ByteArrayInputStream(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        if ((bytes[2] & FLAG_COMPRESSED) != 0) {
+            body = new InflaterInputStream(body);
+        }
+
+        try (DataInputStream in = new DataInputStream(body)) {
+            return readBody(in);
+        } catch (IOException e) {
+            log.warn("캐시 값 역직렬화 실패 - 원인: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte[] deflate(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(buffer, deflater)) {
+            out.write(body);
+        } finally {
+            deflater.end();
+        }
+        return buffer.toByteArray();
+    }
+
+    protected static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    protected static Long readNullableLong(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    protected static void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    protected static Integer readNullableInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    // writeUTF 는 65535 바이트를 넘으면 실패하므로 varint 길이 + UTF-8 바이트로 쓴다
+    protected static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    protected static String readNullableString(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    protected static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    protected static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("음수 길이: " + value);
+                }
+                return value;
+            }
+        }
+        throw new IOException("varint 길이 초과");
+    }
+
+    // 금액은 스케일을 보존해야 하므로 문자열 대신 unscaled 값과 scale 로 저장한다
+    protected static void writeNullableDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            byte[] unscaled = value.unscaledValue().toByteArray();
+            out.writeInt(value.scale());
+            out.writeByte(unscaled.length);
+            out.write(unscaled);
+        }
+    }
+
+    protected static BigDecimal readNullableDecimal(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readUnsignedByte()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+}
@@ -0,0 +1,37 @@
+package com.loopers.support.cache.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+
+@Slf4j
+public class JsonCacheCodec<T> implements CacheCodec<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Class<T> type;
+
+    public JsonCacheCodec(ObjectMapper objectMapper, Class<T> type) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+    }
+
+    @Override
+    public byte[] encode(T value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 값 JSON 직렬화 실패 - type: " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public T decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, type);
+        } catch (IOException e) {
+            log.warn("캐시 값 JSON 역직렬화 실패 - type: {}, 원인: {}", type.getSimpleName(), e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.loopers.application.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("멱등 키 처리 테스트")
+class IdempotencyFacadeTest {
+
+    private static final String KEY = "order:user1:key-1";
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private IdempotencyFacade idempotencyFacade;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(idempotencyFacade, "ttlSeconds", 86400L);
+        ReflectionTestUtils.setField(idempotencyFacade, "processingTtlSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("키가 없으면 저장소를 거치지 않고 매번 처리한다")
+    void execute_runsAction_whenNoKey() {
+        // act
+        Response result = execute(null, new Request(1L, 2));
+
+        // assert
+        assertThat(result).isEqualTo(new Response(1L, "COMPLETED"));
+        assertThat(executions.get()).isEqualTo(1);
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    @Test
+    @DisplayName("처음 들어온 키는 처리한 뒤 응답을 저장한다")
+    void execute_savesResponse_whenFirstRequest() {
+        // arrange
+        given(idempotencyRepository.tryAcquire(eq(KEY), anyString(), anyString(), any())).willReturn(true);
+        given(idempotencyRepository.complete(eq(KEY), anyString(), anyString(), any())).willReturn(true);
+
+        // act
+        Response result = execute("key-1", new Request(1L, 2));
+
+        // assert
+        ArgumentCaptor<String> saved = ArgumentCaptor.forClass(String.class);
+        verify(idempotencyRepository).complete(eq(KEY), anyString(), saved.capture(), any());
+        assertThat(result).isEqualTo(new Response(1L, "COMPLETED"));
+        assertThat(saved.getValue()).contains("\"orderId\":1");
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키로 같은 요청이 다시 오면 처리하지 않고 저장된 응답을 돌려준다")
+    void execute_returnsSavedResponse_whenDuplicated() {
+        // arrange
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        given(idempotencyRepository.tryAcquire(eq(KEY), fingerprint.capture(), anyString(), any())).willReturn(true, false);
+        execute("key-1", new Request(1L, 2));
+
+        given(idempotencyRepository.find(KEY)).willReturn(Optional.of(
+                IdempotencyRepository.Record.completed(fingerprint.getAllValues().get(0), "{\"orderId\":1,\"status\":\"COMPLETED\"}")));
+
+        // act
+        Response result = execute("key-1", new Request(1L, 2));
+
+        // assert
+        assertThat(result).isEqualTo(new Response(1L, "COMPLETED"));
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("먼저 온 요청이 처리 중이면 CONFLICT 로 거절한다")
+    void execute_throwsConflict_whenProcessing() {
+        // arrange
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        given(idempotencyRepository.tryAcquire(eq(KEY), fingerprint.capture(), anyString(), any())).willReturn(false);
+        given(idempotencyRepository.find(KEY)).willAnswer(invocation ->
+                Optional.of(IdempotencyRepository.Record.processing(fingerprint.getValue())));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> execute("key-1", new Request(1L, 2)));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 거절한다")
+    void execute_throwsBadRequest_whenRequestDiffers() {
+        // arrange
+        given(idempotencyRepository.tryAcquire(eq(KEY), anyString(), anyString(), any())).willReturn(false);
+        given(idempotencyRepository.find(KEY)).willReturn(Optional.of(
+                IdempotencyRepository.Record.completed("other-fingerprint", "{\"orderId\":1,\"status\":\"COMPLETED\"}")));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> execute("key-1", new Request(1L, 3)));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("비즈니스 오류(4xx)로 실패하면 키를 지우지 않고 오류를 저장한다")
+    void execute_savesFailure_whenBusinessErrorOccurs() {
+        // arrange
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        given(idempotencyRepository.tryAcquire(eq(KEY), anyString(), owner.capture(), any())).willReturn(true);
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> executeFailing(new CoreException(ErrorType.PAYMENT_INSUFFICIENT_POINT, "포인트 부족")));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.PAYMENT_INSUFFICIENT_POINT);
+        verify(idempotencyRepository).fail(eq(KEY), eq(owner.getValue()), eq("PAYMENT_INSUFFICIENT_POINT"), eq("포인트 부족"), any());
+        verify(idempotencyRepository, never()).release(anyString(), anyString());
+        verify(idempotencyRepository, never()).complete(anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("저장된 실패가 있으면 처리하지 않고 같은 오류로 응답한다")
+    void execute_replaysFailure_whenFailedBefore() {
+        // arrange
+        ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+        given(idempotencyRepository.tryAcquire(eq(KEY), fingerprint.capture(), anyString(), any())).willReturn(false);
+        given(idempotencyRepository.find(KEY)).willAnswer(invocation -> Optional.of(
+                IdempotencyRepository.Record.failed(fingerprint.getValue(), "PAYMENT_INSUFFICIENT_POINT", "포인트 부족")));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> execute("key-1", new Request(1L, 2)));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.PAYMENT_INSUFFICIENT_POINT);
+        assertThat(exception.getMessage()).isEqualTo("포인트 부족");
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("일시적인 오류(5xx, 409, 예상하지 못한 예외)로 실패하면 차지한 키만 지워 같은 키로 다시 시도할 수 있게 한다")
+    void execute_releasesOwnedKey_whenTransientErrorOccurs() {
+        // arrange
+        ArgumentCaptor<String> owner = ArgumentCaptor.forClass(String.class);
+        given(idempotencyRepository.tryAcquire(eq(KEY), anyString(), owner.capture(), any())).willReturn(true);
+
+        // act
+        assertThrows(CoreException.class,
+                () -> executeFailing(new CoreException(ErrorType.SERVICE_UNAVAILABLE, "PG 응답 없음")));
+        assertThrows(CoreException.class,
+                () -> executeFailing(new CoreException(ErrorType.CONFLICT, "동시 수정 충돌")));
+        assertThrows(IllegalStateException.class,
+                () -> executeFailing(new IllegalStateException("connection reset")));
+
+        // assert
+        assertThat(owner.getAllValues()).doesNotHaveDuplicates();
+        owner.getAllValues().forEach(value -> verify(idempotencyRepository).release(KEY, value));
+        verify(idempotencyRepository, never()).fail(anyString(), anyString(), anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 키를 확인하지 못하면 중복 처리를 막기 위해 처리하지 않고 SERVICE_UNAVAILABLE 로 거절한다")
+    void execute_throwsServiceUnavailable_whenRepositoryFails() {
+        // arrange
+        given(idempotencyRepository.tryAcquire(eq(KEY), anyString(), anyString(), any()))
+                .willThrow(new IllegalStateException("connection refused"));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> execute("key-1", new Request(1L, 2)));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.SERVICE_UNAVAILABLE);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("처리가 처리 중 기록 유지 시간보다 길어지면 끝날 때까지 기록을 연장한다")
+    void execute_renewsClaim_whileActionRuns() {
+        // arrange - 처리 중 기록 1초, 약 333ms 주기로 연장
+        ReflectionTestUtils.setField(idempotencyFacade, "processingTtlSeconds", 1L);
+        given(idempotencyRepository.tryAcquire(eq(KEY), anyString(), anyString(), any())).willReturn(true);
+
+        // act
+        idempotencyFacade.execute("order", "user1", "key-1", new Request(1L, 2), Response.class, () -> {
+            try {
+                Thread.sleep(800);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new Response(1L, "COMPLETED");
+        });
+
+        // assert
+        verify(idempotencyRepository, atLeastOnce()).renew(eq(KEY), anyString(), eq(Duration.ofSeconds(1)));
+        verify(idempotencyRepository).complete(eq(KEY), anyString(), anyString(), any());
+    }
+
+    private Response execute(String idempotencyKey, Request request) {
+        return idempotencyFacade.execute("order", "user1", idempotencyKey, request, Response.class, () -> {
+            executions.incrementAndGet();
+            return new Response(request.productId(), "COMPLETED");
+        });
+    }
+
+    private Response executeFailing(RuntimeException exception) {
+        return idempotencyFacade.execute("order", "user1", "key-1", new Request(1L, 2), Response.class, () -> {
+            throw exception;
+        });
+    }
+
+    record Request(Long productId, int quantity) {}
+
+    record Response(Long orderId, String status) {}
+}
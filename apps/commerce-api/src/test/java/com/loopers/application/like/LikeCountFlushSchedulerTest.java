@@ -0,0 +1,83 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.product.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좋아요 수 일괄 반영 스케줄러 테스트")
+class LikeCountFlushSchedulerTest {
+
+    @Mock
+    private ProductLikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private ProductService productService;
+
+    private LikeCountFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new LikeCountFlushScheduler(likeCountBuffer, productService);
+        ReflectionTestUtils.setField(scheduler, "flushBatchSize", 500);
+    }
+
+    @Test
+    @DisplayName("누적값을 꺼내 DB 에 한 번에 반영하고, 커밋 후 반영 중 값을 지운다")
+    void flush_appliesDrainedDeltas() {
+        // arrange
+        Map<Long, Integer> deltas = Map.of(1L, 3, 2L, -1);
+        given(likeCountBuffer.drain(500)).willReturn(deltas);
+
+        // act
+        scheduler.flush();
+
+        // assert
+        verify(productService).applyLikeCountDeltas(deltas);
+        verify(likeCountBuffer).complete(deltas);
+        verify(likeCountBuffer, never()).restore(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 꺼낸 누적값을 다시 쌓는다")
+    void flush_restoresDeltas_whenApplyFails() {
+        // arrange
+        Map<Long, Integer> deltas = Map.of(1L, 3);
+        given(likeCountBuffer.drain(500)).willReturn(deltas);
+        willThrow(new RuntimeException("DB 장애")).given(productService).applyLikeCountDeltas(deltas);
+
+        // act
+        scheduler.flush();
+
+        // assert
+        verify(likeCountBuffer).restore(deltas);
+        verify(likeCountBuffer, never()).complete(any());
+    }
+
+    @Test
+    @DisplayName("누적값이 없으면 DB 를 건드리지 않는다")
+    void flush_skips_whenNothingPending() {
+        // arrange
+        given(likeCountBuffer.drain(500)).willReturn(Map.of());
+
+        // act
+        scheduler.flush();
+
+        // assert
+        verify(productService, never()).applyLikeCountDeltas(any());
+    }
+}
@@ -6,9 +6,6 @@ import com.loopers.domain.like.LikeCommand;
 import com.loopers.domain.like.LikeService;
 import com.loopers.domain.like.ProductTarget;
 import com.loopers.domain.like.TargetType;
-import com.loopers.domain.user.Gender;
-import com.loopers.domain.user.User;
-import com.loopers.domain.user.UserCommand;
 import com.loopers.domain.user.UserService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -51,16 +48,16 @@ class LikeFacadeTest {
             Long productId = 1L;
             LikeCommand.Create command = new LikeCommand.Create(userId, TargetType.PRODUCT, productId);
 
-            User user = createTestUser();
-            when(userService.findByAccountId(userId)).thenReturn(user);
-            when(likeService.createLike(eq(user), any(ProductTarget.class))).thenReturn(true);
+            Long userPk = 1L;
+            when(userService.findIdByAccountId(userId)).thenReturn(userPk);
+            when(likeService.createLike(eq(userPk), any(ProductTarget.class))).thenReturn(true);
 
             // act
             likeFacade.createLike(command);
 
             // assert
-            verify(userService).findByAccountId(userId);
-            verify(likeService).createLike(eq(user), any(ProductTarget.class));
+            verify(userService).findIdByAccountId(userId);
+            verify(likeService).createLike(eq(userPk), any(ProductTarget.class));
             verify(eventPublisher).publishEvent(any(LikeCreatedEvent.class));
         }
         
@@ -72,16 +69,16 @@ class LikeFacadeTest {
             Long productId = 1L;
             LikeCommand.Create command = new LikeCommand.Create(userId, TargetType.PRODUCT, productId);
 
-            User user = createTestUser();
-            when(userService.findByAccountId(userId)).thenReturn(user);
-            when(likeService.createLike(eq(user), any(ProductTarget.class))).thenReturn(false);
+            Long userPk = 1L;
+            when(userService.findIdByAccountId(userId)).thenReturn(userPk);
+            when(likeService.createLike(eq(userPk), any(ProductTarget.class))).thenReturn(false);
 
             // act
             likeFacade.createLike(command);
 
             // assert
-            verify(userService).findByAccountId(userId);
-            verify(likeService).createLike(eq(user), any(ProductTarget.class));
+            verify(userService).findIdByAccountId(userId);
+            verify(likeService).createLike(eq(userPk), any(ProductTarget.class));
             verifyNoInteractions(eventPublisher);
         }
 
@@ -93,14 +90,14 @@ class LikeFacadeTest {
             Long productId = 100L;
             LikeCommand.Create command = new LikeCommand.Create(userId, TargetType.PRODUCT, productId);
 
-            User user = createTestUser();
-            when(userService.findByAccountId(userId)).thenReturn(user);
+            Long userPk = 1L;
+            when(userService.findIdByAccountId(userId)).thenReturn(userPk);
 
             // act
             likeFacade.createLike(command);
 
             // assert
-            verify(likeService).createLike(eq(user), argThat(target ->
+            verify(likeService).createLike(eq(userPk), argThat(target ->
                             target instanceof ProductTarget &&
                             target.getId().equals(productId) &&
                             target.getType() == TargetType.PRODUCT
@@ -120,16 +117,16 @@ class LikeFacadeTest {
             Long productId = 1L;
             LikeCommand.Create command = new LikeCommand.Create(userId, TargetType.PRODUCT, productId);
 
-            User user = createTestUser();
-            when(userService.findByAccountId(userId)).thenReturn(user);
-            when(likeService.cancelLike(eq(user), any(ProductTarget.class))).thenReturn(true);
+            Long userPk = 1L;
+            when(userService.findIdByAccountId(userId)).thenReturn(userPk);
+            when(likeService.cancelLike(eq(userPk), any(ProductTarget.class))).thenReturn(true);
 
             // act
             likeFacade.cancelLike(command);
 
             // assert
-            verify(userService).findByAccountId(userId);
-            verify(likeService).cancelLike(eq(user), any(ProductTarget.class));
+            verify(userService).findIdByAccountId(userId);
+            verify(likeService).cancelLike(eq(userPk), any(ProductTarget.class));
             verify(eventPublisher).publishEvent(any(LikeCancelledEvent.class));
         }
         
@@ -141,28 +138,17 @@ class LikeFacadeTest {
             Long productId = 1L;
             LikeCommand.Create command = new LikeCommand.Create(userId, TargetType.PRODUCT, productId);
 
-            User user = createTestUser();
-            when(userService.findByAccountId(userId)).thenReturn(user);
-            when(likeService.cancelLike(eq(user), any(ProductTarget.class))).thenReturn(false);
+            Long userPk = 1L;
+            when(userService.findIdByAccountId(userId)).thenReturn(userPk);
+            when(likeService.cancelLike(eq(userPk), any(ProductTarget.class))).thenReturn(false);
 
             // act
             likeFacade.cancelLike(command);
 
             // assert
-            verify(userService).findByAccountId(userId);
-            verify(likeService).cancelLike(eq(user), any(ProductTarget.class));
+            verify(userService).findIdByAccountId(userId);
+            verify(likeService).cancelLike(eq(userPk), any(ProductTarget.class));
             verifyNoInteractions(eventPublisher);
         }
     }
-
-    private User createTestUser() {
-        UserCommand.Create command = new UserCommand.Create(
-                "testUser",
-                "test@example.com",
-                "1996-08-16",
-                Gender.MALE
-        );
-
-        return User.of(command);
-    }
 }
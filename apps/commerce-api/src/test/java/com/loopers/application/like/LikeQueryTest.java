@@ -0,0 +1,183 @@
+package com.loopers.application.like;
+
+import com.loopers.application.like.LikedProductCacheRepository.LikedProducts;
+import com.loopers.application.like.LikedProductCacheRepository.State;
+import com.loopers.application.product.ProductQuery;
+import com.loopers.application.product.ProductQueryRepository;
+import com.loopers.domain.like.LikeService;
+import com.loopers.domain.like.TargetType;
+import com.loopers.domain.product.ProductLikeCountBuffer;
+import com.loopers.domain.user.UserService;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좋아요 여부 일괄 조회 테스트")
+class LikeQueryTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private LikeService likeService;
+
+    @Mock
+    private LikedProductCacheRepository likedProductCacheRepository;
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    @Mock
+    private ProductLikeCountBuffer likeCountBuffer;
+
+    @InjectMocks
+    private LikeQuery likeQuery;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeQuery, "likedCacheMaxSize", 3);
+        lenient().when(userService.findIdByAccountId("user1")).thenReturn(1L);
+        lenient().when(userService.findOptionalIdByAccountId("user1")).thenReturn(Optional.of(1L));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자면 예외 없이 좋아요한 상품이 없는 것으로 처리한다")
+    void findLikedProductIds_returnsEmpty_whenUserNotFound() {
+        // arrange
+        given(userService.findOptionalIdByAccountId("unknown")).willReturn(Optional.empty());
+
+        // act
+        Set<Long> result = likeQuery.findLikedProductIds("unknown", List.of(10L, 20L));
+
+        // assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(likedProductCacheRepository, likeService);
+    }
+
+    @Test
+    @DisplayName("캐시에 전체 집합이 있으면 DB 를 조회하지 않는다")
+    void findLikedProductIds_servedFromCache() {
+        // arrange
+        given(likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 20L)))
+                .willReturn(new LikedProducts(State.LOADED, Set.of(20L)));
+
+        // act
+        Set<Long> result = likeQuery.findLikedProductIds("user1", List.of(10L, 20L));
+
+        // assert
+        assertThat(result).containsExactly(20L);
+        verifyNoInteractions(likeService);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 사용자의 좋아요 상품을 한 번에 적재해 캐시에 저장한다")
+    void findLikedProductIds_loadAndCacheOnMiss() {
+        // arrange
+        given(likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 20L))).willReturn(LikedProducts.missing());
+        given(likedProductCacheRepository.beginLoad(1L)).willReturn(Optional.of("loading:token"));
+        given(likeService.findTargetIds(1L, TargetType.PRODUCT, 4)).willReturn(List.of(20L, 30L));
+        given(likedProductCacheRepository.saveLikedProducts(1L, "loading:token", List.of(20L, 30L))).willReturn(true);
+
+        // act
+        Set<Long> result = likeQuery.findLikedProductIds("user1", List.of(10L, 20L));
+
+        // assert
+        assertThat(result).containsExactly(20L);
+        InOrder inOrder = inOrder(likedProductCacheRepository, likeService);
+        inOrder.verify(likedProductCacheRepository).beginLoad(1L);
+        inOrder.verify(likeService).findTargetIds(1L, TargetType.PRODUCT, 4);
+        inOrder.verify(likedProductCacheRepository).saveLikedProducts(1L, "loading:token", List.of(20L, 30L));
+        verify(likeService, never()).findLikedTargetIds(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요가 캐시 한도를 넘는 사용자는 개수 초과로 표시하고 페이지 상품만 IN 조회한다")
+    void findLikedProductIds_markOverflowWhenTooMany() {
+        // arrange
+        given(likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 20L))).willReturn(LikedProducts.missing());
+        given(likeService.findTargetIds(1L, TargetType.PRODUCT, 4)).willReturn(List.of(10L, 30L, 40L, 50L));
+        given(likeService.findLikedTargetIds(1L, TargetType.PRODUCT, List.of(10L, 20L))).willReturn(Set.of(10L));
+
+        // act
+        Set<Long> result = likeQuery.findLikedProductIds("user1", List.of(10L, 20L));
+
+        // assert
+        assertThat(result).containsExactly(10L);
+        verify(likedProductCacheRepository).markOverflow(1L);
+        verify(likedProductCacheRepository, never()).saveLikedProducts(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("개수 초과로 표시된 사용자는 적재를 다시 시도하지 않고 IN 조회만 한다")
+    void findLikedProductIds_queryOnlyPageWhenOverflow() {
+        // arrange
+        given(likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 20L)))
+                .willReturn(new LikedProducts(State.OVERFLOW, Set.of()));
+        given(likeService.findLikedTargetIds(1L, TargetType.PRODUCT, List.of(10L, 20L))).willReturn(Set.of());
+
+        // act
+        Set<Long> result = likeQuery.findLikedProductIds("user1", List.of(10L, 20L));
+
+        // assert
+        assertThat(result).isEmpty();
+        verify(likeService, never()).findTargetIds(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("좋아요한 상품 목록은 좋아요 여부를 true 로, 좋아요 수에는 아직 반영되지 않은 누적값을 더해 반환한다")
+    void getLikedProducts_markLikedAndMergePendingLikeCount() {
+        // arrange
+        ProductQueryRepository.ProductQueryData product = new ProductQueryRepository.ProductQueryData(
+                10L, "상품", "설명", BigDecimal.valueOf(10000), 10, 1L, "브랜드", 5
+        );
+        given(productQueryRepository.findLikedProducts(1L, null, 1))
+                .willReturn(new ProductQueryRepository.LikedProductSliceData(List.of(product), 7L));
+        given(likeCountBuffer.getPendingDeltas(List.of(10L))).willReturn(Map.of(10L, 2L));
+
+        // act
+        LikeQuery.LikedProductListResult result = likeQuery.getLikedProducts("user1", null, 1);
+
+        // assert
+        assertThat(result.products()).extracting(ProductQuery.ProductQueryResult::liked).containsExactly(true);
+        assertThat(result.products()).extracting(ProductQuery.ProductQueryResult::likeCount).containsExactly(7);
+        assertThat(result.nextCursor()).isEqualTo(7L);
+        assertThat(result.hasNext()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101})
+    @DisplayName("좋아요한 상품 목록 페이지 크기가 1~100 을 벗어나면 BAD_REQUEST 예외가 발생한다")
+    void getLikedProducts_throwBadRequest_whenSizeOutOfRange(int size) {
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> likeQuery.getLikedProducts("user1", null, size));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        verifyNoInteractions(productQueryRepository);
+    }
+}
@@ -0,0 +1,133 @@
+package com.loopers.application.like.event;
+
+import com.loopers.application.product.ProductQuery;
+import com.loopers.domain.product.ProductService;
+import com.loopers.infrastructure.kafka.KafkaEventPublisher;
+import com.loopers.infrastructure.kafka.event.LikeChangedKafkaEvent;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("좋아요 집계 이벤트 묶음 처리 테스트")
+class LikeAggregateCoalescerTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductQuery productQuery;
+
+    @Mock
+    private KafkaEventPublisher kafkaEventPublisher;
+
+    @InjectMocks
+    private LikeAggregateCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(coalescer, "maxEvents", 1000);
+    }
+
+    @Test
+    @DisplayName("구간 안의 증감을 상품별로 합쳐 갱신, 캐시 반영, Kafka 발행을 한 번씩만 한다")
+    void flush_appliesNetDeltaOncePerProduct() {
+        // arrange
+        coalescer.add(1L, 1);
+        coalescer.add(1L, 1);
+        coalescer.add(1L, -1);
+        coalescer.add(1L, 1);
+
+        // act
+        coalescer.flush();
+
+        // assert
+        verify(productService).addLikeCount(1L, 2);
+        verify(productQuery).applyProductLikeCountDelta(1L, 2);
+        verify(productQuery).evictProductListCache(1L);
+
+        ArgumentCaptor<LikeChangedKafkaEvent> captor = ArgumentCaptor.forClass(LikeChangedKafkaEvent.class);
+        verify(kafkaEventPublisher).publishLikeChangedEvent(captor.capture());
+        assertThat(captor.getValue().getProductId()).isEqualTo(1L);
+        assertThat(captor.getValue().getDeltaCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("순증감이 0 인 상품은 아무것도 반영하지 않는다")
+    void flush_skipsZeroNetDelta() {
+        // arrange
+        coalescer.add(1L, 1);
+        coalescer.add(1L, -1);
+
+        // act
+        coalescer.flush();
+
+        // assert
+        verifyNoInteractions(productService, productQuery, kafkaEventPublisher);
+    }
+
+    @Test
+    @DisplayName("모인 이벤트가 최대 개수에 도달하면 구간이 끝나기 전에 바로 반영한다")
+    void add_flushesWhenMaxEventsReached() {
+        // arrange
+        ReflectionTestUtils.setField(coalescer, "maxEvents", 3);
+
+        // act
+        coalescer.add(1L, 1);
+        coalescer.add(2L, 1);
+        coalescer.add(1L, 1);
+
+        // assert
+        verify(productService).addLikeCount(1L, 2);
+        verify(productService).addLikeCount(2L, 1);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 증감은 다음 구간에 다시 반영한다")
+    void flush_restoresDeltaOnFailure() {
+        // arrange
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(productService).addLikeCount(1L, 2);
+        coalescer.add(1L, 1);
+        coalescer.add(1L, 1);
+
+        // act
+        coalescer.flush();
+        coalescer.flush();
+
+        // assert
+        verify(productService, times(2)).addLikeCount(1L, 2);
+        verify(kafkaEventPublisher, times(1)).publishLikeChangedEvent(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품의 증감은 재시도하지 않고 버린다")
+    void flush_dropsDeltaForMissingProduct() {
+        // arrange
+        doThrow(new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다."))
+                .when(productService).addLikeCount(1L, 1);
+        coalescer.add(1L, 1);
+
+        // act
+        coalescer.flush();
+        coalescer.flush();
+
+        // assert
+        verify(productService, times(1)).addLikeCount(anyLong(), anyInt());
+        verifyNoInteractions(productQuery, kafkaEventPublisher);
+    }
+}
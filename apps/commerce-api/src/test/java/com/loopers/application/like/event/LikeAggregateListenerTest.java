@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.mockito.Mockito.*;
 
@@ -25,6 +26,9 @@ class LikeAggregateListenerTest {
     @Mock
     private ProductQuery productQuery;
 
+    @Mock
+    private LikeAggregateCoalescer likeAggregateCoalescer;
+
     @InjectMocks
     private LikeAggregateListener likeAggregateListener;
 
@@ -45,7 +49,8 @@ class LikeAggregateListenerTest {
 
             // assert
             verify(productService).increaseLikeCount(productId);
-            verify(productQuery).evictProductDetailCache(productId);
+            verify(productQuery).applyProductLikeCountDelta(productId, 1);
+            verify(productQuery).evictProductListCache(productId);
         }
 
         @DisplayName("ProductService 예외 발생 시 조용히 처리한다")
@@ -85,7 +90,8 @@ class LikeAggregateListenerTest {
 
             // assert
             verify(productService).decreaseLikeCount(productId);
-            verify(productQuery).evictProductDetailCache(productId);
+            verify(productQuery).applyProductLikeCountDelta(productId, -1);
+            verify(productQuery).evictProductListCache(productId);
         }
 
         @DisplayName("ProductService 예외 발생 시 조용히 처리한다")
@@ -107,4 +113,21 @@ class LikeAggregateListenerTest {
             verifyNoInteractions(productQuery);
         }
     }
+
+    @DisplayName("이벤트 묶음 처리가 켜져 있으면 즉시 반영하지 않고 상품별 증감만 넘긴다")
+    @Test
+    void delegatesToCoalescer_whenCoalesceEnabled() {
+        // arrange
+        ReflectionTestUtils.setField(likeAggregateListener, "coalesceEnabled", true);
+        Long productId = 100L;
+
+        // act
+        likeAggregateListener.handleLikeCreated(LikeCreatedEvent.of(1L, TargetType.PRODUCT, productId));
+        likeAggregateListener.handleLikeCancelled(LikeCancelledEvent.of(2L, TargetType.PRODUCT, productId));
+
+        // assert
+        verify(likeAggregateCoalescer).add(productId, 1);
+        verify(likeAggregateCoalescer).add(productId, -1);
+        verifyNoInteractions(productService, productQuery);
+    }
 }
@@ -0,0 +1,142 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.payment.PaymentDetails;
+import com.loopers.domain.point.PointReference;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.StockGate;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserCommand;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.reset;
+
+/**
+ * 주문 생성의 재고 게이트 차감 → 주문 트랜잭션 → 롤백 시 되돌림 흐름을 검증한다.
+ * 게이트 카운터 상태는 상품 재고 전체를 다시 차감할 수 있는지로 확인한다.
+ */
+@SpringBootTest
+@Sql(scripts = {"/brand-test-data.sql", "/product-test-data.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("주문 생성 재고 게이트 연동 테스트")
+class OrderFacadeStockGateTest {
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private StockGate stockGate;
+
+    @MockitoSpyBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(stockGate, "enabled", true);
+        user = userRepository.save(User.of(new UserCommand.Create("gateUser", "gateUser@test.com", "1996-08-16", Gender.MALE)));
+        pointService.createPointWithInitialAmount(user.getId(), new BigDecimal("1000000"), PointReference.welcomeBonus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(stockGate, "enabled", false);
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("주문이 커밋되면 게이트에서 차감한 수량을 유지한다")
+    @Test
+    void createOrder_keepsGateReservation_whenCommitted() {
+        // arrange - 상품 1 재고 50
+        OrderCommand.Create command = createCommand(2, null);
+
+        // act
+        orderFacade.createOrder(user.getAccountId(), command);
+
+        // assert
+        assertThat(productRepository.findById(1L).orElseThrow().getStock()).isEqualTo(48);
+        assertThat(stockGate.reserve(Map.of(1L, 48))).isTrue();
+        assertThat(stockGate.reserve(Map.of(1L, 1))).isFalse();
+    }
+
+    @DisplayName("주문 트랜잭션이 롤백되면 게이트에서 차감한 수량을 되돌린다")
+    @Test
+    void createOrder_releasesGateReservation_whenRolledBack() {
+        // arrange - 상품 1 재고 50, 재고 차감 뒤 존재하지 않는 쿠폰으로 실패
+        OrderCommand.Create command = createCommand(2, 999L);
+
+        // act
+        assertThrows(CoreException.class, () -> orderFacade.createOrder(user.getAccountId(), command));
+
+        // assert
+        assertThat(productRepository.findById(1L).orElseThrow().getStock()).isEqualTo(50);
+        assertThat(stockGate.reserve(Map.of(1L, 50))).isTrue();
+    }
+
+    @DisplayName("주문 트랜잭션을 열지 못하면 게이트에서 차감한 수량을 되돌린다")
+    @Test
+    void createOrder_releasesGateReservation_whenTransactionCannotBeCreated() {
+        // arrange - 게이트는 DB 를 읽지 않도록 카운터를 미리 적재해 둔다
+        stockGate.reserve(Map.of(1L, 1));
+        stockGate.release(Map.of(1L, 1));
+        doThrow(new CannotCreateTransactionException("커넥션 획득 실패"))
+                .when(transactionManager).getTransaction(any());
+        OrderCommand.Create command = createCommand(2, null);
+
+        // act
+        assertThrows(CannotCreateTransactionException.class, () -> orderFacade.createOrder(user.getAccountId(), command));
+
+        // assert
+        reset(transactionManager);
+        assertThat(stockGate.reserve(Map.of(1L, 50))).isTrue();
+    }
+
+    private OrderCommand.Create createCommand(int quantity, Long userCouponId) {
+        return new OrderCommand.Create(
+                List.of(new OrderCommand.CreateItem(1L, quantity)),
+                userCouponId,
+                new PaymentDetails.Point()
+        );
+    }
+}
@@ -0,0 +1,219 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.OrderCommand;
+import com.loopers.domain.order.OrderIntakeStatus;
+import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.payment.PaymentDetails;
+import com.loopers.domain.point.PointReference;
+import com.loopers.domain.point.PointService;
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserCommand;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Sql(scripts = {"/brand-test-data.sql", "/product-test-data.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class OrderIntakeWorkerTest {
+
+    @Autowired
+    private OrderIntakeFacade orderIntakeFacade;
+
+    @Autowired
+    private OrderIntakeWorker orderIntakeWorker;
+
+    @Autowired
+    private OrderIntakeCardRepository cardRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("접수된 주문은 워커가 처리한 뒤 상태 조회에서 주문 ID 와 함께 완료로 보인다")
+    @Test
+    void processBatch_completesIntakeAndCreatesOrder() {
+        // arrange
+        User user = createUserWithPoint("intake1");
+        OrderIntakeInfo accepted = orderIntakeFacade.enqueue(user.getAccountId(), createCommand(1L, 1));
+
+        // act
+        int processed = orderIntakeWorker.processBatch();
+
+        // assert
+        OrderIntakeInfo status = orderIntakeFacade.getStatus(user.getAccountId(), accepted.token());
+        assertThat(accepted.status()).isEqualTo(OrderIntakeStatus.PENDING);
+        assertThat(processed).isEqualTo(1);
+        assertThat(status.status()).isEqualTo(OrderIntakeStatus.COMPLETED);
+        assertThat(orderRepository.findById(status.orderId())).isPresent();
+    }
+
+    @DisplayName("재고가 모자란 접수 건은 재시도하지 않고 실패 사유와 함께 실패로 끝난다")
+    @Test
+    void processBatch_failsIntake_whenInsufficientStock() {
+        // arrange - 상품 2 재고 30
+        User user = createUserWithPoint("intake2");
+        OrderIntakeInfo accepted = orderIntakeFacade.enqueue(user.getAccountId(), createCommand(2L, 31));
+
+        // act
+        int processed = orderIntakeWorker.processBatch();
+
+        // assert
+        OrderIntakeInfo status = orderIntakeFacade.getStatus(user.getAccountId(), accepted.token());
+        assertThat(processed).isEqualTo(1);
+        assertThat(status.status()).isEqualTo(OrderIntakeStatus.FAILED);
+        assertThat(status.orderId()).isNull();
+        assertThat(status.failureReason()).contains("재고 부족");
+    }
+
+    @DisplayName("존재하지 않는 사용자나 상품의 주문은 접수 단계에서 거절하고 접수 행을 남기지 않는다")
+    @Test
+    void enqueue_rejectsUnknownUserOrProduct() {
+        // arrange
+        User user = createUserWithPoint("intake5");
+
+        // act
+        CoreException unknownUser = assertThrows(CoreException.class,
+                () -> orderIntakeFacade.enqueue("unknown-user", createCommand(1L, 1)));
+        CoreException unknownProduct = assertThrows(CoreException.class,
+                () -> orderIntakeFacade.enqueue(user.getAccountId(), createCommand(999L, 1)));
+
+        // assert
+        assertThat(unknownUser.getErrorType()).isEqualTo(ErrorType.USER_NOT_FOUND);
+        assertThat(unknownProduct.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        assertThat(orderIntakeWorker.processBatch()).isZero();
+    }
+
+    @DisplayName("카드 번호는 접수 행이 아닌 Redis 에만 보관하고, 만료되어 없으면 실패로 끝낸 뒤 지운다")
+    @Test
+    void processBatch_failsCardIntake_whenCardNoExpired() {
+        // arrange
+        User user = createUserWithPoint("intake6");
+        OrderIntakeInfo accepted = orderIntakeFacade.enqueue(user.getAccountId(), new OrderCommand.Create(
+                List.of(new OrderCommand.CreateItem(1L, 1)),
+                null,
+                new PaymentDetails.Card("SAMSUNG", "1234-5678-9814-1451")
+        ));
+        boolean cardKeptInRedis = cardRepository.find(accepted.token()).isPresent();
+        cardRepository.delete(accepted.token());
+
+        // act
+        int processed = orderIntakeWorker.processBatch();
+
+        // assert
+        OrderIntakeInfo status = orderIntakeFacade.getStatus(user.getAccountId(), accepted.token());
+        assertThat(cardKeptInRedis).isTrue();
+        assertThat(processed).isEqualTo(1);
+        assertThat(status.status()).isEqualTo(OrderIntakeStatus.FAILED);
+        assertThat(status.failureReason()).contains("카드 정보가 만료");
+    }
+
+    @DisplayName("처리가 끝난 접수 건의 카드 번호는 Redis 에서도 지운다")
+    @Test
+    void processBatch_deletesCardNo_whenFinished() {
+        // arrange - 상품 2 재고 30 이라 재고 부족으로 실패로 끝난다
+        User user = createUserWithPoint("intake7");
+        OrderIntakeInfo accepted = orderIntakeFacade.enqueue(user.getAccountId(), new OrderCommand.Create(
+                List.of(new OrderCommand.CreateItem(2L, 31)),
+                null,
+                new PaymentDetails.Card("SAMSUNG", "1234-5678-9814-1451")
+        ));
+
+        // act
+        orderIntakeWorker.processBatch();
+
+        // assert
+        assertThat(orderIntakeFacade.getStatus(user.getAccountId(), accepted.token()).status())
+                .isEqualTo(OrderIntakeStatus.FAILED);
+        assertThat(cardRepository.find(accepted.token())).isEmpty();
+    }
+
+    @DisplayName("다른 사용자의 접수 토큰으로는 상태를 조회할 수 없다")
+    @Test
+    void getStatus_throwsNotFound_whenOtherUsersIntake() {
+        // arrange
+        User user = createUserWithPoint("intake4");
+        OrderIntakeInfo accepted = orderIntakeFacade.enqueue(user.getAccountId(), createCommand(1L, 1));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> orderIntakeFacade.getStatus("other-user", accepted.token()));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+    }
+
+    @DisplayName("워커를 켜면 스케줄러 호출 없이 전용 스레드에서 접수 건을 가져가 처리한다")
+    @Test
+    void startWorkers_processesIntakeOnOwnThreads() throws InterruptedException {
+        // arrange
+        User user = createUserWithPoint("intake3");
+        OrderIntakeInfo accepted = orderIntakeFacade.enqueue(user.getAccountId(), createCommand(1L, 1));
+        ReflectionTestUtils.setField(orderIntakeWorker, "enabled", true);
+
+        // act
+        orderIntakeWorker.startWorkers();
+        OrderIntakeStatus status = accepted.status();
+        try {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (status != OrderIntakeStatus.COMPLETED && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+                status = orderIntakeFacade.getStatus(user.getAccountId(), accepted.token()).status();
+            }
+        } finally {
+            orderIntakeWorker.stopWorkers();
+            ReflectionTestUtils.setField(orderIntakeWorker, "enabled", false);
+        }
+
+        // assert
+        assertThat(status).isEqualTo(OrderIntakeStatus.COMPLETED);
+    }
+
+    private User createUserWithPoint(String accountId) {
+        User user = userRepository.save(User.of(new UserCommand.Create(
+                accountId, accountId + "@test.com", "1996-08-16", Gender.MALE)));
+        pointService.createPointWithInitialAmount(user.getId(), new BigDecimal("100000000"), PointReference.welcomeBonus());
+        return user;
+    }
+
+    private OrderCommand.Create createCommand(Long productId, int quantity) {
+        return new OrderCommand.Create(
+                List.of(new OrderCommand.CreateItem(productId, quantity)),
+                null,
+                new PaymentDetails.Point()
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package com.loopers.application.order;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("주문 대기열 테스트")
+class OrderQueueFacadeTest {
+
+    private static final OrderQueueRepository.Admission ADMISSION =
+            new OrderQueueRepository.Admission("user1", "token-1", Duration.ofMinutes(5));
+
+    @Mock
+    private OrderQueueRepository orderQueueRepository;
+
+    @InjectMocks
+    private OrderQueueFacade orderQueueFacade;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(orderQueueFacade, "enabled", true);
+        ReflectionTestUtils.setField(orderQueueFacade, "admitPerInterval", 100);
+        ReflectionTestUtils.setField(orderQueueFacade, "dispatchIntervalMillis", 1000L);
+        ReflectionTestUtils.setField(orderQueueFacade, "tokenTtlSeconds", 1800L);
+    }
+
+    @Test
+    @DisplayName("대기열에 들어가면 토큰과 순번, 입장 속도 기준 예상 대기 시간을 받는다")
+    void enter_returnsTokenPositionAndEstimate() {
+        // arrange
+        given(orderQueueRepository.findAdmittedToken("user1")).willReturn(Optional.empty());
+        given(orderQueueRepository.enter(eq("user1"), anyString(), any()))
+                .willReturn(new OrderQueueRepository.Waiting("token-1", 250));
+
+        // act
+        OrderQueueInfo result = orderQueueFacade.enter("user1");
+
+        // assert
+        assertThat(result.status()).isEqualTo(OrderQueueInfo.Status.WAITING);
+        assertThat(result.token()).isEqualTo("token-1");
+        assertThat(result.position()).isEqualTo(250L);
+        assertThat(result.estimatedWaitSeconds()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("이미 입장한 사용자가 다시 들어오면 대기열 뒤로 보내지 않고 입장 토큰을 돌려준다")
+    void enter_returnsAdmittedToken_whenAlreadyAdmitted() {
+        // arrange
+        given(orderQueueRepository.findAdmittedToken("user1")).willReturn(Optional.of("token-1"));
+
+        // act
+        OrderQueueInfo result = orderQueueFacade.enter("user1");
+
+        // assert
+        assertThat(result.status()).isEqualTo(OrderQueueInfo.Status.ADMITTED);
+        assertThat(result.token()).isEqualTo("token-1");
+        verify(orderQueueRepository, never()).enter(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("입장 토큰과 다르면 주문을 거절한다")
+    void executeAdmitted_throwsForbidden_whenTokenMismatch() {
+        // arrange
+        given(orderQueueRepository.consumeAdmission("user1", "other-token")).willReturn(Optional.empty());
+        AtomicInteger executions = new AtomicInteger();
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> orderQueueFacade.executeAdmitted("user1", "other-token", executions::incrementAndGet));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.FORBIDDEN);
+        assertThat(executions.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("입장을 회수한 뒤 주문하고, 성공하면 입장을 되돌리지 않는다")
+    void executeAdmitted_consumesAdmission_whenOrderSucceeds() {
+        // arrange
+        given(orderQueueRepository.consumeAdmission("user1", "token-1")).willReturn(Optional.of(ADMISSION));
+
+        // act
+        Integer result = orderQueueFacade.executeAdmitted("user1", "token-1", () -> 1);
+
+        // assert
+        assertThat(result).isEqualTo(1);
+        verify(orderQueueRepository, never()).restoreAdmission(any());
+    }
+
+    @Test
+    @DisplayName("주문이 실패하면 회수한 입장을 되돌려 다시 주문할 수 있게 한다")
+    void executeAdmitted_restoresAdmission_whenOrderFails() {
+        // arrange
+        given(orderQueueRepository.consumeAdmission("user1", "token-1")).willReturn(Optional.of(ADMISSION));
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> orderQueueFacade.executeAdmitted("user1", "token-1", () -> {
+                    throw new CoreException(ErrorType.NOT_ENOUGH, "재고 부족");
+                }));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_ENOUGH);
+        verify(orderQueueRepository).restoreAdmission(ADMISSION);
+    }
+
+    @Test
+    @DisplayName("Redis 장애로 입장 여부를 확인하지 못하면 주문을 막지 않는다")
+    void executeAdmitted_allowsOrder_whenRedisFails() {
+        // arrange
+        given(orderQueueRepository.consumeAdmission("user1", null)).willThrow(new RuntimeException("Redis 연결 실패"));
+
+        // act & assert
+        assertThat(orderQueueFacade.executeAdmitted("user1", null, () -> 1)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기열이 꺼져 있으면 토큰 없이 주문할 수 있다")
+    void executeAdmitted_skips_whenDisabled() {
+        // arrange
+        ReflectionTestUtils.setField(orderQueueFacade, "enabled", false);
+
+        // act & assert
+        assertThat(orderQueueFacade.executeAdmitted("user1", null, () -> 1)).isEqualTo(1);
+        verifyNoInteractions(orderQueueRepository);
+    }
+}
@@ -0,0 +1,70 @@
+package com.loopers.application.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 상세 캐시 확률적 조기 갱신(XFetch) 테스트")
+class CachedDetailTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Test
+    @DisplayName("만료까지 여유가 많으면 갱신하지 않는다")
+    void doesNotRefresh_whenExpiryIsFar() {
+        // arrange
+        ProductQueryCacheRepository.CachedDetail cachedDetail =
+                new ProductQueryCacheRepository.CachedDetail(null, 50, NOW + 600_000);
+
+        // act
+        boolean shouldRefresh = cachedDetail.shouldRefreshEarly(NOW, 1.0, 0.5);
+
+        // assert
+        assertThat(shouldRefresh).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료가 가까우면 재계산 비용에 비례한 확률로 미리 갱신한다")
+    void refreshes_whenExpiryIsNearComparedToComputeTime() {
+        // arrange - 재계산 50ms, 만료까지 20ms
+        ProductQueryCacheRepository.CachedDetail cachedDetail =
+                new ProductQueryCacheRepository.CachedDetail(null, 50, NOW + 20);
+
+        // act - -ln(0.5) * 50 ≈ 34.6ms >= 20ms
+        boolean shouldRefresh = cachedDetail.shouldRefreshEarly(NOW, 1.0, 0.5);
+
+        // assert
+        assertThat(shouldRefresh).isTrue();
+    }
+
+    @Test
+    @DisplayName("beta 가 0 이면 논리 만료 전에는 갱신하지 않는다")
+    void doesNotRefreshEarly_whenBetaIsZero() {
+        // arrange
+        ProductQueryCacheRepository.CachedDetail cachedDetail =
+                new ProductQueryCacheRepository.CachedDetail(null, 50, NOW + 1);
+
+        // act
+        boolean shouldRefresh = cachedDetail.shouldRefreshEarly(NOW, 0.0, 0.01);
+
+        // assert
+        assertThat(shouldRefresh).isFalse();
+    }
+
+    @Test
+    @DisplayName("논리 만료 시각이 지나면 만료로 본다")
+    void isExpired_afterLogicalExpiry() {
+        // arrange
+        ProductQueryCacheRepository.CachedDetail cachedDetail =
+                new ProductQueryCacheRepository.CachedDetail(null, 50, NOW);
+
+        // act
+        boolean beforeExpiry = cachedDetail.isExpired(NOW - 1);
+        boolean atExpiry = cachedDetail.isExpired(NOW);
+
+        // assert
+        assertThat(beforeExpiry).isFalse();
+        assertThat(atExpiry).isTrue();
+    }
+}
@@ -0,0 +1,99 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.ranking.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 상세 캐시 워밍업 테스트")
+class ProductCacheWarmerTest {
+
+    @Mock
+    private RankingService rankingService;
+
+    @Mock
+    private ProductQuery productQuery;
+
+    private ProductCacheWarmer productCacheWarmer;
+
+    @BeforeEach
+    void setUp() {
+        productCacheWarmer = new ProductCacheWarmer(rankingService, productQuery);
+        ReflectionTestUtils.setField(productCacheWarmer, "topN", 3);
+        ReflectionTestUtils.setField(productCacheWarmer, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("랭킹 상위 상품을 배치 크기만큼 나눠 적재한다")
+    void warmUp_preloadsTopRankedProductsInBatches() {
+        // arrange
+        LocalDate today = LocalDate.of(2025, 9, 10);
+        given(rankingService.getRankingsWithPaging(today, 0, 3)).willReturn(rankings(3L, 1L, 2L));
+        given(productQuery.preloadProductDetails(List.of(3L, 1L))).willReturn(2);
+        given(productQuery.preloadProductDetails(List.of(2L))).willReturn(1);
+
+        // act
+        int loaded = productCacheWarmer.warmUp(today);
+
+        // assert
+        assertThat(loaded).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("당일 랭킹이 비어 있으면 전날 랭킹으로 적재한다")
+    void warmUp_fallsBackToYesterdayRanking() {
+        // arrange
+        LocalDate today = LocalDate.of(2025, 9, 10);
+        given(rankingService.getRankingsWithPaging(today, 0, 3)).willReturn(Set.of());
+        given(rankingService.getRankingsWithPaging(today.minusDays(1), 0, 3)).willReturn(rankings(5L));
+        given(productQuery.preloadProductDetails(List.of(5L))).willReturn(1);
+
+        // act
+        int loaded = productCacheWarmer.warmUp(today);
+
+        // assert
+        assertThat(loaded).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("랭킹을 조회할 수 없으면 적재하지 않는다")
+    void warmUp_skipsWhenRankingUnavailable() {
+        // arrange
+        LocalDate today = LocalDate.of(2025, 9, 10);
+        given(rankingService.getRankingsWithPaging(any(), any(Integer.class), any(Integer.class))).willReturn(null);
+
+        // act
+        int loaded = productCacheWarmer.warmUp(today);
+
+        // assert
+        assertThat(loaded).isZero();
+        verify(productQuery, never()).preloadProductDetails(any());
+    }
+
+    private Set<ZSetOperations.TypedTuple<String>> rankings(Long... productIds) {
+        Set<ZSetOperations.TypedTuple<String>> rankings = new LinkedHashSet<>();
+        double score = 100;
+        for (Long productId : productIds) {
+            rankings.add(new DefaultTypedTuple<>("product:" + productId, score--));
+        }
+        return rankings;
+    }
+}
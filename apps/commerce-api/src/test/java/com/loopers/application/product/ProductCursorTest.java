@@ -0,0 +1,55 @@
+package com.loopers.application.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("상품 목록 커서 테스트")
+class ProductCursorTest {
+
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 위치를 반환한다")
+    @Test
+    void decodeEncodedCursor() {
+        // arrange
+        ProductCursor cursor = new ProductCursor(ProductSortType.PRICE_ASC, "120000", 3L);
+
+        // act
+        ProductCursor decoded = ProductCursor.decode(cursor.encode(), ProductSortType.PRICE_ASC);
+
+        // assert
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @DisplayName("커서가 없으면 첫 페이지를 의미하는 null 을 반환한다")
+    @Test
+    void returnNull_whenCursorIsBlank() {
+        assertThat(ProductCursor.decode(null, ProductSortType.LATEST)).isNull();
+        assertThat(ProductCursor.decode("", ProductSortType.LATEST)).isNull();
+    }
+
+    @DisplayName("다른 정렬 기준으로 발급된 커서는 BAD_REQUEST 예외가 발생한다")
+    @Test
+    void throwBadRequest_whenSortTypeMismatch() {
+        // arrange
+        String encoded = new ProductCursor(ProductSortType.LIKES_DESC, "3", 1L).encode();
+
+        // act & assert
+        assertThatThrownBy(() -> ProductCursor.decode(encoded, ProductSortType.PRICE_ASC))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+
+    @DisplayName("형식이 잘못된 커서는 BAD_REQUEST 예외가 발생한다")
+    @Test
+    void throwBadRequest_whenCursorIsMalformed() {
+        assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor!!", ProductSortType.LATEST))
+                .isInstanceOf(CoreException.class)
+                .extracting("errorType")
+                .isEqualTo(ErrorType.BAD_REQUEST);
+    }
+}
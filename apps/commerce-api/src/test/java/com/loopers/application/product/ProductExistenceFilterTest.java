@@ -0,0 +1,51 @@
+package com.loopers.application.product;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 ID Bloom filter 테스트")
+class ProductExistenceFilterTest {
+
+    @Mock
+    private ProductQueryRepository productQueryRepository;
+
+    @Test
+    @DisplayName("첫 빌드 전에는 모든 상품 ID 를 통과시킨다")
+    void mightExist_beforeFirstBuild() {
+        // arrange
+        ProductExistenceFilter filter = new ProductExistenceFilter(productQueryRepository, true);
+
+        // act & assert
+        assertThat(filter.mightExist(12345L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("빌드 후에는 판매 중인 상품과 빌드 이후 생긴 상품만 통과시킨다")
+    void mightExist_afterBuild() {
+        // arrange
+        given(productQueryRepository.countProducts(null)).willReturn(3L);
+        given(productQueryRepository.findActiveProductIds(eq(0L), anyInt())).willReturn(List.of(1L, 2L, 5L));
+        given(productQueryRepository.findActiveProductIds(eq(5L), anyInt())).willReturn(List.of());
+        ProductExistenceFilter filter = new ProductExistenceFilter(productQueryRepository, true);
+
+        // act
+        filter.rebuild();
+
+        // assert
+        assertThat(filter.mightExist(1L)).isTrue();
+        assertThat(filter.mightExist(5L)).isTrue();
+        assertThat(filter.mightExist(3L)).isFalse();
+        assertThat(filter.mightExist(6L)).isTrue();
+    }
+}
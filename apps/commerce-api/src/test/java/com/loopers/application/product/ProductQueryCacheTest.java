@@ -82,7 +82,7 @@ class ProductQueryCacheTest {
         assertThat(result.id()).isEqualTo(productId);
         
         // 캐시 레포지토리 호출 검증
-        verify(cacheRepository, times(1)).findDetailById(productId);  // 캐시 조회 시도
+        verify(cacheRepository, times(1)).findDetailWithRank(eq(productId), any());  // 캐시 조회 시도
         verify(cacheRepository, times(1)).saveDetail(eq(productId), any());  // 캐시 저장
         
         // DB 쿼리 레포지토리 호출 검증
@@ -116,7 +116,7 @@ class ProductQueryCacheTest {
         assertThat(result.id()).isEqualTo(productId);
         
         // 캐시에서만 조회하고 DB는 조회하지 않음
-        verify(cacheRepository, times(1)).findDetailById(productId);  // 캐시 조회
+        verify(cacheRepository, times(1)).findDetailWithRank(eq(productId), any());  // 캐시 조회
         verify(queryRepository, atMost(1)).findProductDetailById(any());  // DB 조회는 최대 1번 (캐시 실패 시만)
     }
     
@@ -142,7 +142,7 @@ class ProductQueryCacheTest {
         assertThat(result).isNotNull();
         
         // 캐시 미스 → DB 조회 → 캐시 저장
-        verify(cacheRepository, times(1)).findDetailById(productId);
+        verify(cacheRepository, times(1)).findDetailWithRank(eq(productId), any());
         verify(cacheRepository, times(1)).saveDetail(eq(productId), any());
         verify(queryRepository, times(1)).findProductDetailById(productId);
     }
@@ -184,8 +184,8 @@ class ProductQueryCacheTest {
         assertThat(result4.id()).isEqualTo(secondId);
         
         // 각 상품별로 최소 조회가 발생했는지만 검증 (캐시 실패 고려)
-        verify(cacheRepository, atLeast(1)).findDetailById(firstId);
-        verify(cacheRepository, atLeast(1)).findDetailById(secondId);
+        verify(cacheRepository, atLeast(1)).findDetailWithRank(eq(firstId), any());
+        verify(cacheRepository, atLeast(1)).findDetailWithRank(eq(secondId), any());
         verify(queryRepository, atLeast(1)).findProductDetailById(firstId);
         verify(queryRepository, atLeast(1)).findProductDetailById(secondId);
     }
@@ -1,5 +1,7 @@
 package com.loopers.application.product;
 
+import com.loopers.application.like.LikeQuery;
+import com.loopers.domain.product.ProductLikeCountBuffer;
 import com.loopers.domain.ranking.RankingService;
 import com.loopers.infrastructure.kafka.KafkaEventPublisher;
 import com.loopers.support.error.CoreException;
@@ -9,23 +11,36 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("상품 조회 테스트")
@@ -43,6 +58,12 @@ class ProductQueryTest {
     @Mock
     private RankingService rankingService;
 
+    @Mock
+    private ProductLikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private LikeQuery likeQuery;
+
     private ProductQuery productQuery;
 
     @BeforeEach
@@ -51,7 +72,10 @@ class ProductQueryTest {
                 productQueryRepository,
                 productQueryCacheRepository,
                 kafkaEventPublisher,
-                rankingService
+                rankingService,
+                new ProductExistenceFilter(productQueryRepository, false),
+                likeCountBuffer,
+                likeQuery
         );
     }
 
@@ -66,7 +90,7 @@ class ProductQueryTest {
 
         Page<ProductQueryRepository.ProductQueryData> mockPage = getProductQueryData(page, size);
 
-        given(productQueryRepository.findProducts(eq(brandId), eq(ProductSortType.PRICE_ASC), any(Pageable.class)))
+        given(productQueryRepository.findProducts(eq(brandId), eq(ProductSortType.PRICE_ASC), any(Pageable.class), any(LongSupplier.class)))
                 .willReturn(mockPage);
 
         // act
@@ -79,7 +103,7 @@ class ProductQueryTest {
         assertThat(result.currentPage()).isEqualTo(0);
         assertThat(result.pageSize()).isEqualTo(20);
 
-        verify(productQueryRepository).findProducts(eq(brandId), eq(ProductSortType.PRICE_ASC), any(Pageable.class));
+        verify(productQueryRepository).findProducts(eq(brandId), eq(ProductSortType.PRICE_ASC), any(Pageable.class), any(LongSupplier.class));
     }
 
     private @NotNull Page<ProductQueryRepository.ProductQueryData> getProductQueryData(int page, int size) {
@@ -108,7 +132,7 @@ class ProductQueryTest {
         Page<ProductQueryRepository.ProductQueryData> mockPage =
                 new PageImpl<>(List.of(), PageRequest.of(page, size), 0);
 
-        given(productQueryRepository.findProducts(eq(null), eq(ProductSortType.LATEST), any(Pageable.class)))
+        given(productQueryRepository.findProducts(eq(null), eq(ProductSortType.LATEST), any(Pageable.class), any(LongSupplier.class)))
                 .willReturn(mockPage);
 
         // act
@@ -116,7 +140,301 @@ class ProductQueryTest {
 
         // assert
         assertThat(result.products()).isEmpty();
-        verify(productQueryRepository).findProducts(eq(null), eq(ProductSortType.LATEST), any(Pageable.class));
+        verify(productQueryRepository).findProducts(eq(null), eq(ProductSortType.LATEST), any(Pageable.class), any(LongSupplier.class));
+    }
+
+    @Test
+    @DisplayName("집계 주기 안의 전체 개수 캐시가 있으면 개수 쿼리를 실행하지 않는다")
+    void getProducts_useFreshCachedCount() {
+        // arrange
+        givenFindProductsInvokesCountSupplier();
+        given(productQueryCacheRepository.findCount(1L))
+                .willReturn(Optional.of(ProductQueryCacheRepository.CachedCount.of(42)));
+
+        // act
+        ProductQuery.ProductListResult result = productQuery.getProducts(1L, "latest", 0, 2);
+
+        // assert
+        assertThat(result.totalElements()).isEqualTo(42);
+        assertThat(result.approximateTotal()).isFalse();
+        verify(productQueryRepository, never()).countProducts(any());
+    }
+
+    @Test
+    @DisplayName("집계 주기가 지난 개수 캐시는 다시 집계하여 캐시에 저장한다")
+    void getProducts_recountWhenCachedCountIsStale() {
+        // arrange
+        givenFindProductsInvokesCountSupplier();
+        given(productQueryCacheRepository.findCount(1L))
+                .willReturn(Optional.of(new ProductQueryCacheRepository.CachedCount(42, 0L)));
+        given(productQueryRepository.countProducts(1L)).willReturn(50L);
+
+        // act
+        ProductQuery.ProductListResult result = productQuery.getProducts(1L, "latest", 0, 2);
+
+        // assert
+        assertThat(result.totalElements()).isEqualTo(50);
+        assertThat(result.approximateTotal()).isFalse();
+        verify(productQueryCacheRepository).saveCount(eq(1L), any(ProductQueryCacheRepository.CachedCount.class));
+    }
+
+    @Test
+    @DisplayName("근사 개수 모드에서는 오래된 개수 캐시를 그대로 내려주고 백그라운드에서 재집계한다")
+    void getProducts_serveStaleCountWhenApproximateTotalRequested() {
+        // arrange
+        givenFindProductsInvokesCountSupplier();
+        given(productQueryCacheRepository.findCount(1L))
+                .willReturn(Optional.of(new ProductQueryCacheRepository.CachedCount(42, 0L)));
+        given(productQueryRepository.countProducts(1L)).willReturn(50L);
+
+        // act
+        ProductQuery.ProductListResult result = productQuery.getProducts(1L, "latest", 0, 2, true);
+
+        // assert
+        assertThat(result.totalElements()).isEqualTo(42);
+        assertThat(result.approximateTotal()).isTrue();
+        verify(productQueryRepository, timeout(1000)).countProducts(1L);
+    }
+
+    @Test
+    @DisplayName("캐시된 목록 페이지가 있으면 DB 를 조회하지 않고 캐시된 상품 목록을 반환한다")
+    void getProducts_servedFromListPageCache() {
+        // arrange
+        ReflectionTestUtils.setField(productQuery, "listPageCacheMaxPages", 5);
+        List<ProductQuery.ProductQueryResult> cachedProducts = getProductQueryData(0, 20).getContent().stream()
+                .map(ProductQuery.ProductQueryResult::from)
+                .toList();
+        given(productQueryCacheRepository.findListPage(1L, ProductSortType.LATEST, 0, 20))
+                .willReturn(Optional.of(cachedProducts));
+
+        // act
+        ProductQuery.ProductListResult result = productQuery.getProducts(1L, "latest", 0, 20);
+
+        // assert
+        assertThat(result.products()).isEqualTo(cachedProducts);
+        assertThat(result.totalElements()).isEqualTo(2);
+        verify(productQueryRepository, never()).findProducts(any(), any(), any(Pageable.class), any(LongSupplier.class));
+    }
+
+    @Test
+    @DisplayName("목록 페이지 캐시 미스 시 DB 조회 결과를 캐시에 저장한다")
+    void getProducts_saveListPageOnCacheMiss() {
+        // arrange
+        ReflectionTestUtils.setField(productQuery, "listPageCacheMaxPages", 5);
+        given(productQueryRepository.findProducts(eq(1L), eq(ProductSortType.PRICE_ASC), any(Pageable.class), any(LongSupplier.class)))
+                .willReturn(getProductQueryData(0, 20));
+
+        // act
+        ProductQuery.ProductListResult result = productQuery.getProducts(1L, "price_asc", 0, 20);
+
+        // assert
+        verify(productQueryCacheRepository).saveListPage(1L, ProductSortType.PRICE_ASC, 0, 20, result.products());
+    }
+
+    @Test
+    @DisplayName("사용자가 주어지면 공유 목록 캐시에는 손대지 않고 좋아요 여부를 한 번에 조회해 붙인다")
+    void getProducts_attachLikedForUser() {
+        // arrange
+        ReflectionTestUtils.setField(productQuery, "listPageCacheMaxPages", 5);
+        given(productQueryRepository.findProducts(eq(1L), eq(ProductSortType.LATEST), any(Pageable.class), any(LongSupplier.class)))
+                .willReturn(getProductQueryData(0, 20));
+        given(likeQuery.findLikedProductIds("user1", List.of(1L, 2L))).willReturn(Set.of(2L));
+
+        // act
+        ProductQuery.ProductListResult result = productQuery.getProducts(1L, "latest", 0, 20, false, "user1");
+
+        // assert
+        assertThat(result.products()).extracting(ProductQuery.ProductQueryResult::liked)
+                .containsExactly(false, true);
+        verify(productQueryCacheRepository).saveListPage(eq(1L), eq(ProductSortType.LATEST), eq(0), eq(20),
+                argThat(products -> products.stream().allMatch(product -> product.liked() == null)));
+    }
+
+    @Test
+    @DisplayName("사용자가 없으면 좋아요 여부를 조회하지 않는다")
+    void getProducts_skipLikedForAnonymous() {
+        // arrange
+        given(productQueryRepository.findProducts(eq(1L), eq(ProductSortType.LATEST), any(Pageable.class), any(LongSupplier.class)))
+                .willReturn(getProductQueryData(0, 20));
+
+        // act
+        ProductQuery.ProductListResult result = productQuery.getProducts(1L, "latest", 0, 20);
+
+        // assert
+        assertThat(result.products()).allMatch(product -> product.liked() == null);
+        verifyNoInteractions(likeQuery);
+    }
+
+    @Test
+    @DisplayName("캐시 대상 페이지 범위를 벗어나면 목록 캐시를 사용하지 않는다")
+    void getProducts_skipListPageCacheBeyondMaxPages() {
+        // arrange
+        ReflectionTestUtils.setField(productQuery, "listPageCacheMaxPages", 5);
+        given(productQueryRepository.findProducts(eq(1L), eq(ProductSortType.LATEST), any(Pageable.class), any(LongSupplier.class)))
+                .willReturn(new PageImpl<>(List.of(), PageRequest.of(10, 20), 0));
+
+        // act
+        productQuery.getProducts(1L, "latest", 10, 20);
+
+        // assert
+        verify(productQueryCacheRepository, never()).findListPage(any(), any(), anyInt(), anyInt());
+        verify(productQueryCacheRepository, never()).saveListPage(any(), any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("좋아요 순 목록은 페이지 밖 상품의 좋아요로도 순서가 바뀌므로 목록 캐시를 사용하지 않는다")
+    void getProducts_skipListPageCacheForLikesDesc() {
+        // arrange
+        ReflectionTestUtils.setField(productQuery, "listPageCacheMaxPages", 5);
+        given(productQueryRepository.findProducts(eq(1L), eq(ProductSortType.LIKES_DESC), any(Pageable.class), any(LongSupplier.class)))
+                .willReturn(getProductQueryData(0, 20));
+
+        // act
+        productQuery.getProducts(1L, "likes_desc", 0, 20);
+
+        // assert
+        verify(productQueryCacheRepository, never()).findListPage(any(), any(), anyInt(), anyInt());
+        verify(productQueryCacheRepository, never()).saveListPage(any(), any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("상품 상세 일괄 조회 시 캐시 미스 상품만 한 번에 DB 에서 조회해 캐시에 저장한다")
+    void getProductDetails_loadOnlyMissesInOneQuery() {
+        // arrange
+        ProductQuery.ProductDetailResult cached = new ProductQuery.ProductDetailResult(
+                1L, "상품1", "설명1", BigDecimal.valueOf(10000), 100,
+                new ProductQuery.BrandInfo(1L, "브랜드1", "브랜드 설명"), 5, null
+        );
+        ProductQueryRepository.ProductDetailQueryData missed = new ProductQueryRepository.ProductDetailQueryData(
+                2L, "상품2", "설명2", BigDecimal.valueOf(20000), 200,
+                1L, "브랜드1", "브랜드 설명", 10
+        );
+        given(productQueryCacheRepository.findDetailsByIds(List.of(1L, 2L, 3L)))
+                .willReturn(Map.of(1L, ProductQueryCacheRepository.CachedDetail.of(cached, 5, Duration.ofMinutes(10))));
+        given(productQueryRepository.findProductDetailsByIds(List.of(2L, 3L)))
+                .willReturn(List.of(missed));
+        given(rankingService.getProductRanks(eq(List.of(1L, 2L)), any()))
+                .willReturn(Map.of(2L, 7L));
+
+        // act
+        ProductQuery.ProductDetailsResult result = productQuery.getProductDetails(List.of(1L, 2L, 3L, 1L));
+
+        // assert
+        assertThat(result.products()).extracting(ProductQuery.ProductDetailResult::id).containsExactly(1L, 2L);
+        assertThat(result.products().get(1).ranking().rank()).isEqualTo(7L);
+        assertThat(result.notFoundIds()).containsExactly(3L);
+        verify(productQueryCacheRepository).saveDetails(argThat(toCache -> toCache.keySet().equals(Set.of(2L))));
+        verify(kafkaEventPublisher, never()).publishProductViewedEvent(any());
+    }
+
+    @Test
+    @DisplayName("상품 상세 일괄 조회 개수 제한을 넘으면 BAD_REQUEST 예외가 발생한다")
+    void getProductDetails_throwBadRequest_whenTooManyIds() {
+        // arrange
+        List<Long> productIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> productQuery.getProductDetails(productIds));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        verifyNoInteractions(productQueryRepository);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, 101})
+    @DisplayName("커서 목록 조회 페이지 크기가 1~100 을 벗어나면 BAD_REQUEST 예외가 발생한다")
+    void getProductsByCursor_throwBadRequest_whenSizeOutOfRange(int size) {
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> productQuery.getProductsByCursor(null, "latest", null, size));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        verifyNoInteractions(productQueryRepository);
+    }
+
+    @Test
+    @DisplayName("캐시된 상품 상세에는 캐시와 함께 조회한 실시간 순위를 붙인다")
+    void getProductDetailWithCache_attachLiveRank() {
+        // arrange
+        ProductQuery.ProductDetailResult cached = new ProductQuery.ProductDetailResult(
+                1L, "상품1", "설명1", BigDecimal.valueOf(10000), 100,
+                new ProductQuery.BrandInfo(1L, "브랜드1", "브랜드 설명"), 5, null
+        );
+        given(productQueryCacheRepository.findDetailWithRank(eq(1L), any()))
+                .willReturn(new ProductQueryCacheRepository.RankedDetail(
+                        ProductQueryCacheRepository.CachedDetail.of(cached, 5, Duration.ofMinutes(10)), 3L));
+
+        // act
+        ProductQuery.ProductDetailResult result = productQuery.getProductDetailWithCache(1L);
+
+        // assert
+        assertThat(result.ranking().rank()).isEqualTo(3L);
+        verify(productQueryRepository, never()).findProductDetailById(any());
+        verify(rankingService, never()).getProductRank(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 미스로 DB 에서 읽은 좋아요 수에는 아직 반영되지 않은 누적값을 더한다")
+    void getProductDetailWithCache_mergePendingLikeCount() {
+        // arrange
+        ProductQueryRepository.ProductDetailQueryData data = new ProductQueryRepository.ProductDetailQueryData(
+                1L, "상품1", "설명1", BigDecimal.valueOf(10000), 100,
+                1L, "브랜드1", "브랜드 설명", 10
+        );
+        given(productQueryCacheRepository.findDetailWithRank(eq(1L), any()))
+                .willReturn(new ProductQueryCacheRepository.RankedDetail(null, null));
+        given(productQueryRepository.findProductDetailById(1L)).willReturn(Optional.of(data));
+        given(likeCountBuffer.getPendingDeltas(List.of(1L))).willReturn(Map.of(1L, 3L));
+
+        // act
+        ProductQuery.ProductDetailResult result = productQuery.getProductDetailWithCache(1L);
+
+        // assert
+        assertThat(result.likeCount()).isEqualTo(13);
+        verify(productQueryCacheRepository).saveDetail(eq(1L), argThat(cached -> cached.result().likeCount() == 13));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품으로 기록된 ID 는 DB 를 조회하지 않고 NOT_FOUND 예외가 발생한다")
+    void getProductDetailWithCache_throwNotFound_whenMarkedAbsent() {
+        // arrange
+        given(productQueryCacheRepository.findDetailWithRank(eq(999L), any()))
+                .willReturn(new ProductQueryCacheRepository.RankedDetail(null, null));
+        given(productQueryCacheRepository.isMarkedAbsent(999L)).willReturn(true);
+
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> productQuery.getProductDetailWithCache(999L));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        verify(productQueryRepository, never()).findProductDetailById(any());
+    }
+
+    @Test
+    @DisplayName("DB 에도 없는 상품은 존재하지 않는 상품으로 기록한다")
+    void getProductDetailWithCache_markAbsent_whenProductNotFound() {
+        // arrange
+        given(productQueryCacheRepository.findDetailWithRank(eq(999L), any()))
+                .willReturn(new ProductQueryCacheRepository.RankedDetail(null, null));
+        given(productQueryRepository.findProductDetailById(999L)).willReturn(Optional.empty());
+
+        // act
+        assertThrows(CoreException.class, () -> productQuery.getProductDetailWithCache(999L));
+
+        // assert
+        verify(productQueryCacheRepository).markAbsent(999L);
+    }
+
+    private void givenFindProductsInvokesCountSupplier() {
+        List<ProductQueryRepository.ProductQueryData> content = getProductQueryData(0, 2).getContent();
+        given(productQueryRepository.findProducts(eq(1L), eq(ProductSortType.LATEST), any(Pageable.class), any(LongSupplier.class)))
+                .willAnswer(invocation -> {
+                    Pageable pageable = invocation.getArgument(2);
+                    LongSupplier totalCountSupplier = invocation.getArgument(3);
+                    return new PageImpl<>(content, pageable, totalCountSupplier.getAsLong());
+                });
     }
 
     @Test
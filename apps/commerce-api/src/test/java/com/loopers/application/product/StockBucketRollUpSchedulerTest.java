@@ -0,0 +1,62 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.StockBucketService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("재고 버킷 합산 스케줄러 테스트")
+class StockBucketRollUpSchedulerTest {
+
+    @Mock
+    private StockBucketService stockBucketService;
+
+    @InjectMocks
+    private StockBucketRollUpScheduler scheduler;
+
+    @Test
+    @DisplayName("버킷 모드가 꺼져 있으면 남은 버킷을 한 번 모두 합친 뒤에는 조회하지 않는다")
+    void rollUp_disabled_mergesOnceThenNoOp() {
+        // arrange
+        given(stockBucketService.isEnabled()).willReturn(false);
+        given(stockBucketService.findAllBucketedProductIds()).willReturn(List.of(1L, 2L));
+
+        // act
+        scheduler.rollUp();
+        scheduler.rollUp();
+        scheduler.rollUp();
+
+        // assert
+        verify(stockBucketService, times(1)).findAllBucketedProductIds();
+        verify(stockBucketService).mergeBack(1L);
+        verify(stockBucketService).mergeBack(2L);
+    }
+
+    @Test
+    @DisplayName("합치기에 실패한 상품이 있으면 다음 주기에 다시 조회한다")
+    void rollUp_disabled_retriesAfterFailedMerge() {
+        // arrange
+        given(stockBucketService.isEnabled()).willReturn(false);
+        given(stockBucketService.findAllBucketedProductIds()).willReturn(List.of(1L), List.of());
+        willThrow(new RuntimeException("잠금 대기 시간 초과")).given(stockBucketService).mergeBack(1L);
+
+        // act
+        scheduler.rollUp();
+        scheduler.rollUp();
+        scheduler.rollUp();
+
+        // assert
+        verify(stockBucketService, times(2)).findAllBucketedProductIds();
+        verify(stockBucketService, never()).findProductIdsUpdatedSince(any());
+    }
+}
@@ -1,8 +1,5 @@
 package com.loopers.domain.like;
 
-import com.loopers.domain.user.Gender;
-import com.loopers.domain.user.User;
-import com.loopers.domain.user.UserCommand;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -11,7 +8,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,35 +28,35 @@ class LikeServiceTest {
         @Test
         void createLike_success() {
             // arrange
-            User user = createTestUser();
+            Long userId = 1L;
             Target target = ProductTarget.of(1L);
 
-            when(likeRepository.existsByUserAndTarget(user, target.getType(), target.getId()))
-                    .thenReturn(false);
+            when(likeRepository.insertIfAbsent(userId, target.getType(), target.getId()))
+                    .thenReturn(1);
 
             // act
-            likeService.createLike(user, target);
+            boolean created = likeService.createLike(userId, target);
 
             // assert
-            verify(likeRepository).existsByUserAndTarget(user, target.getType(), target.getId());
-            verify(likeRepository).save(any(Like.class));
+            assertThat(created).isTrue();
+            verify(likeRepository).insertIfAbsent(userId, target.getType(), target.getId());
         }
 
         @DisplayName("이미 존재하는 좋아요는 중복 등록되지 않는다.")
         @Test
         void createLike_idempotent_whenAlreadyExists() {
             // arrange
-            User user = createTestUser();
+            Long userId = 1L;
             Target target = ProductTarget.of(1L);
 
-            when(likeRepository.existsByUserAndTarget(user, target.getType(), target.getId()))
-                    .thenReturn(true);
+            when(likeRepository.insertIfAbsent(userId, target.getType(), target.getId()))
+                    .thenReturn(0);
 
             // act
-            likeService.createLike(user, target);
+            boolean created = likeService.createLike(userId, target);
 
             // assert
-            verify(likeRepository).existsByUserAndTarget(user, target.getType(), target.getId());
+            assertThat(created).isFalse();
             verify(likeRepository, never()).save(any(Like.class));
         }
     }
@@ -72,40 +69,32 @@ class LikeServiceTest {
         @Test
         void cancelLike_success() {
             // arrange
-            User user = createTestUser();
+            Long userId = 1L;
             Target target = ProductTarget.of(1L);
 
+            when(likeRepository.deleteByUserIdAndTarget(userId, target.getType(), target.getId()))
+                    .thenReturn(1);
+
             // act
-            likeService.cancelLike(user, target);
+            boolean cancelled = likeService.cancelLike(userId, target);
 
             // assert
-            verify(likeRepository).deleteByUserAndTarget(user, target.getType(), target.getId());
+            assertThat(cancelled).isTrue();
         }
 
         @DisplayName("존재하지 않는 좋아요 취소는 아무 동작을 하지 않는다.")
         @Test
         void cancelLike_idempotent_whenNotExists() {
             // arrange
-            User user = createTestUser();
+            Long userId = 1L;
             Target target = ProductTarget.of(1L);
 
             // act
-            likeService.cancelLike(user, target);
+            boolean cancelled = likeService.cancelLike(userId, target);
 
             // assert
-            verify(likeRepository).deleteByUserAndTarget(user, target.getType(), target.getId());
+            assertThat(cancelled).isFalse();
+            verify(likeRepository).deleteByUserIdAndTarget(userId, target.getType(), target.getId());
         }
     }
-
-    private User createTestUser() {
-        UserCommand.Create command = new UserCommand.Create(
-                "testUser",
-                "test@example.com",
-                "1996-08-16",
-                Gender.MALE
-        );
-
-        return User.of(command);
-    }
-
 }
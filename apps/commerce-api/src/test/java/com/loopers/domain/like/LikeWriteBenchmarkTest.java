@@ -0,0 +1,155 @@
+package com.loopers.domain.like;
+
+import com.loopers.domain.user.Gender;
+import com.loopers.domain.user.User;
+import com.loopers.domain.user.UserCommand;
+import com.loopers.domain.user.UserRepository;
+import com.loopers.domain.user.UserService;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LikeConcurrencyTest 와 같은 형태의 부하(여러 사용자가 같은 상품에 중복 요청)로
+ * 조회 후 저장 방식과 한 문장 저장 방식을 비교한다. 시간은 상대 비교용으로만 출력한다.
+ * 기본 테스트에서는 빠지고 benchmark 태스크로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("좋아요 저장 방식 동시성 벤치마크")
+@SpringBootTest
+@Sql(scripts = {"/brand-test-data.sql", "/product-test-data.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class LikeWriteBenchmarkTest {
+
+    private static final int USER_COUNT = 50;
+    private static final int REQUESTS_PER_USER = 4;
+    private static final int THREAD_COUNT = 20;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(userRepository.save(User.of(new UserCommand.Create(
+                    "bench" + i,
+                    "bench" + i + "@test.com",
+                    "1996-08-16",
+                    Gender.MALE
+            ))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("한 문장 저장 방식도 사용자마다 정확히 한 번만 성공하며 조회 후 저장 방식과 소요 시간을 비교한다")
+    @Test
+    void compareExistsThenSaveWithInsertIgnore() throws InterruptedException {
+        // arrange
+        Target legacyTarget = ProductTarget.of(1L);
+        Target singleStatementTarget = ProductTarget.of(2L);
+
+        // act - 기존 방식: User 엔티티 조회 → 존재 여부 조회 → 저장 (유니크 키 위반은 실패로 처리)
+        Result legacy = run(user -> Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            User loaded = userService.findByAccountId(user.getAccountId());
+            if (!likeRepository.findLikedTargetIds(loaded.getId(), legacyTarget.getType(), List.of(legacyTarget.getId())).isEmpty()) {
+                return false;
+            }
+            likeRepository.save(Like.of(loaded, legacyTarget));
+            return true;
+        })));
+
+        // act - 변경 방식: 사용자 ID 만 조회 → INSERT IGNORE 한 문장
+        Result singleStatement = run(user ->
+                likeService.createLike(userService.findIdByAccountId(user.getAccountId()), singleStatementTarget));
+
+        // assert
+        System.out.printf("조회 후 저장 - 소요: %dms, 성공: %d, 중복 키 예외: %d%n",
+                legacy.elapsedMillis(), legacy.successCount(), legacy.conflictCount());
+        System.out.printf("한 문장 저장 - 소요: %dms, 성공: %d, 중복 키 예외: %d%n",
+                singleStatement.elapsedMillis(), singleStatement.successCount(), singleStatement.conflictCount());
+
+        assertThat(singleStatement.successCount()).isEqualTo(USER_COUNT);
+        assertThat(singleStatement.conflictCount()).isZero();
+        assertThat(likeRepository.countByTarget(singleStatementTarget.getType(), singleStatementTarget.getId()))
+                .isEqualTo(USER_COUNT);
+        assertThat(likeRepository.countByTarget(legacyTarget.getType(), legacyTarget.getId()))
+                .isEqualTo(USER_COUNT);
+    }
+
+    private Result run(Predicate<User> likeOperation) throws InterruptedException {
+        int totalRequests = USER_COUNT * REQUESTS_PER_USER;
+        CountDownLatch ready = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(totalRequests);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger();
+
+        long elapsedMillis;
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            for (int i = 0; i < totalRequests; i++) {
+                User user = users.get(i % USER_COUNT);
+                executor.submit(() -> {
+                    try {
+                        ready.await();
+                        if (likeOperation.test(user)) {
+                            successCount.incrementAndGet();
+                        }
+                    } catch (DataIntegrityViolationException e) {
+                        conflictCount.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            long startedAt = System.nanoTime();
+            ready.countDown();
+            done.await();
+            elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        }
+
+        return new Result(elapsedMillis, successCount.get(), conflictCount.get());
+    }
+
+    private record Result(long elapsedMillis, int successCount, int conflictCount) {}
+}
@@ -0,0 +1,66 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.payment.PaymentDetails;
+import com.loopers.domain.payment.PaymentMethod;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderIntakeTest {
+
+    private static final String CARD_NO = "1234-5678-9814-1451";
+
+    @DisplayName("카드 결제 접수 건은 카드 종류만 남기고 카드 번호는 갖지 않는다")
+    @Test
+    void create_doesNotKeepCardNo() {
+        // arrange & act
+        OrderIntake orderIntake = OrderIntake.create("token-1", "user1", createCardCommand());
+
+        // assert
+        assertThat(orderIntake.isCardPayment()).isTrue();
+        assertThat(orderIntake.getPaymentMethod()).isEqualTo(PaymentMethod.CARD);
+        assertThat(orderIntake.getCardType()).isEqualTo("SAMSUNG");
+    }
+
+    @DisplayName("처리할 때 따로 보관한 카드 번호를 넘기면 접수한 주문 요청으로 복원된다")
+    @Test
+    void toCommand_restoresCardPayment() {
+        // arrange
+        OrderCommand.Create command = createCardCommand();
+        OrderIntake orderIntake = OrderIntake.create("token-1", "user1", command);
+
+        // act
+        OrderCommand.Create restored = orderIntake.toCommand(CARD_NO);
+
+        // assert
+        assertThat(restored).isEqualTo(command);
+    }
+
+    @DisplayName("재시도를 기다리는 접수 건은 대기 상태를 유지하고, 시도 횟수를 다 쓰면 실패로 끝난다")
+    @Test
+    void retryOrFail_failsAfterMaxAttempts() {
+        // arrange
+        OrderIntake orderIntake = OrderIntake.create("token-1", "user1", createCardCommand());
+
+        // act
+        orderIntake.retryOrFail("일시적인 오류", 2);
+        boolean pendingAfterFirst = orderIntake.isPending();
+        orderIntake.retryOrFail("일시적인 오류", 2);
+
+        // assert
+        assertThat(pendingAfterFirst).isTrue();
+        assertThat(orderIntake.getStatus()).isEqualTo(OrderIntakeStatus.FAILED);
+        assertThat(orderIntake.getFailureReason()).isEqualTo("일시적인 오류");
+    }
+
+    private OrderCommand.Create createCardCommand() {
+        return new OrderCommand.Create(
+                List.of(new OrderCommand.CreateItem(1L, 1)),
+                null,
+                new PaymentDetails.Card("SAMSUNG", CARD_NO)
+        );
+    }
+}
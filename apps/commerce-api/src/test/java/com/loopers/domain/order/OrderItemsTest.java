@@ -1,6 +1,7 @@
 package com.loopers.domain.order;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.Products;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandCommand;
 import com.loopers.support.error.CoreException;
@@ -137,7 +138,7 @@ class OrderItemsTest {
             Brand brand = Brand.of(brandCommand);
             Product product1 = createProduct(1L, "상품1", new BigDecimal("10000"), brand);
             Product product2 = createProduct(2L, "상품2", new BigDecimal("5000"), brand);
-            List<Product> products = List.of(product1, product2);
+            Products products = Products.from(List.of(product1, product2));
 
             OrderCommand.CreateItem item1 = new OrderCommand.CreateItem(1L, 2);
             OrderCommand.CreateItem item2 = new OrderCommand.CreateItem(2L, 3);
@@ -162,7 +163,7 @@ class OrderItemsTest {
             BrandCommand.Create brandCommand = new BrandCommand.Create("테스트 브랜드", "테스트 브랜드 설명");
             Brand brand = Brand.of(brandCommand);
             Product product = createProduct(1L, "상품1", new BigDecimal("10000"), brand);
-            List<Product> products = List.of(product);
+            Products products = Products.from(List.of(product));
 
             OrderCommand.CreateItem item = new OrderCommand.CreateItem(999L, 2);
             List<OrderCommand.CreateItem> commandItems = List.of(item);
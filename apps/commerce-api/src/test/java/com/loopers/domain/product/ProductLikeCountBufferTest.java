@@ -0,0 +1,98 @@
+package com.loopers.domain.product;
+
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Sql(scripts = {"/brand-test-data.sql", "/product-test-data.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@DisplayName("좋아요 수 미반영 증감 조회 테스트")
+class ProductLikeCountBufferTest {
+
+    @Autowired
+    private ProductLikeCountBuffer likeCountBuffer;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        setWriteMode("direct");
+        redisCleanUp.truncateAll();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @Test
+    @DisplayName("꺼낸 누적값은 DB 반영이 끝나 complete 할 때까지 미반영 증감에 포함된다")
+    void drainedDeltas_remainPendingUntilComplete() {
+        // arrange
+        setWriteMode("buffered");
+        likeCountBuffer.add(1L, 3);
+
+        // act
+        Map<Long, Integer> drained = likeCountBuffer.drain(10);
+        Map<Long, Long> whileFlushing = likeCountBuffer.getPendingDeltas(List.of(1L));
+        likeCountBuffer.complete(drained);
+        Map<Long, Long> afterFlush = likeCountBuffer.getPendingDeltas(List.of(1L));
+
+        // assert
+        assertThat(drained).containsEntry(1L, 3);
+        assertThat(whileFlushing).containsEntry(1L, 3L);
+        assertThat(afterFlush).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샤드 카운터에 쌓인 증감도 합산 전까지 미반영 증감에 포함된다")
+    void shardDeltas_arePendingUntilRolledUp() {
+        // arrange
+        setWriteMode("sharded");
+        productService.increaseLikeCount(2L);
+        productService.increaseLikeCount(2L);
+
+        // act
+        Map<Long, Long> beforeRollUp = likeCountBuffer.getPendingDeltas(List.of(2L));
+        productService.rollUpLikeCounterShards(2L);
+        Map<Long, Long> afterRollUp = likeCountBuffer.getPendingDeltas(List.of(2L));
+
+        // assert
+        assertThat(beforeRollUp).containsEntry(2L, 2L);
+        assertThat(afterRollUp).isEmpty();
+    }
+
+    @Test
+    @DisplayName("direct 모드는 즉시 반영하므로 Redis 나 샤드 카운터를 조회하지 않는다")
+    void directMode_hasNoPendingDeltas() {
+        // arrange
+        likeCountBuffer.add(1L, 3);
+
+        // act
+        Map<Long, Long> pendingDeltas = likeCountBuffer.getPendingDeltas(List.of(1L));
+
+        // assert
+        assertThat(pendingDeltas).isEmpty();
+    }
+
+    private void setWriteMode(String writeMode) {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(productService), "likeCountWriteMode", writeMode);
+        ReflectionTestUtils.setField(likeCountBuffer, "likeCountWriteMode", writeMode);
+    }
+}
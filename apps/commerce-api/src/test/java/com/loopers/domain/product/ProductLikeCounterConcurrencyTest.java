@@ -0,0 +1,80 @@
+package com.loopers.domain.product;
+
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Sql(scripts = {"/brand-test-data.sql", "/product-test-data.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ProductLikeCounterConcurrencyTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(productService), "likeCountWriteMode", "sharded");
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(productService), "likeCountWriteMode", "direct");
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("sharded 모드에서 동시에 좋아요가 몰려도 합산 후 좋아요 수가 정확하다")
+    @Test
+    void concurrentLikes_shardedMode_shouldSumExactly() throws InterruptedException {
+        // arrange
+        Long productId = 1L;
+        int threadCount = 50;
+        int initialLikeCount = productRepository.findById(productId).orElseThrow().getLikeCount();
+
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // act
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        productService.increaseLikeCount(productId);
+                        successCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+        }
+
+        productService.rollUpLikeCounterShards(productId);
+
+        // assert
+        Product product = productRepository.findById(productId).orElseThrow();
+        assertThat(successCount.get()).isEqualTo(threadCount);
+        assertThat(product.getLikeCount()).isEqualTo(initialLikeCount + threadCount);
+    }
+}
@@ -6,11 +6,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +27,12 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private ProductLikeCountBuffer likeCountBuffer;
+
+    @Mock
+    private ProductLikeCounterRepository likeCounterRepository;
+
     @InjectMocks
     private ProductService productService;
 
@@ -36,24 +46,26 @@ class ProductServiceTest {
             // arrange
             Product product1 = mock(Product.class);
             Product product2 = mock(Product.class);
+            when(product1.getId()).thenReturn(1L);
+            when(product2.getId()).thenReturn(2L);
 
             List<Long> productIds = List.of(1L, 2L);
 
-            when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
-            when(productRepository.findById(2L)).thenReturn(Optional.of(product2));
+            // IN 조회 결과는 요청 순서와 다를 수 있다
+            when(productRepository.findAllByIds(productIds)).thenReturn(List.of(product2, product1));
 
             // act
-            List<Product> result = productService.findProductsByIds(productIds);
+            Products result = productService.findProductsByIds(productIds);
 
             // assert
             assertAll(
-                    () -> assertThat(result).hasSize(2),
-                    () -> assertThat(result.get(0)).isEqualTo(product1),
-                    () -> assertThat(result.get(1)).isEqualTo(product2)
+                    () -> assertThat(result.size()).isEqualTo(2),
+                    () -> assertThat(result.toList()).containsExactly(product1, product2),
+                    () -> assertThat(result.get(2L)).isEqualTo(product2)
             );
 
-            verify(productRepository).findById(1L);
-            verify(productRepository).findById(2L);
+            verify(productRepository, times(1)).findAllByIds(productIds);
+            verify(productRepository, never()).findById(any());
         }
 
         @DisplayName("존재하지 않는 상품 ID가 포함되면 NOT_FOUND 예외가 발생한다.")
@@ -63,15 +75,16 @@ class ProductServiceTest {
             List<Long> productIds = List.of(1L, 999L);
 
             Product product1 = mock(Product.class);
+            when(product1.getId()).thenReturn(1L);
 
-            when(productRepository.findById(1L)).thenReturn(Optional.of(product1));
-            when(productRepository.findById(999L)).thenReturn(Optional.empty());
+            when(productRepository.findAllByIds(productIds)).thenReturn(List.of(product1));
 
             // act & assert
             CoreException exception = assertThrows(CoreException.class,
                     () -> productService.findProductsByIds(productIds));
 
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+            assertThat(exception.getMessage()).contains("[999]");
         }
 
         @DisplayName("빈 상품 아이디 리스트가 주어지면 빈 리스트가 반환된다.")
@@ -81,10 +94,10 @@ class ProductServiceTest {
             List<Long> productIds = List.of();
 
             // act
-            List<Product> result = productService.findProductsByIds(productIds);
+            Products result = productService.findProductsByIds(productIds);
 
             // assert
-            assertThat(result).isEmpty();
+            assertThat(result.toList()).isEmpty();
             verifyNoInteractions(productRepository);
         }
     }
@@ -128,4 +141,93 @@ class ProductServiceTest {
         }
     }
 
+    @DisplayName("좋아요 수 증가 시")
+    @Nested
+    class IncreaseLikeCount {
+
+        @DisplayName("buffered 모드면 상품 행을 잠그지 않고 Redis 에 누적한다.")
+        @Test
+        void addToBuffer_whenBufferedMode() {
+            // arrange
+            ReflectionTestUtils.setField(productService, "likeCountWriteMode", "buffered");
+            when(likeCountBuffer.add(1L, 1)).thenReturn(true);
+
+            // act
+            productService.increaseLikeCount(1L);
+
+            // assert
+            verify(likeCountBuffer).add(1L, 1);
+            verify(productRepository, never()).findByIdWithLock(any());
+        }
+
+        @DisplayName("buffered 모드라도 Redis 누적에 실패하면 행을 잠그고 바로 반영한다.")
+        @Test
+        void fallbackToDirect_whenBufferUnavailable() {
+            // arrange
+            ReflectionTestUtils.setField(productService, "likeCountWriteMode", "buffered");
+            Product product = mock(Product.class);
+            when(likeCountBuffer.add(1L, 1)).thenReturn(false);
+            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(product));
+
+            // act
+            productService.increaseLikeCount(1L);
+
+            // assert
+            verify(product).increaseLikeCount();
+            verify(productRepository).save(product);
+        }
+
+        @DisplayName("sharded 모드면 상품 행 대신 샤드 카운터 하나를 증가시킨다.")
+        @Test
+        void incrementShard_whenShardedMode() {
+            // arrange
+            ReflectionTestUtils.setField(productService, "likeCountWriteMode", "sharded");
+            ReflectionTestUtils.setField(productService, "likeCountShardCount", 4);
+
+            // act
+            productService.increaseLikeCount(1L);
+
+            // assert
+            verify(likeCounterRepository).increment(eq(1L), intThat(shardNo -> shardNo >= 0 && shardNo < 4), eq(1));
+            verifyNoInteractions(productRepository, likeCountBuffer);
+        }
+    }
+
+    @DisplayName("샤드 합산 시 모든 샤드의 누적값을 더해 좋아요 수에 반영하고 샤드를 0 으로 되돌린다.")
+    @Test
+    void rollUpLikeCounterShards_sumsAndResetsShards() {
+        // arrange
+        ProductLikeCounter first = mock(ProductLikeCounter.class);
+        ProductLikeCounter second = mock(ProductLikeCounter.class);
+        when(first.drain()).thenReturn(5);
+        when(second.drain()).thenReturn(-2);
+        when(likeCounterRepository.findByProductIdWithLock(1L)).thenReturn(List.of(first, second));
+
+        // act
+        int delta = productService.rollUpLikeCounterShards(1L);
+
+        // assert
+        assertThat(delta).isEqualTo(3);
+        verify(productRepository).addLikeCount(1L, 3);
+    }
+
+    @DisplayName("누적된 좋아요 증감 반영 시 상품 ID 순으로 UPDATE 하고 증감이 0 인 상품은 건너뛴다.")
+    @Test
+    void applyLikeCountDeltas_inProductIdOrder() {
+        // arrange
+        Map<Long, Integer> deltas = new HashMap<>();
+        deltas.put(3L, 2);
+        deltas.put(1L, -1);
+        deltas.put(2L, 0);
+        when(productRepository.addLikeCount(anyLong(), anyInt())).thenReturn(1);
+
+        // act
+        productService.applyLikeCountDeltas(deltas);
+
+        // assert
+        InOrder inOrder = inOrder(productRepository);
+        inOrder.verify(productRepository).addLikeCount(1L, -1);
+        inOrder.verify(productRepository).addLikeCount(3L, 2);
+        verify(productRepository, never()).addLikeCount(eq(2L), anyInt());
+    }
 }
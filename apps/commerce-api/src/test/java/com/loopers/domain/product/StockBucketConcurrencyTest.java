@@ -0,0 +1,187 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderItems;
+import com.loopers.utils.DatabaseCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Sql(scripts = {"/brand-test-data.sql", "/product-test-data.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class StockBucketConcurrencyTest {
+
+    @Autowired
+    private StockBucketService stockBucketService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(stockBucketService), "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(stockBucketService), "enabled", false);
+        databaseCleanUp.truncateAllTables();
+    }
+
+    @DisplayName("버킷 모드에서 재고보다 많은 주문이 동시에 몰려도 재고 수만큼만 차감되고 합산 후 재고가 0 이 된다")
+    @Test
+    void concurrentOrders_bucketMode_neverOversell() throws InterruptedException {
+        // arrange - 상품 1 재고 50 을 버킷 4 개로 나눔
+        Long productId = 1L;
+        stockBucketService.splitStock(productId, 4);
+        Product product = productRepository.findById(productId).orElseThrow();
+
+        int threadCount = 80;
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failureCount = new AtomicInteger(0);
+
+        // act
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < threadCount; i++) {
+                final long orderId = i + 1;
+                executor.submit(() -> {
+                    try {
+                        OrderItems orderItems = OrderItems.from(List.of(new OrderItem(productId, 1, product.getPrice())));
+                        stockReservationService.reserveStock(orderId, Products.from(List.of(product)), orderItems);
+                        successCount.incrementAndGet();
+                    } catch (Exception e) {
+                        failureCount.incrementAndGet();
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+        }
+
+        stockBucketService.rollUp(productId);
+
+        // assert
+        assertThat(successCount.get()).isEqualTo(50);
+        assertThat(failureCount.get()).isEqualTo(30);
+        assertThat(stockBucketService.sumStock(productId)).isZero();
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isZero();
+    }
+
+    @DisplayName("여러 버킷에서 나눠 차감한 예약을 해제하면 각 버킷에 수량이 돌아간다")
+    @Test
+    void releaseReservation_restoresEachBucket() {
+        // arrange - 상품 2 재고 30 을 버킷 3 개(10 씩)로 나눔
+        Long productId = 2L;
+        Long orderId = 1L;
+        stockBucketService.splitStock(productId, 3);
+        Product product = productRepository.findById(productId).orElseThrow();
+        OrderItems orderItems = OrderItems.from(List.of(new OrderItem(productId, 25, new BigDecimal("10000"))));
+
+        stockReservationService.reserveStock(orderId, Products.from(List.of(product)), orderItems);
+
+        // act
+        List<StockReservationResult> results = stockReservationService.releaseReservation(orderId);
+
+        // assert
+        assertThat(stockReservationRepository.findByOrderId(orderId))
+                .hasSize(3)
+                .allMatch(StockReservation::isFromBucket);
+        assertThat(results).containsExactly(StockReservationResult.of(productId, 25, 30));
+        assertThat(stockBucketService.sumStock(productId)).isEqualTo(30);
+    }
+
+    @DisplayName("합산은 버킷의 증감만 더하므로 버킷 전환 전 예약을 상품 행으로 복구한 수량이 남는다")
+    @Test
+    void rollUp_keepsRowPathStockChanges() {
+        // arrange - 상품 2 재고 30 에서 5 개를 상품 행으로 예약한 뒤 남은 25 를 버킷 3 개로 나눔
+        Long productId = 2L;
+        Product product = productRepository.findById(productId).orElseThrow();
+        stockReservationService.reserveStock(1L, Products.from(List.of(product)),
+                OrderItems.from(List.of(new OrderItem(productId, 5, product.getPrice()))));
+        stockBucketService.splitStock(productId, 3);
+        stockReservationService.reserveStock(2L, Products.from(List.of(product)),
+                OrderItems.from(List.of(new OrderItem(productId, 10, product.getPrice()))));
+
+        // act
+        stockReservationService.releaseReservation(1L);
+        int delta = stockBucketService.rollUp(productId);
+
+        // assert
+        assertThat(delta).isEqualTo(-10);
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(20);
+    }
+
+    @DisplayName("버킷 상품은 합산 전이라 늦은 product.stock 이 아니라 버킷 합계로 주문 가능 여부를 판정한다")
+    @Test
+    void reserveStock_bucketedProduct_usesBucketSumInsteadOfLaggingRowStock() {
+        // arrange - 상품 2 재고 30 을 버킷으로 나누고 20 개 예약, 합산(상품 행 10) 후 해제해 버킷만 30 으로 돌아간 상태
+        Long productId = 2L;
+        stockBucketService.splitStock(productId, 3);
+        Product product = productRepository.findById(productId).orElseThrow();
+        stockReservationService.reserveStock(1L, Products.from(List.of(product)),
+                OrderItems.from(List.of(new OrderItem(productId, 20, product.getPrice()))));
+        stockBucketService.rollUp(productId);
+        stockReservationService.releaseReservation(1L);
+        Product laggingProduct = productRepository.findById(productId).orElseThrow();
+
+        // act
+        stockReservationService.reserveStock(2L, Products.from(List.of(laggingProduct)),
+                OrderItems.from(List.of(new OrderItem(productId, 25, laggingProduct.getPrice()))));
+
+        // assert
+        assertThat(laggingProduct.getStock()).isEqualTo(10);
+        assertThat(stockBucketService.sumStock(productId)).isEqualTo(5);
+    }
+
+    @DisplayName("버킷 모드를 끄고 버킷을 합치면 상품 행 재고가 맞춰지고, 남은 버킷 예약은 상품 행으로 해제된다")
+    @Test
+    void mergeBack_foldsBucketsIntoProductRow() {
+        // arrange - 상품 2 재고 30 을 버킷 3 개로 나누고 25 개를 버킷에서 예약
+        Long productId = 2L;
+        Long orderId = 1L;
+        stockBucketService.splitStock(productId, 3);
+        Product product = productRepository.findById(productId).orElseThrow();
+        stockReservationService.reserveStock(orderId, Products.from(List.of(product)),
+                OrderItems.from(List.of(new OrderItem(productId, 25, product.getPrice()))));
+        ReflectionTestUtils.setField(AopTestUtils.getUltimateTargetObject(stockBucketService), "enabled", false);
+
+        // act
+        stockBucketService.mergeBack(productId);
+        int stockAfterMerge = productRepository.findById(productId).orElseThrow().getStock();
+        List<StockReservationResult> results = stockReservationService.releaseReservation(orderId);
+
+        // assert
+        assertThat(stockAfterMerge).isEqualTo(5);
+        assertThat(stockBucketService.findAllBucketedProductIds()).isEmpty();
+        assertThat(results).containsExactly(StockReservationResult.of(productId, 25, 30));
+        assertThat(productRepository.findById(productId).orElseThrow().getStock()).isEqualTo(30);
+    }
+}
@@ -0,0 +1,179 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@Sql(scripts = {"/brand-test-data.sql", "/product-test-data.sql"},
+        executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class StockGateTest {
+
+    @Autowired
+    private StockGate stockGate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(stockGate, "enabled", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(stockGate, "enabled", false);
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    @DisplayName("재고보다 많은 주문이 동시에 몰려도 재고 수만큼만 게이트에서 차감된다")
+    @Test
+    void concurrentReserve_admitsOnlyAvailableStock() throws InterruptedException {
+        // arrange - 상품 1 재고 50
+        int threadCount = 80;
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger admittedCount = new AtomicInteger();
+        AtomicInteger bypassedCount = new AtomicInteger();
+
+        // act
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        if (stockGate.reserve(Map.of(1L, 1))) {
+                            admittedCount.incrementAndGet();
+                        } else {
+                            bypassedCount.incrementAndGet();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+
+            latch.await();
+        }
+
+        // assert - DB 재고는 그대로라 나머지는 거절되지 않고 DB 잠금 판정으로 넘어간다
+        assertThat(admittedCount.get()).isEqualTo(50);
+        assertThat(bypassedCount.get()).isEqualTo(30);
+    }
+
+    @DisplayName("주문의 한 상품이라도 모자라면 다른 상품도 차감하지 않는다")
+    @Test
+    void reserve_isAllOrNothingAcrossItems() {
+        // arrange - 상품 1 재고 50, 상품 2 재고 30
+
+        // act
+        assertThrows(CoreException.class, () -> stockGate.reserve(Map.of(1L, 10, 2L, 31)));
+
+        // assert
+        assertThat(stockGate.reserve(Map.of(1L, 50))).isTrue();
+    }
+
+    @DisplayName("0 이하 수량은 카운터를 건드리지 않고 거절한다")
+    @ParameterizedTest
+    @ValueSource(ints = {0, -5})
+    void reserve_rejectsNonPositiveQuantity(int quantity) {
+        // arrange - 상품 1 재고 50
+
+        // act
+        CoreException exception = assertThrows(CoreException.class,
+                () -> stockGate.reserve(Map.of(1L, quantity, 2L, 1)));
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT_FORMAT);
+        assertThat(stockGate.reserve(Map.of(1L, 50, 2L, 30))).isTrue();
+        assertThat(stockGate.reserve(Map.of(1L, 1))).isFalse();
+    }
+
+    @DisplayName("되돌린 수량은 다시 주문할 수 있다")
+    @Test
+    void release_restoresReservedQuantity() {
+        // arrange
+        stockGate.reserve(Map.of(2L, 30));
+
+        // act
+        stockGate.release(Map.of(2L, 5));
+
+        // assert
+        assertThat(stockGate.reserve(Map.of(2L, 5))).isTrue();
+        assertThat(stockGate.reserve(Map.of(2L, 1))).isFalse();
+    }
+
+    @DisplayName("카운터가 모자라도 DB 재고가 충분하면 거절하지 않고 게이트를 건너뛴다")
+    @Test
+    void reserve_bypassesGate_whenCounterIsLowerThanDbStock() {
+        // arrange - 상품 2 재고 30, 커밋되지 않은 주문이 카운터를 모두 차감한 상태
+        stockGate.reserve(Map.of(2L, 30));
+
+        // act
+        boolean reserved = stockGate.reserve(Map.of(2L, 10));
+
+        // assert
+        assertThat(reserved).isFalse();
+        assertThrows(CoreException.class, () -> stockGate.reserve(Map.of(2L, 31)));
+    }
+
+    @DisplayName("게이트 차감 후 트랜잭션이 롤백되면 차감한 수량을 되돌린다")
+    @Test
+    void releaseOnRollback_restoresQuantity_whenTransactionRollsBack() {
+        // arrange - 상품 1 재고 50
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // act
+        transactionTemplate.executeWithoutResult(status -> {
+            stockGate.reserve(Map.of(1L, 50));
+            stockGate.releaseOnRollback(Map.of(1L, 50));
+            status.setRollbackOnly();
+        });
+
+        // assert
+        assertThat(stockGate.reserve(Map.of(1L, 50))).isTrue();
+    }
+
+    @DisplayName("게이트 차감 후 트랜잭션이 커밋되면 되돌리지 않는다")
+    @Test
+    void releaseOnRollback_keepsQuantity_whenTransactionCommits() {
+        // arrange - 상품 1 재고 50
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // act
+        transactionTemplate.executeWithoutResult(status -> {
+            stockGate.reserve(Map.of(1L, 50));
+            stockGate.releaseOnRollback(Map.of(1L, 50));
+        });
+
+        // assert
+        assertThat(stockGate.reserve(Map.of(1L, 1))).isFalse();
+    }
+}
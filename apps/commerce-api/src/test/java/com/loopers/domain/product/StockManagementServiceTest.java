@@ -17,11 +17,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,9 +54,7 @@ class StockManagementServiceTest {
             OrderItem orderItem2 = new OrderItem(2L, 5, new BigDecimal("5000"));
             OrderItems orderItems = OrderItems.from(List.of(orderItem1, orderItem2));
 
-            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lockedProduct1));
-            when(productRepository.findByIdWithLock(2L)).thenReturn(Optional.of(lockedProduct2));
-            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(productRepository.findAllByIdsWithLock(List.of(1L, 2L))).thenReturn(List.of(lockedProduct1, lockedProduct2));
 
             // act
             stockManagementService.decreaseStock(products, orderItems);
@@ -67,9 +65,8 @@ class StockManagementServiceTest {
                     () -> assertThat(lockedProduct2.getStock()).isEqualTo(45)
             );
 
-            verify(productRepository).findByIdWithLock(1L);
-            verify(productRepository).findByIdWithLock(2L);
-            verify(productRepository, times(2)).save(any(Product.class));
+            verify(productRepository).findAllByIdsWithLock(List.of(1L, 2L));
+            verify(productRepository).saveAll(List.of(lockedProduct1, lockedProduct2));
         }
 
         @DisplayName("주문 항목에 없는 상품은 처리하지 않는다.")
@@ -86,8 +83,7 @@ class StockManagementServiceTest {
             OrderItem orderItem1 = new OrderItem(1L, 10, new BigDecimal("10000"));
             OrderItems orderItems = OrderItems.from(List.of(orderItem1));
 
-            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lockedProduct1));
-            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(productRepository.findAllByIdsWithLock(List.of(1L))).thenReturn(List.of(lockedProduct1));
 
             // act
             stockManagementService.decreaseStock(products, orderItems);
@@ -95,9 +91,8 @@ class StockManagementServiceTest {
             // assert
             assertThat(lockedProduct1.getStock()).isEqualTo(90);
 
-            verify(productRepository).findByIdWithLock(1L);
-            verify(productRepository, never()).findByIdWithLock(2L);
-            verify(productRepository, times(1)).save(any(Product.class));
+            verify(productRepository).findAllByIdsWithLock(List.of(1L));
+            verify(productRepository).saveAll(List.of(lockedProduct1));
         }
 
         @DisplayName("재고가 0이 되어도 정상적으로 처리된다.")
@@ -113,8 +108,7 @@ class StockManagementServiceTest {
             OrderItem orderItem = new OrderItem(1L, 10, new BigDecimal("10000"));
             OrderItems orderItems = OrderItems.from(List.of(orderItem));
 
-            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lockedProduct));
-            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(productRepository.findAllByIdsWithLock(List.of(1L))).thenReturn(List.of(lockedProduct));
 
             // act
             stockManagementService.decreaseStock(products, orderItems);
@@ -122,8 +116,8 @@ class StockManagementServiceTest {
             // assert
             assertThat(lockedProduct.getStock()).isEqualTo(0);
 
-            verify(productRepository).findByIdWithLock(1L);
-            verify(productRepository).save(lockedProduct);
+            verify(productRepository).findAllByIdsWithLock(List.of(1L));
+            verify(productRepository).saveAll(List.of(lockedProduct));
         }
 
         @DisplayName("상품이 존재하지 않으면 예외가 발생한다.")
@@ -137,7 +131,7 @@ class StockManagementServiceTest {
             OrderItem orderItem = new OrderItem(1L, 5, new BigDecimal("10000"));
             OrderItems orderItems = OrderItems.from(List.of(orderItem));
 
-            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.empty());
+            when(productRepository.findAllByIdsWithLock(List.of(1L))).thenReturn(List.of());
 
             // act & assert
             CoreException exception = assertThrows(CoreException.class,
@@ -146,8 +140,8 @@ class StockManagementServiceTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
             assertThat(exception.getMessage()).contains("상품을 찾을 수 없습니다");
 
-            verify(productRepository).findByIdWithLock(1L);
-            verify(productRepository, never()).save(any(Product.class));
+            verify(productRepository).findAllByIdsWithLock(List.of(1L));
+            verify(productRepository, never()).saveAll(anyList());
         }
 
         @DisplayName("재고가 부족하면 상품 엔티티에서 예외가 발생한다.")
@@ -163,7 +157,7 @@ class StockManagementServiceTest {
             OrderItem orderItem = new OrderItem(1L, 10, new BigDecimal("10000"));
             OrderItems orderItems = OrderItems.from(List.of(orderItem));
 
-            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lockedProduct));
+            when(productRepository.findAllByIdsWithLock(List.of(1L))).thenReturn(List.of(lockedProduct));
 
             // act & assert
             CoreException exception = assertThrows(CoreException.class,
@@ -172,8 +166,8 @@ class StockManagementServiceTest {
             assertThat(exception.getErrorType()).isEqualTo(ErrorType.INVALID_INPUT_FORMAT);
             assertThat(exception.getMessage()).contains("재고가 부족합니다");
 
-            verify(productRepository).findByIdWithLock(1L);
-            verify(productRepository, never()).save(any(Product.class));
+            verify(productRepository).findAllByIdsWithLock(List.of(1L));
+            verify(productRepository, never()).saveAll(anyList());
         }
     }
 
@@ -181,33 +175,31 @@ class StockManagementServiceTest {
     @Nested
     class ConcurrencyControl {
 
-        @DisplayName("각 상품에 대해 락이 적용된 조회가 수행된다.")
+        @DisplayName("주문 순서와 관계없이 ID 오름차순으로 모든 상품을 한 번에 잠근다.")
         @Test
-        void decreaseStock_usesLockForEachProduct() {
+        void decreaseStock_locksAllProductsOnceInIdOrder() {
             // arrange
             Brand brand = Brand.of(new BrandCommand.Create("테스트 브랜드", "테스트 브랜드 설명"));
             Product product1 = createProduct(1L, "상품1", new BigDecimal("10000"), 100, brand);
             Product product2 = createProduct(2L, "상품2", new BigDecimal("5000"), 50, brand);
-            List<Product> products = List.of(product1, product2);
+            List<Product> products = List.of(product2, product1);
 
             Product lockedProduct1 = createProduct(1L, "상품1", new BigDecimal("10000"), 100, brand);
             Product lockedProduct2 = createProduct(2L, "상품2", new BigDecimal("5000"), 50, brand);
 
             OrderItem orderItem1 = new OrderItem(1L, 10, new BigDecimal("10000"));
             OrderItem orderItem2 = new OrderItem(2L, 5, new BigDecimal("5000"));
-            OrderItems orderItems = OrderItems.from(List.of(orderItem1, orderItem2));
+            OrderItems orderItems = OrderItems.from(List.of(orderItem2, orderItem1));
 
-            when(productRepository.findByIdWithLock(1L)).thenReturn(Optional.of(lockedProduct1));
-            when(productRepository.findByIdWithLock(2L)).thenReturn(Optional.of(lockedProduct2));
-            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(productRepository.findAllByIdsWithLock(List.of(1L, 2L))).thenReturn(List.of(lockedProduct1, lockedProduct2));
 
             // act
             stockManagementService.decreaseStock(products, orderItems);
 
-            // assert - 락이 적용된 조회가 각 상품별로 호출되었는지 확인
-            verify(productRepository).findByIdWithLock(1L);
-            verify(productRepository).findByIdWithLock(2L);
-            verify(productRepository, times(2)).save(any(Product.class));
+            // assert - 상품별 잠금 조회 없이 정렬된 ID 로 한 번만 잠갔는지 확인
+            verify(productRepository, times(1)).findAllByIdsWithLock(List.of(1L, 2L));
+            verify(productRepository, never()).findByIdWithLock(any());
+            verify(productRepository).saveAll(List.of(lockedProduct1, lockedProduct2));
 
             // 실제 재고 차감 확인
             assertThat(lockedProduct1.getStock()).isEqualTo(90);
@@ -0,0 +1,84 @@
+package com.loopers.infrastructure.idempotency;
+
+import com.loopers.application.idempotency.IdempotencyRepository;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("멱등 키 Redis 저장소 테스트")
+class IdempotencyRepositoryImplTest {
+
+    private static final String KEY = "order:user1:key-1";
+    private static final Duration PROCESSING_TTL = Duration.ofSeconds(60);
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @Autowired
+    private IdempotencyRepository idempotencyRepository;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("키를 차지한 owner 만 처리 중 기록을 지울 수 있다")
+    void release_deletesOnlyOwnedClaim() {
+        // arrange
+        idempotencyRepository.tryAcquire(KEY, "fingerprint", "owner-2", PROCESSING_TTL);
+
+        // act - 만료 뒤 다시 차지된 키를 이전 owner 가 늦게 지우려는 경우
+        boolean releasedByStaleOwner = idempotencyRepository.release(KEY, "owner-1");
+        boolean releasedByOwner = idempotencyRepository.release(KEY, "owner-2");
+
+        // assert
+        assertThat(releasedByStaleOwner).isFalse();
+        assertThat(releasedByOwner).isTrue();
+        assertThat(idempotencyRepository.find(KEY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 기록은 owner 라도 지우거나 덮어쓰지 않는다")
+    void release_keepsFinishedRecord() {
+        // arrange
+        idempotencyRepository.tryAcquire(KEY, "fingerprint", "owner-1", PROCESSING_TTL);
+        idempotencyRepository.complete(KEY, "owner-1", "{\"orderId\":1}", TTL);
+
+        // act
+        boolean released = idempotencyRepository.release(KEY, "owner-1");
+        boolean failed = idempotencyRepository.fail(KEY, "owner-1", "NOT_ENOUGH", "재고 부족", TTL);
+
+        // assert
+        assertThat(released).isFalse();
+        assertThat(failed).isFalse();
+        assertThat(idempotencyRepository.find(KEY))
+                .contains(IdempotencyRepository.Record.completed("fingerprint", "{\"orderId\":1}"));
+    }
+
+    @Test
+    @DisplayName("처리 실패를 저장하면 지문과 함께 오류 종류와 메시지가 남는다")
+    void fail_storesErrorForReplay() {
+        // arrange
+        idempotencyRepository.tryAcquire(KEY, "fingerprint", "owner-1", PROCESSING_TTL);
+
+        // act
+        boolean failedByOtherOwner = idempotencyRepository.fail(KEY, "owner-2", "NOT_ENOUGH", "재고 부족", TTL);
+        boolean failed = idempotencyRepository.fail(KEY, "owner-1", "PAYMENT_INSUFFICIENT_POINT", "포인트 부족", TTL);
+
+        // assert
+        assertThat(failedByOtherOwner).isFalse();
+        assertThat(failed).isTrue();
+        assertThat(idempotencyRepository.find(KEY)).contains(
+                IdempotencyRepository.Record.failed("fingerprint", "PAYMENT_INSUFFICIENT_POINT", "포인트 부족"));
+    }
+}
@@ -0,0 +1,101 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.application.like.LikedProductCacheRepository;
+import com.loopers.application.like.LikedProductCacheRepository.LikedProducts;
+import com.loopers.application.like.LikedProductCacheRepository.State;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("좋아요 상품 캐시 Redis 저장소 테스트")
+class LikedProductCacheRepositoryImplTest {
+
+    @Autowired
+    private LikedProductCacheRepository likedProductCacheRepository;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("적재 중 다른 변경이 없으면 DB 에서 읽은 집합을 저장한다")
+    void saveLikedProducts_savesWhenUnchanged() {
+        // arrange
+        String loadToken = likedProductCacheRepository.beginLoad(1L).orElseThrow();
+
+        // act
+        boolean saved = likedProductCacheRepository.saveLikedProducts(1L, loadToken, List.of(10L, 20L));
+        LikedProducts cached = likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 30L));
+
+        // assert
+        assertThat(saved).isTrue();
+        assertThat(cached).isEqualTo(new LikedProducts(State.LOADED, Set.of(10L)));
+    }
+
+    @Test
+    @DisplayName("DB 조회와 저장 사이에 좋아요가 커밋되면 낡은 집합을 저장하지 않고, 다음 적재에서 반영된다")
+    void saveLikedProducts_discardsSnapshot_whenLikedDuringLoad() {
+        // arrange
+        String loadToken = likedProductCacheRepository.beginLoad(1L).orElseThrow();
+        List<Long> snapshot = List.of(10L);
+        likedProductCacheRepository.addIfLoaded(1L, 20L);
+
+        // act
+        boolean saved = likedProductCacheRepository.saveLikedProducts(1L, loadToken, snapshot);
+        LikedProducts afterDiscard = likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 20L));
+
+        String reloadToken = likedProductCacheRepository.beginLoad(1L).orElseThrow();
+        likedProductCacheRepository.saveLikedProducts(1L, reloadToken, List.of(10L, 20L));
+        LikedProducts afterReload = likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 20L));
+
+        // assert
+        assertThat(saved).isFalse();
+        assertThat(afterDiscard.state()).isEqualTo(State.MISSING);
+        assertThat(afterReload).isEqualTo(new LikedProducts(State.LOADED, Set.of(10L, 20L)));
+    }
+
+    @Test
+    @DisplayName("DB 조회와 저장 사이에 좋아요가 취소되면 낡은 집합을 저장하지 않는다")
+    void saveLikedProducts_discardsSnapshot_whenUnlikedDuringLoad() {
+        // arrange
+        String loadToken = likedProductCacheRepository.beginLoad(1L).orElseThrow();
+        List<Long> snapshot = List.of(10L, 20L);
+        likedProductCacheRepository.removeIfLoaded(1L, 20L);
+
+        // act
+        boolean saved = likedProductCacheRepository.saveLikedProducts(1L, loadToken, snapshot);
+
+        // assert
+        assertThat(saved).isFalse();
+        assertThat(likedProductCacheRepository.findLikedProducts(1L, List.of(20L)).state()).isEqualTo(State.MISSING);
+    }
+
+    @Test
+    @DisplayName("적재가 끝난 뒤의 좋아요 변경은 캐시된 집합에 바로 반영된다")
+    void addAndRemove_applyToLoadedSet() {
+        // arrange
+        String loadToken = likedProductCacheRepository.beginLoad(1L).orElseThrow();
+        likedProductCacheRepository.saveLikedProducts(1L, loadToken, List.of(10L));
+
+        // act
+        likedProductCacheRepository.addIfLoaded(1L, 20L);
+        likedProductCacheRepository.removeIfLoaded(1L, 10L);
+
+        // assert
+        assertThat(likedProductCacheRepository.findLikedProducts(1L, List.of(10L, 20L)))
+                .isEqualTo(new LikedProducts(State.LOADED, Set.of(20L)));
+    }
+}
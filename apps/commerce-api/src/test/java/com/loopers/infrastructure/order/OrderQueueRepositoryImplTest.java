@@ -0,0 +1,113 @@
+package com.loopers.infrastructure.order;
+
+import com.loopers.application.order.OrderQueueRepository;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("주문 대기열 Redis 저장소 테스트")
+class OrderQueueRepositoryImplTest {
+
+    private static final Duration TOKEN_TTL = Duration.ofMinutes(30);
+    private static final Duration ADMITTED_TTL = Duration.ofMinutes(5);
+
+    @Autowired
+    private OrderQueueRepository orderQueueRepository;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        redisCleanUp.truncateAll();
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 들어와도 처음 받은 토큰과 순번이 유지된다")
+    void enter_isIdempotentPerUser() {
+        // arrange
+        OrderQueueRepository.Waiting first = orderQueueRepository.enter("user1", "token-1", TOKEN_TTL);
+        orderQueueRepository.enter("user2", "token-2", TOKEN_TTL);
+
+        // act
+        OrderQueueRepository.Waiting again = orderQueueRepository.enter("user1", "token-3", TOKEN_TTL);
+
+        // assert
+        assertThat(first).isEqualTo(new OrderQueueRepository.Waiting("token-1", 1));
+        assertThat(again).isEqualTo(first);
+        assertThat(orderQueueRepository.findPosition("user2")).contains(2L);
+    }
+
+    @Test
+    @DisplayName("앞에서부터 정해진 인원만 입장시키고, 같은 주기 안의 다른 호출은 입장시키지 않는다")
+    void admit_admitsFromHeadOncePerInterval() {
+        // arrange
+        orderQueueRepository.enter("user1", "token-1", TOKEN_TTL);
+        orderQueueRepository.enter("user2", "token-2", TOKEN_TTL);
+        orderQueueRepository.enter("user3", "token-3", TOKEN_TTL);
+
+        // act
+        long admitted = orderQueueRepository.admit(2, Duration.ofMinutes(1), ADMITTED_TTL);
+        long admittedInSameInterval = orderQueueRepository.admit(2, Duration.ofMinutes(1), ADMITTED_TTL);
+
+        // assert
+        assertThat(admitted).isEqualTo(2);
+        assertThat(admittedInSameInterval).isZero();
+        assertThat(orderQueueRepository.findAdmittedToken("user1")).contains("token-1");
+        assertThat(orderQueueRepository.findAdmittedToken("user2")).contains("token-2");
+        assertThat(orderQueueRepository.findAdmittedToken("user3")).isEmpty();
+        assertThat(orderQueueRepository.findPosition("user3")).contains(1L);
+    }
+
+    @Test
+    @DisplayName("토큰이 만료된 사용자는 입장 인원에 세지 않고 건너뛰어 뒤의 사용자로 인원을 채운다")
+    void admit_skipsExpiredMembersWithoutCountingThem() throws InterruptedException {
+        // arrange
+        orderQueueRepository.enter("user1", "token-1", Duration.ofSeconds(1));
+        orderQueueRepository.enter("user2", "token-2", TOKEN_TTL);
+        orderQueueRepository.enter("user3", "token-3", TOKEN_TTL);
+        orderQueueRepository.enter("user4", "token-4", TOKEN_TTL);
+        Thread.sleep(1_500);
+
+        // act
+        long admitted = orderQueueRepository.admit(2, Duration.ofMinutes(1), ADMITTED_TTL);
+
+        // assert
+        assertThat(admitted).isEqualTo(2);
+        assertThat(orderQueueRepository.findAdmittedToken("user1")).isEmpty();
+        assertThat(orderQueueRepository.findPosition("user1")).isEmpty();
+        assertThat(orderQueueRepository.findAdmittedToken("user2")).contains("token-2");
+        assertThat(orderQueueRepository.findAdmittedToken("user3")).contains("token-3");
+        assertThat(orderQueueRepository.findPosition("user4")).contains(1L);
+    }
+
+    @Test
+    @DisplayName("같은 입장은 한 번만 가져갈 수 있고, 되돌리면 다시 가져갈 수 있다")
+    void consumeAdmission_isSingleUse() {
+        // arrange
+        orderQueueRepository.enter("user1", "token-1", TOKEN_TTL);
+        orderQueueRepository.admit(1, Duration.ofMinutes(1), ADMITTED_TTL);
+
+        // act
+        Optional<OrderQueueRepository.Admission> wrongToken = orderQueueRepository.consumeAdmission("user1", "token-2");
+        Optional<OrderQueueRepository.Admission> first = orderQueueRepository.consumeAdmission("user1", "token-1");
+        Optional<OrderQueueRepository.Admission> second = orderQueueRepository.consumeAdmission("user1", "token-1");
+        orderQueueRepository.restoreAdmission(first.orElseThrow());
+
+        // assert
+        assertThat(wrongToken).isEmpty();
+        assertThat(first).isPresent();
+        assertThat(first.get().remainingTtl()).isPositive().isLessThanOrEqualTo(ADMITTED_TTL);
+        assertThat(second).isEmpty();
+        assertThat(orderQueueRepository.findAdmittedToken("user1")).contains("token-1");
+    }
+}
@@ -0,0 +1,83 @@
+package com.loopers.infrastructure.product.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductQuery;
+import com.loopers.application.product.ProductQueryCacheRepository.CachedDetail;
+import com.loopers.support.cache.CacheConstants;
+import com.loopers.support.cache.codec.JsonCacheCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * objectRedisTemplate 의 JSON 직렬화와 바이너리 코덱의 크기/인코딩/디코딩 비용 비교.
+ * 단순 반복 측정이므로 절대값보다는 상대 비교용으로 본다. 기본 테스트에서는 빠지고 benchmark 태스크로 실행한다.
+ */
+@Tag("benchmark")
+@DisplayName("상품 상세 캐시 코덱 벤치마크")
+class ProductDetailCacheCodecBenchmarkTest {
+
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 100_000;
+
+    @Test
+    @DisplayName("바이너리 코덱은 기존 JSON 직렬화보다 작은 값을 만든다")
+    void compareWithJsonSerializer() {
+        // arrange
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        objectMapper.findAndRegisterModules();
+        // RedisConfig.objectRedisTemplate 과 같은 구성
+        Jackson2JsonRedisSerializer<Object> jsonSerializer = new Jackson2JsonRedisSerializer<>(objectMapper, Object.class);
+        ProductDetailCacheCodec compactCodec =
+                new ProductDetailCacheCodec(1024, new JsonCacheCodec<>(objectMapper, CachedDetail.class));
+
+        CachedDetail detail = createDetail();
+        byte[] json = jsonSerializer.serialize(detail);
+        byte[] compact = compactCodec.encode(detail);
+
+        // act
+        double jsonEncodeNanos = measure(() -> jsonSerializer.serialize(detail));
+        double compactEncodeNanos = measure(() -> compactCodec.encode(detail));
+        // JSON 은 Map 으로 역직렬화된 뒤 convertValue 를 거쳐야 DTO 가 된다
+        double jsonDecodeNanos = measure(() -> objectMapper.convertValue(jsonSerializer.deserialize(json), CachedDetail.class));
+        double compactDecodeNanos = measure(() -> compactCodec.decode(compact));
+
+        // assert
+        System.out.printf("크기(bytes) - JSON: %d, compact: %d%n", json.length, compact.length);
+        System.out.printf("인코딩(ns/op) - JSON: %.0f, compact: %.0f%n", jsonEncodeNanos, compactEncodeNanos);
+        System.out.printf("디코딩(ns/op) - JSON: %.0f, compact: %.0f%n", jsonDecodeNanos, compactDecodeNanos);
+
+        assertThat(compact.length).isLessThan(json.length);
+        assertThat(compactCodec.decode(compact)).isEqualTo(detail);
+    }
+
+    private double measure(Supplier<Object> operation) {
+        Object sink = null;
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            sink = operation.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        assertThat(sink).isNotNull();
+        return (double) elapsed / MEASURE_ITERATIONS;
+    }
+
+    private CachedDetail createDetail() {
+        ProductQuery.ProductDetailResult result = new ProductQuery.ProductDetailResult(
+                1L, "나이키 에어맥스 270", "편안한 쿠셔닝과 가벼운 무게의 데일리 운동화", new BigDecimal("159000.00"), 120,
+                new ProductQuery.BrandInfo(1L, "나이키", "스포츠 브랜드"), 1532, new ProductQuery.RankingInfo(12L)
+        );
+        return CachedDetail.of(result, 8, CacheConstants.TTL.PRODUCT_DETAIL);
+    }
+}
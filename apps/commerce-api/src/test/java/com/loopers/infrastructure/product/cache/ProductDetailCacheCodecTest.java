@@ -0,0 +1,102 @@
+package com.loopers.infrastructure.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductQuery;
+import com.loopers.application.product.ProductQueryCacheRepository.CachedDetail;
+import com.loopers.support.cache.CacheConstants;
+import com.loopers.support.cache.codec.JsonCacheCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("상품 상세 캐시 바이너리 코덱 테스트")
+class ProductDetailCacheCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonCacheCodec<CachedDetail> jsonCodec = new JsonCacheCodec<>(objectMapper, CachedDetail.class);
+
+    @Test
+    @DisplayName("인코딩한 값을 디코딩하면 원래 값과 같다")
+    void roundTrip() {
+        // arrange
+        ProductDetailCacheCodec codec = new ProductDetailCacheCodec(1024, jsonCodec);
+        CachedDetail detail = createDetail("설명", new ProductQuery.RankingInfo(3L));
+
+        // act
+        CachedDetail decoded = codec.decode(codec.encode(detail));
+
+        // assert
+        assertThat(decoded).isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("null 필드와 압축된 본문도 원래 값으로 복원한다")
+    void roundTrip_withNullFieldsAndCompression() {
+        // arrange
+        ProductDetailCacheCodec codec = new ProductDetailCacheCodec(0, jsonCodec);
+        CachedDetail detail = createDetail("긴 설명 ".repeat(200), null);
+
+        // act
+        byte[] encoded = codec.encode(detail);
+        CachedDetail decoded = codec.decode(encoded);
+
+        // assert
+        assertThat(decoded).isEqualTo(detail);
+        assertThat(encoded.length).isLessThan("긴 설명 ".repeat(200).getBytes().length);
+    }
+
+    @Test
+    @DisplayName("65535 바이트를 넘는 문자열도 인코딩하고 원래 값으로 복원한다")
+    void roundTrip_withStringLongerThan64KB() {
+        // arrange
+        ProductDetailCacheCodec codec = new ProductDetailCacheCodec(1024, jsonCodec);
+        String description = "상품 설명".repeat(20_000);
+        CachedDetail detail = createDetail(description, null);
+
+        // act
+        CachedDetail decoded = codec.decode(codec.encode(detail));
+
+        // assert
+        assertThat(description.getBytes(StandardCharsets.UTF_8).length).isGreaterThan(65_535);
+        assertThat(decoded).isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("기존 JSON 형식으로 저장된 값도 읽는다")
+    void decodeLegacyJson() {
+        // arrange
+        ProductDetailCacheCodec codec = new ProductDetailCacheCodec(1024, jsonCodec);
+        CachedDetail detail = createDetail("설명", null);
+        byte[] legacy = jsonCodec.encode(detail);
+
+        // act
+        CachedDetail decoded = codec.decode(legacy);
+
+        // assert
+        assertThat(decoded).isEqualTo(detail);
+    }
+
+    @Test
+    @DisplayName("스키마 버전이 다른 값은 캐시 미스(null)로 취급한다")
+    void returnNull_whenSchemaVersionMismatch() {
+        // arrange
+        ProductDetailCacheCodec codec = new ProductDetailCacheCodec(1024, jsonCodec);
+        byte[] encoded = codec.encode(createDetail("설명", null));
+        encoded[1] = (byte) (encoded[1] + 1);
+
+        // act & assert
+        assertThat(codec.decode(encoded)).isNull();
+    }
+
+    private CachedDetail createDetail(String description, ProductQuery.RankingInfo ranking) {
+        ProductQuery.ProductDetailResult result = new ProductQuery.ProductDetailResult(
+                1L, "나이키 에어맥스", description, new BigDecimal("150000.00"), 100,
+                new ProductQuery.BrandInfo(1L, "나이키", "스포츠 브랜드"), 3, ranking
+        );
+        return CachedDetail.of(result, 5, CacheConstants.TTL.PRODUCT_DETAIL);
+    }
+}
@@ -0,0 +1,309 @@
+package com.loopers.infrastructure.product.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductQuery;
+import com.loopers.application.product.ProductQueryCacheRepository.CachedDetail;
+import com.loopers.application.product.ProductQueryCacheRepository.RankedDetail;
+import com.loopers.application.product.ProductSortType;
+import com.loopers.support.cache.CacheConstants;
+import com.loopers.support.cache.codec.CacheCodec;
+import com.loopers.support.cache.codec.JsonCacheCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("상품 상세 2단(L1 + Redis) 캐시 테스트")
+class ProductQueryCacheRepositoryImplTest {
+
+    @Mock
+    private RedisTemplate<String, Object> objectRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisTemplate<String, String> masterRedisTemplate;
+
+    @Mock
+    private RedisTemplate<String, byte[]> detailRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final ProductDetailCacheCodec detailCodec =
+            new ProductDetailCacheCodec(1024, new JsonCacheCodec<>(new ObjectMapper(), CachedDetail.class));
+
+    private ProductDetailLocalCache localCache;
+
+    private ProductQueryCacheRepositoryImpl cacheRepository;
+
+    @BeforeEach
+    void setUp() {
+        localCache = new ProductDetailLocalCache(true);
+        cacheRepository = new ProductQueryCacheRepositoryImpl(
+                objectRedisTemplate, redisTemplate, masterRedisTemplate, detailRedisTemplate, detailCodec,
+                localCache, new ObjectMapper()
+        );
+    }
+
+    @Test
+    @DisplayName("L1 에 있는 상품은 Redis 를 조회하지 않는다")
+    void localHit_doesNotQueryRedis() {
+        // arrange
+        CachedDetail detail = createDetail(1L);
+        localCache.put(1L, detail);
+
+        // act
+        Optional<CachedDetail> result = cacheRepository.findDetailById(1L);
+
+        // assert
+        assertThat(result).contains(detail);
+        verifyNoInteractions(detailRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 히트 시 L1 을 채워 다음 조회는 Redis 를 거치지 않는다")
+    void redisHit_populatesLocalCache() {
+        // arrange
+        CachedDetail detail = createDetail(1L);
+        given(detailRedisTemplate.execute(any(RedisCallback.class))).willReturn(hashFields(detail, "0", "10"));
+
+        // act
+        Optional<CachedDetail> first = cacheRepository.findDetailById(1L);
+        Optional<CachedDetail> second = cacheRepository.findDetailById(1L);
+
+        // assert
+        assertThat(first).contains(detail);
+        assertThat(second).contains(detail);
+        verify(detailRedisTemplate, times(1)).execute(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("Hash 의 좋아요 수/재고 필드가 payload 의 값보다 우선한다")
+    void redisHit_appliesCounterFields() {
+        // arrange
+        CachedDetail detail = createDetail(1L);
+        given(detailRedisTemplate.execute(any(RedisCallback.class))).willReturn(hashFields(detail, "7", "3"));
+
+        // act
+        Optional<CachedDetail> result = cacheRepository.findDetailById(1L);
+
+        // assert
+        assertThat(result).isPresent();
+        assertThat(result.get().result().likeCount()).isEqualTo(7);
+        assertThat(result.get().result().stock()).isEqualTo(3);
+        assertThat(result.get().expiresAtMillis()).isEqualTo(detail.expiresAtMillis());
+    }
+
+    @Test
+    @DisplayName("상세와 순위를 파이프라인 한 번으로 조회하고 0 부터 시작하는 순위를 1 위 기준으로 바꾼다")
+    void findDetailWithRank_pipelinesDetailAndRank() {
+        // arrange
+        CachedDetail detail = createDetail(1L);
+        given(detailRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(List.of(hashFields(detail, "0", "10"), 4L));
+
+        // act
+        RankedDetail result = cacheRepository.findDetailWithRank(1L, LocalDate.of(2025, 1, 1));
+
+        // assert
+        assertThat(result.cachedDetail()).isEqualTo(detail);
+        assertThat(result.rank()).isEqualTo(5L);
+        assertThat(localCache.get(1L)).contains(detail);
+    }
+
+    @Test
+    @DisplayName("좋아요 수 변경은 캐시를 지우지 않고 Hash 필드를 제자리에서 증감한다")
+    @SuppressWarnings("unchecked")
+    void applyLikeCountDelta_patchesInPlace() {
+        // arrange
+        localCache.put(1L, createDetail(1L));
+
+        // act
+        cacheRepository.applyLikeCountDelta(1L, -1);
+
+        // assert
+        assertThat(localCache.get(1L)).isEmpty();
+        verify(masterRedisTemplate).execute(
+                any(RedisScript.class), eq(List.of(CacheConstants.Keys.PRODUCT_DETAIL + 1L)), eq("likeCount"), eq("-1")
+        );
+        verify(masterRedisTemplate, never()).delete(anyString());
+        verify(masterRedisTemplate).convertAndSend(eq(CacheConstants.Channels.PRODUCT_DETAIL_INVALIDATION), eq("1"));
+    }
+
+    @Test
+    @DisplayName("무효화 시 L1/Redis 를 지우고 다른 노드에 무효화 메시지를 발행한다")
+    void evict_clearsBothTiersAndPublishes() {
+        // arrange
+        localCache.put(1L, createDetail(1L));
+
+        // act
+        cacheRepository.evictDetail(1L);
+
+        // assert
+        assertThat(localCache.get(1L)).isEmpty();
+        verify(masterRedisTemplate).delete(CacheConstants.Keys.PRODUCT_DETAIL + 1L);
+        verify(masterRedisTemplate).convertAndSend(eq(CacheConstants.Channels.PRODUCT_DETAIL_INVALIDATION), eq("1"));
+    }
+
+    @Test
+    @DisplayName("Map 으로 역직렬화된 목록 페이지 캐시도 상품 목록으로 변환한다")
+    void findListPage_convertsDeserializedMap() {
+        // arrange
+        ObjectMapper objectMapper = new ObjectMapper();
+        ProductQuery.ProductQueryResult product = new ProductQuery.ProductQueryResult(
+                1L, "상품1", "설명1", BigDecimal.valueOf(10000), 100, 1L, "브랜드1", 5, null
+        );
+        Object deserialized = objectMapper.convertValue(
+                new ProductQueryCacheRepositoryImpl.CachedListPage(List.of(product)), Map.class
+        );
+        given(objectRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(CacheConstants.Keys.PRODUCT_LIST_PAGE + "all:latest:0:20")).willReturn(deserialized);
+
+        // act
+        Optional<List<ProductQuery.ProductQueryResult>> result =
+                cacheRepository.findListPage(null, ProductSortType.LATEST, 0, 20);
+
+        // assert
+        assertThat(result).contains(List.of(product));
+    }
+
+    @Test
+    @DisplayName("목록 페이지는 master 에 JSON 으로 쓰고 역인덱스에 페이지 키를 등록한다")
+    @SuppressWarnings("unchecked")
+    void saveListPage_writesThroughMaster() {
+        // arrange
+        ValueOperations<String, String> masterValueOperations = mock(ValueOperations.class);
+        given(masterRedisTemplate.opsForValue()).willReturn(masterValueOperations);
+        ProductQuery.ProductQueryResult product = new ProductQuery.ProductQueryResult(
+                1L, "상품1", "설명1", BigDecimal.valueOf(10000), 100, 1L, "브랜드1", 5, null
+        );
+
+        // act
+        cacheRepository.saveListPage(null, ProductSortType.LATEST, 0, 20, List.of(product));
+
+        // assert
+        verify(masterValueOperations).set(
+                eq(CacheConstants.Keys.PRODUCT_LIST_PAGE + "all:latest:0:20"), contains("\"products\""), eq(CacheConstants.TTL.PRODUCT_LIST_PAGE)
+        );
+        verify(masterRedisTemplate).executePipelined(any(RedisCallback.class));
+        verifyNoInteractions(objectRedisTemplate);
+    }
+
+    @Test
+    @DisplayName("상품이 포함된 목록 페이지와 역인덱스만 삭제한다")
+    @SuppressWarnings("unchecked")
+    void evictListPagesContaining_deletesIndexedPages() {
+        // arrange
+        SetOperations<String, String> setOperations = mock(SetOperations.class);
+        String indexKey = CacheConstants.Keys.PRODUCT_LIST_PAGE_INDEX + 1L;
+        String pageKey = CacheConstants.Keys.PRODUCT_LIST_PAGE + "all:latest:0:20";
+        given(masterRedisTemplate.opsForSet()).willReturn(setOperations);
+        given(setOperations.members(indexKey)).willReturn(Set.of(pageKey));
+
+        // act
+        cacheRepository.evictListPagesContaining(1L);
+
+        // assert
+        verify(masterRedisTemplate).delete(List.of(pageKey, indexKey));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 L1 에 없는 상품만 파이프라인 한 번으로 조회한다")
+    void findDetailsByIds_pipelinesOnlyLocalMisses() {
+        // arrange
+        CachedDetail local = createDetail(1L);
+        CachedDetail remote = createDetail(2L);
+        localCache.put(1L, local);
+        given(detailRedisTemplate.executePipelined(any(RedisCallback.class), any(RedisSerializer.class)))
+                .willReturn(List.of(hashFields(remote, "0", "10"), Arrays.asList(null, null, null)));
+
+        // act
+        Map<Long, CachedDetail> result = cacheRepository.findDetailsByIds(List.of(1L, 2L, 3L));
+
+        // assert
+        assertThat(result).containsOnly(Map.entry(1L, local), Map.entry(2L, remote));
+        assertThat(localCache.get(2L)).contains(remote);
+    }
+
+    @Test
+    @DisplayName("일괄 저장 시 직렬화에 실패한 상품만 건너뛰고 나머지는 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveDetails_skipsEntriesThatFailToEncode() {
+        // arrange
+        CacheCodec<CachedDetail> failingCodec = mock(CacheCodec.class);
+        CachedDetail good = createDetail(1L);
+        CachedDetail bad = createDetail(2L);
+        byte[] goodPayload = detailCodec.encode(good);
+        given(failingCodec.encode(good)).willReturn(goodPayload);
+        given(failingCodec.encode(bad)).willThrow(new IllegalStateException("캐시 값 직렬화 실패"));
+        ProductQueryCacheRepositoryImpl repository = new ProductQueryCacheRepositoryImpl(
+                objectRedisTemplate, redisTemplate, masterRedisTemplate, detailRedisTemplate, failingCodec,
+                localCache, new ObjectMapper()
+        );
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+        given(connection.scriptingCommands()).willReturn(scriptingCommands);
+
+        // act
+        repository.saveDetails(Map.of(1L, good, 2L, bad));
+
+        // assert
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(masterRedisTemplate).executePipelined(callback.capture());
+        callback.getValue().doInRedis(connection);
+        verify(scriptingCommands).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1),
+                eq((CacheConstants.Keys.PRODUCT_DETAIL + 1L).getBytes(StandardCharsets.UTF_8)),
+                any(byte[].class), eq(goodPayload), any(byte[].class), any(byte[].class));
+        verify(scriptingCommands, never()).eval(any(byte[].class), eq(ReturnType.INTEGER), eq(1),
+                eq((CacheConstants.Keys.PRODUCT_DETAIL + 2L).getBytes(StandardCharsets.UTF_8)),
+                any(byte[].class), any(byte[].class), any(byte[].class), any(byte[].class));
+    }
+
+    private List<byte[]> hashFields(CachedDetail detail, String likeCount, String stock) {
+        return List.of(
+                detailCodec.encode(detail),
+                likeCount.getBytes(StandardCharsets.UTF_8),
+                stock.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    private CachedDetail createDetail(Long productId) {
+        ProductQuery.ProductDetailResult result = new ProductQuery.ProductDetailResult(
+                productId, "상품", "설명", BigDecimal.valueOf(10000), 10,
+                new ProductQuery.BrandInfo(1L, "브랜드", "브랜드 설명"), 0, null
+        );
+        return CachedDetail.of(result, 5, CacheConstants.TTL.PRODUCT_DETAIL);
+    }
+}
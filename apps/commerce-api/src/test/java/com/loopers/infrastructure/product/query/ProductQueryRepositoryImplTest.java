@@ -1,5 +1,6 @@
 package com.loopers.infrastructure.product.query;
 
+import com.loopers.application.product.ProductCursor;
 import com.loopers.application.product.ProductQueryRepository;
 import com.loopers.application.product.ProductSortType;
 import com.loopers.utils.DatabaseCleanUp;
@@ -12,9 +13,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -231,4 +234,117 @@ class ProductQueryRepositoryImplTest {
                 () -> assertThat(result.get().likeCount()).isEqualTo(3L)
         );
     }
+
+    @DisplayName("삭제되지 않은 상품 개수를 브랜드별로 집계한다.")
+    @Test
+    void countProducts() {
+        assertAll(
+                () -> assertThat(productQueryRepository.countProducts(null)).isEqualTo(6L),
+                () -> assertThat(productQueryRepository.countProducts(1L)).isEqualTo(3L)
+        );
+    }
+
+    @DisplayName("조회 결과만으로 전체 개수를 알 수 있으면 개수 집계를 호출하지 않는다.")
+    @Test
+    void skipCount_whenFirstPageIsNotFull() {
+        // arrange
+        AtomicInteger countCalls = new AtomicInteger();
+
+        // act
+        Page<ProductQueryRepository.ProductQueryData> result = productQueryRepository.findProducts(
+                1L, ProductSortType.LATEST, PageRequest.of(0, 10), () -> {
+                    countCalls.incrementAndGet();
+                    return 0L;
+                });
+
+        // assert
+        assertAll(
+                () -> assertThat(result.getTotalElements()).isEqualTo(3L),
+                () -> assertThat(countCalls.get()).isZero()
+        );
+    }
+
+    @DisplayName("커서 조회는 좋아요 수가 같은 상품을 ID 순으로 이어서 빠짐없이 조회한다.")
+    @Test
+    void findProductsByCursorOrderByLikesDesc() {
+        // arrange
+        List<Long> collectedIds = new ArrayList<>();
+        ProductCursor cursor = null;
+
+        // act
+        do {
+            ProductQueryRepository.ProductSliceData slice =
+                    productQueryRepository.findProductsByCursor(null, ProductSortType.LIKES_DESC, cursor, 2);
+            slice.content().forEach(product -> collectedIds.add(product.id()));
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+
+        // assert
+        assertThat(collectedIds).containsExactly(1L, 2L, 4L, 3L, 5L, 6L);
+    }
+
+    @DisplayName("커서 조회를 가격 오름차순으로 끝까지 이어가면 전체 상품을 한 번씩 조회한다.")
+    @Test
+    void findProductsByCursorOrderByPriceAsc() {
+        // arrange
+        List<Long> collectedIds = new ArrayList<>();
+        ProductCursor cursor = null;
+
+        // act
+        do {
+            ProductQueryRepository.ProductSliceData slice =
+                    productQueryRepository.findProductsByCursor(null, ProductSortType.PRICE_ASC, cursor, 4);
+            slice.content().forEach(product -> collectedIds.add(product.id()));
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+
+        // assert
+        assertThat(collectedIds).containsExactly(5L, 6L, 3L, 1L, 4L, 2L);
+    }
+
+    @DisplayName("브랜드별 최신순 커서 조회 시 마지막 페이지에서는 다음 커서가 없다.")
+    @Test
+    void findProductsByCursorOrderByLatestWithBrand() {
+        // arrange
+        Long brandId = 1L;
+
+        // act
+        ProductQueryRepository.ProductSliceData firstSlice =
+                productQueryRepository.findProductsByCursor(brandId, ProductSortType.LATEST, null, 2);
+        ProductQueryRepository.ProductSliceData secondSlice =
+                productQueryRepository.findProductsByCursor(brandId, ProductSortType.LATEST, firstSlice.nextCursor(), 2);
+
+        // assert
+        assertAll(
+                () -> assertThat(firstSlice.content()).extracting(ProductQueryRepository.ProductQueryData::id)
+                        .containsExactly(3L, 2L),
+                () -> assertThat(firstSlice.hasNext()).isTrue(),
+                () -> assertThat(secondSlice.content()).extracting(ProductQueryRepository.ProductQueryData::id)
+                        .containsExactly(1L),
+                () -> assertThat(secondSlice.hasNext()).isFalse()
+        );
+    }
+
+    @DisplayName("좋아요한 상품은 최근 좋아요 순으로 커서를 이어가며 빠짐없이 조회한다.")
+    @Test
+    void findLikedProductsByCursor() {
+        // arrange
+        Long userId = 1L;
+
+        // act
+        ProductQueryRepository.LikedProductSliceData firstSlice =
+                productQueryRepository.findLikedProducts(userId, null, 2);
+        ProductQueryRepository.LikedProductSliceData secondSlice =
+                productQueryRepository.findLikedProducts(userId, firstSlice.nextCursor(), 2);
+
+        // assert
+        assertAll(
+                () -> assertThat(firstSlice.content()).extracting(ProductQueryRepository.ProductQueryData::id)
+                        .containsExactly(4L, 2L),
+                () -> assertThat(firstSlice.nextCursor()).isEqualTo(4L),
+                () -> assertThat(secondSlice.content()).extracting(ProductQueryRepository.ProductQueryData::id)
+                        .containsExactly(1L),
+                () -> assertThat(secondSlice.hasNext()).isFalse()
+        );
+    }
 }
@@ -0,0 +1,39 @@
+package com.loopers.support.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Bloom filter 테스트")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 포함된다고 판단한다")
+    void mightContain_returnsTrueForInsertedValues() {
+        // arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::put);
+
+        // act & assert
+        assertThat(LongStream.rangeClosed(1, 10_000).allMatch(filter::mightContain)).isTrue();
+    }
+
+    @Test
+    @DisplayName("넣지 않은 값의 오탐률은 설정한 비율 근처로 유지된다")
+    void mightContain_falsePositiveRateIsBounded() {
+        // arrange
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        LongStream.rangeClosed(1, 10_000).forEach(filter::put);
+
+        // act
+        long falsePositives = LongStream.rangeClosed(1_000_001, 1_100_000)
+                .filter(filter::mightContain)
+                .count();
+
+        // assert
+        assertThat(falsePositives).isLessThan(2_000);
+    }
+}
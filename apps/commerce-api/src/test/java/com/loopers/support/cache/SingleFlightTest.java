@@ -0,0 +1,83 @@
+package com.loopers.support.cache;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("SingleFlight 요청 병합 테스트")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("같은 키로 동시에 요청하면 loader 는 한 번만 실행되고 모두 같은 결과를 받는다")
+    void concurrentCalls_shareSingleLoad() throws Exception {
+        // arrange
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        int threadCount = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+        // act
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            loadCount.incrementAndGet();
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "loaded";
+        }));
+        loaderStarted.await();
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < threadCount - 1; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loadCount.incrementAndGet();
+                return "duplicated";
+            })));
+        }
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        // assert
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        for (Future<String> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("loader 가 예외를 던지면 예외를 그대로 전달하고, 다음 요청은 다시 loader 를 실행한다")
+    void failedLoad_isPropagatedAndNotCached() {
+        // arrange
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        // act
+        CoreException exception = assertThrows(CoreException.class, () -> singleFlight.execute(1L, () -> {
+            throw new CoreException(ErrorType.NOT_FOUND, "상품을 찾을 수 없습니다.");
+        }));
+        String retried = singleFlight.execute(1L, () -> "loaded");
+
+        // assert
+        assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        assertThat(retried).isEqualTo("loaded");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}